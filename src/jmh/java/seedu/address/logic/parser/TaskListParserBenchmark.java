@@ -0,0 +1,70 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/** Measures parsing a typical command for each command word. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskListParserBenchmark {
+
+    @Param({
+        "add", "edit", "delete", "done", "pom", "clear", "find", "list", "exit", "help", "search",
+        "filter", "sort", "stats"
+    })
+    private String commandWord;
+
+    private final TaskListParser parser = new TaskListParser();
+    private String userInput;
+
+    @Setup
+    public void setUp() {
+        switch (commandWord) {
+            case "add":
+                userInput = "add n/Math Homework p/1 des/Chapter 5, Pages 1 - 3 t/school t/math";
+                break;
+            case "edit":
+                userInput = "edit 1 p/2 des/Chapter 6";
+                break;
+            case "find":
+                userInput = "find homework lab tutorial";
+                break;
+            case "search":
+                userInput = "search lab report intro";
+                break;
+            case "filter":
+                userInput = "filter (p/1 or p/2) not done t/work";
+                break;
+            case "sort":
+                userInput = "sort done priority name";
+                break;
+            case "stats":
+                userInput = "stats 01/10/20 31/10/20";
+                break;
+            case "pom":
+                userInput = "pom 1 tm/10";
+                break;
+            case "delete":
+            case "done":
+                userInput = commandWord + " 1";
+                break;
+            default:
+                userInput = commandWord;
+        }
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.filter;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.address.logic.parser.FilterCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.TaskList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.BenchmarkTasks;
+import seedu.address.model.task.Task;
+
+/**
+ * Compares filtering {@code taskCount} tasks through the predicate from the field indexes, as the
+ * filtered task list does, with testing every task against the filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskFilterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount;
+
+    @Param({"t/milestone not done", "p/1 t/tag7 not done", "t/tag3 or t/tag4", "not done"})
+    private String query;
+
+    /** One in this many tasks is tagged as a milestone, for a filter that few tasks match. */
+    private static final int MILESTONE_INTERVAL = 1000;
+
+    private TaskList taskList;
+    private TaskFilter filter;
+
+    @Setup
+    public void setUp() throws ParseException {
+        taskList = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            Task task = BenchmarkTasks.task(i);
+            taskList.addTask(i % MILESTONE_INTERVAL == 0 ? withMilestoneTag(task) : task);
+        }
+        filter = new FilterCommandParser().parseFilter(query);
+        taskList.getIndexedPredicate(filter); // builds the field indexes
+    }
+
+    @Benchmark
+    public int indexed() {
+        return count(taskList.getIndexedPredicate(filter));
+    }
+
+    @Benchmark
+    public int scan() {
+        return count(filter);
+    }
+
+    private static Task withMilestoneTag(Task task) {
+        Set<Tag> tags = new HashSet<>(task.getTags());
+        tags.add(new Tag("milestone"));
+        return new Task(
+                task.getName(), task.getPriority(), task.getDescription(), task.getDone(), tags);
+    }
+
+    private int count(Predicate<Task> predicate) {
+        int matchCount = 0;
+        for (Task task : taskList.getTaskList()) {
+            if (predicate.test(task)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+}
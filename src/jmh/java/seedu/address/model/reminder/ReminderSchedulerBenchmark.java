@@ -0,0 +1,60 @@
+package seedu.address.model.reminder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.address.model.task.BenchmarkTasks;
+import seedu.address.model.task.Reminder;
+import seedu.address.model.task.Task;
+
+/**
+ * Measures scheduling the reminders of {@code taskCount} tasks at startup, half of which came due
+ * while the application was closed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReminderSchedulerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount;
+
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            Task task = BenchmarkTasks.task(i);
+            LocalDateTime reminderTime = now.plusMinutes(i % 2 == 0 ? -i : i);
+            tasks.add(
+                    new Task(
+                            task.getName(),
+                            task.getPriority(),
+                            task.getDescription(),
+                            task.getDone(),
+                            task.getTags(),
+                            Optional.of(Reminder.of(reminderTime))));
+        }
+    }
+
+    @Benchmark
+    public ReminderScheduler schedule() {
+        ReminderScheduler scheduler = new ReminderScheduler();
+        for (Task task : tasks) {
+            scheduler.schedule(task);
+        }
+        return scheduler;
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.model.search;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.address.model.task.BenchmarkTasks;
+
+/** Measures searching an index of {@code taskCount} tasks with exact, prefix and fuzzy terms. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchIndexBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount;
+
+    @Param({"4242", "essay 4242", "424", "tutorail", "tag7"})
+    private String text;
+
+    private SearchIndex searchIndex;
+    private SearchQuery query;
+
+    @Setup
+    public void setUp() {
+        searchIndex = new SearchIndex();
+        for (int i = 0; i < taskCount; i++) {
+            searchIndex.add(BenchmarkTasks.task(i));
+        }
+        query = new SearchQuery(text);
+    }
+
+    @Benchmark
+    public SearchResults search() {
+        return searchIndex.search(query, () -> true);
+    }
+}
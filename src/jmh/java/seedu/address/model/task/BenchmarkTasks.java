@@ -0,0 +1,30 @@
+package seedu.address.model.task;
+
+import java.util.Set;
+import seedu.address.model.TaskList;
+import seedu.address.model.tag.Tag;
+
+/** Generates the tasks that the benchmarks work on. */
+public class BenchmarkTasks {
+
+    private static final String[] SUBJECTS = {"Homework", "Lab", "Tutorial", "Essay", "Quiz"};
+
+    /** Returns the task numbered {@code i}; tasks with different numbers are never the same task. */
+    public static Task task(int i) {
+        return new Task(
+                new Name(SUBJECTS[i % SUBJECTS.length] + " " + i),
+                new Priority(String.valueOf(i % 3 + 1)),
+                new Description("Description of task " + i),
+                new Done(i % 2 == 0 ? Done.DONE : Done.NOT_DONE),
+                Set.of(new Tag("tag" + i % 10)));
+    }
+
+    /** Returns a task list of the tasks numbered 0 to {@code taskCount - 1}. */
+    public static TaskList taskList(int taskCount) {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < taskCount; i++) {
+            taskList.addTask(task(i));
+        }
+        return taskList;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.task;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Measures filtering the displayed list of {@code taskCount} tasks the way the find command does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount;
+
+    private Model model;
+    private final NameContainsKeywordsPredicate predicate =
+            new NameContainsKeywordsPredicate(Arrays.asList("essay", "quiz"));
+
+    @Setup
+    public void setUp() {
+        model =
+                new ModelManager(
+                        BenchmarkTasks.taskList(taskCount),
+                        new Pet(),
+                        new Pomodoro(),
+                        new UserPrefs());
+    }
+
+    @Benchmark
+    public int updateFilteredTaskList() {
+        model.updateFilteredTaskList(predicate);
+        int size = model.getFilteredTaskList().size();
+        model.updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return size;
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.task;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the operations of a {@code UniqueTaskList} of {@code taskCount} tasks. The benchmarks
+ * that modify the list undo their change in the same invocation, so the list keeps its size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueTaskListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount;
+
+    private UniqueTaskList uniqueTaskList;
+    private Task presentTask;
+    private Task absentTask;
+
+    @Setup
+    public void setUp() {
+        uniqueTaskList = new UniqueTaskList();
+        for (int i = 0; i < taskCount; i++) {
+            uniqueTaskList.add(BenchmarkTasks.task(i));
+        }
+        presentTask = BenchmarkTasks.task(taskCount / 2);
+        absentTask = BenchmarkTasks.task(taskCount);
+    }
+
+    @Benchmark
+    public void addAndRemove() {
+        uniqueTaskList.add(absentTask);
+        uniqueTaskList.remove(absentTask);
+    }
+
+    @Benchmark
+    public boolean containsPresentTask() {
+        return uniqueTaskList.contains(presentTask);
+    }
+
+    @Benchmark
+    public boolean containsAbsentTask() {
+        return uniqueTaskList.contains(absentTask);
+    }
+
+    @Benchmark
+    public void setTask() {
+        uniqueTaskList.setTask(presentTask, absentTask);
+        uniqueTaskList.setTask(absentTask, presentTask);
+    }
+}
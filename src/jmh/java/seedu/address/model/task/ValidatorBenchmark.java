@@ -0,0 +1,42 @@
+package seedu.address.model.task;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the validators of the task value objects against matching their validation regexes
+ * with {@code String#matches}, which compiles the regex on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    private String name = "Finish CS2103 tutorial 3";
+    private String priority = "2";
+    private String done = Done.NOT_DONE;
+    private String tag = "cs2103";
+
+    @Benchmark
+    public void validators(Blackhole blackhole) {
+        blackhole.consume(Name.isValidName(name));
+        blackhole.consume(Priority.isValidPriority(priority));
+        blackhole.consume(Done.isValidDone(done));
+        blackhole.consume(Tag.isValidTagName(tag));
+    }
+
+    @Benchmark
+    public void regexes(Blackhole blackhole) {
+        blackhole.consume(name.matches(Name.VALIDATION_REGEX));
+        blackhole.consume(priority.matches(Priority.VALIDATION_REGEX));
+        blackhole.consume(done.matches(Done.VALIDATION_REGEX));
+        blackhole.consume(tag.matches(Tag.VALIDATION_REGEX));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.BenchmarkTasks;
+
+/** Measures saving and reading a task list of {@code taskCount} tasks as JSON. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonTaskListStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int taskCount;
+
+    private Path folder;
+    private TaskList taskList;
+    private JsonTaskListStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        taskList = BenchmarkTasks.taskList(taskCount);
+        folder = Files.createTempDirectory("JsonTaskListStorageBenchmark");
+        storage = new JsonTaskListStorage(folder.resolve("tasklist.json"));
+        storage.saveTaskList(taskList);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void saveTaskList() throws IOException {
+        storage.saveTaskList(taskList);
+    }
+
+    @Benchmark
+    public ReadOnlyTaskList readTaskList() throws DataConversionException {
+        return storage.readTaskList().get();
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 import java.util.logging.Logger;
 import javafx.application.Application;
@@ -25,13 +27,21 @@ import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
+import seedu.address.model.statistics.SessionStatistics;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryTaskListStorage;
+import seedu.address.storage.JournalTaskListStorage;
 import seedu.address.storage.JsonPetStorage;
 import seedu.address.storage.JsonPomodoroStorage;
+import seedu.address.storage.JsonSessionLogStorage;
+import seedu.address.storage.JsonSessionRollupStorage;
 import seedu.address.storage.JsonTaskListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedTaskListStorage;
 import seedu.address.storage.PetStorage;
 import seedu.address.storage.PomodoroStorage;
+import seedu.address.storage.SessionRollupStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TaskListStorage;
@@ -64,11 +74,27 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TaskListStorage taskListStorage = new JsonTaskListStorage(userPrefs.getTaskListFilePath());
+        TaskListStorage taskListStorage = initTaskListStorage(userPrefs);
         PetStorage petStorage = new JsonPetStorage(userPrefs.getPetFilePath());
         PomodoroStorage pomodoroStorage = new JsonPomodoroStorage(userPrefs.getPomodoroFilePath());
+        JsonSessionLogStorage sessionLogStorage =
+                new JsonSessionLogStorage(
+                        JsonSessionLogStorage.getSessionLogFilePath(
+                                userPrefs.getPomodoroFilePath()));
+        SessionRollupStorage sessionRollupStorage =
+                new JsonSessionRollupStorage(
+                        JsonSessionRollupStorage.getSessionRollupFilePath(
+                                userPrefs.getPomodoroFilePath()),
+                        sessionLogStorage);
         storage =
-                new StorageManager(taskListStorage, petStorage, pomodoroStorage, userPrefsStorage);
+                new StorageManager(
+                        taskListStorage,
+                        petStorage,
+                        pomodoroStorage,
+                        sessionLogStorage,
+                        sessionRollupStorage,
+                        userPrefsStorage,
+                        config.getWriteBehindIntervalMillis());
 
         initLogging(config);
 
@@ -76,11 +102,97 @@ public class MainApp extends Application {
 
         logic = new LogicManager(model, storage);
 
-        pomodoro = new PomodoroManager();
+        pomodoro = new PomodoroManager(model, logic::saveChanges);
 
         ui = new UiManager(logic, pomodoro);
     }
 
+    /**
+     * Returns the {@code TaskListStorage} for the task list format chosen in {@code userPrefs}. If
+     * the other format holds newer data than the chosen one, as it does after switching formats
+     * back and forth, that data is converted first.
+     */
+    private TaskListStorage initTaskListStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getTaskListFilePath();
+        // Reads a plain json file, or a json snapshot together with its journal if it has one
+        TaskListStorage jsonStorage = new JournalTaskListStorage(jsonFilePath);
+        TaskListStorage binaryStorage =
+                new BinaryTaskListStorage(BinaryTaskListStorage.getBinaryFilePath(jsonFilePath));
+        Path journalFilePath = JournalTaskListStorage.getJournalFilePath(jsonFilePath);
+        Path binaryFilePath = binaryStorage.getTaskListFilePath();
+
+        Optional<FileTime> jsonModified = lastModified(jsonFilePath, journalFilePath);
+        Optional<FileTime> binaryModified = lastModified(binaryFilePath);
+
+        switch (userPrefs.getTaskListFormat()) {
+            case BINARY:
+                convertTaskListIfNewer(jsonStorage, jsonModified, binaryStorage, binaryModified);
+                return binaryStorage;
+
+            case MAPPED:
+                convertTaskListIfNewer(jsonStorage, jsonModified, binaryStorage, binaryModified);
+                return new MappedTaskListStorage(binaryFilePath);
+
+            case JOURNAL:
+                // The journal's snapshot is an ordinary json task list file
+                convertTaskListIfNewer(binaryStorage, binaryModified, jsonStorage, jsonModified);
+                return jsonStorage;
+
+            case JSON:
+            default:
+                TaskListStorage plainJsonStorage = new JsonTaskListStorage(jsonFilePath);
+                convertTaskListIfNewer(
+                        binaryStorage, binaryModified, plainJsonStorage, jsonModified);
+                return plainJsonStorage;
+        }
+    }
+
+    /**
+     * Copies the task list in {@code source} to {@code target} if {@code source} was modified
+     * after {@code target}, or {@code target} has no task list.
+     */
+    private void convertTaskListIfNewer(
+            TaskListStorage source,
+            Optional<FileTime> sourceModified,
+            TaskListStorage target,
+            Optional<FileTime> targetModified) {
+        if (!sourceModified.isPresent()
+                || (targetModified.isPresent()
+                        && sourceModified.get().compareTo(targetModified.get()) <= 0)) {
+            return;
+        }
+
+        logger.info(
+                "Converting "
+                        + source.getTaskListFilePath()
+                        + " to "
+                        + target.getTaskListFilePath());
+        try {
+            Optional<ReadOnlyTaskList> taskList = source.readTaskList();
+            if (taskList.isPresent()) {
+                target.saveTaskList(taskList.get());
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not convert " + source.getTaskListFilePath() + ": " + e);
+        }
+    }
+
+    /** Returns the time the latest of {@code filePaths} was modified, if any of them exists. */
+    private static Optional<FileTime> lastModified(Path... filePaths) {
+        Optional<FileTime> lastModified = Optional.empty();
+        for (Path filePath : filePaths) {
+            try {
+                FileTime modified = Files.getLastModifiedTime(filePath);
+                if (!lastModified.isPresent() || modified.compareTo(lastModified.get()) > 0) {
+                    lastModified = Optional.of(modified);
+                }
+            } catch (IOException e) {
+                // The file does not exist, or cannot be read either way
+            }
+        }
+        return lastModified;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code
      * userPrefs}. <br>
@@ -95,6 +207,7 @@ public class MainApp extends Application {
         ReadOnlyTaskList initialData;
         ReadOnlyPet initialPet;
         ReadOnlyPomodoro initialPomodoro;
+        ReadOnlySessionStatistics pomodoroStatistics;
 
         try {
             taskListOptional = storage.readTaskList();
@@ -144,7 +257,20 @@ public class MainApp extends Application {
             initialPomodoro = new Pomodoro();
         }
 
-        return new ModelManager(initialData, initialPet, initialPomodoro, userPrefs);
+        try {
+            pomodoroStatistics = storage.readSessionStatistics();
+        } catch (DataConversionException e) {
+            logger.warning(
+                    "Session log not in the correct format. Will be starting with no sessions");
+            pomodoroStatistics = new SessionStatistics();
+        } catch (IOException e) {
+            logger.warning(
+                    "Problem while reading the session log. Will be starting with no sessions");
+            pomodoroStatistics = new SessionStatistics();
+        }
+
+        return new ModelManager(
+                initialData, initialPet, initialPomodoro, pomodoroStatistics, userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -240,5 +366,12 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            // A running pomodoro's time left changes without any command, so it is saved last
+            storage.savePomodoro(model.getPomodoro());
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
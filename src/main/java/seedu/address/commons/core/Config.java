@@ -13,6 +13,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long writeBehindIntervalMillis = 1000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -30,6 +31,18 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long saves are held back and coalesced before being written to disk. Zero means
+     * that every save is written immediately.
+     */
+    public long getWriteBehindIntervalMillis() {
+        return writeBehindIntervalMillis;
+    }
+
+    public void setWriteBehindIntervalMillis(long writeBehindIntervalMillis) {
+        this.writeBehindIntervalMillis = writeBehindIntervalMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -42,12 +55,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && writeBehindIntervalMillis == o.writeBehindIntervalMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, writeBehindIntervalMillis);
     }
 
     @Override
@@ -1,15 +1,27 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
 
 /** Writes and reads files */
 public class FileUtil {
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -66,8 +78,98 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
-    /** Writes given string to a file. Will create the file if it does not exist yet. */
+    /**
+     * Writes given string to a file. Will create the file if it does not exist yet. The file is
+     * replaced as described in {@link #replaceFile(Path, ContentWriter)}.
+     */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        replaceFile(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code writer} writes, creating the file if it
+     * does not exist yet. The content is written to a temporary file next to {@code file} and
+     * forced to the disk before being moved into place, so a crash at any point leaves either the
+     * old or the new content in {@code file}, never a mix of the two.
+     */
+    public static void replaceFile(Path file, ContentWriter writer) throws IOException {
+        moveIntoPlace(writeTempFile(file, writer), file);
+    }
+
+    /**
+     * Similar to {@link #replaceFile(Path, ContentWriter)}, but keeps the previous content of
+     * {@code file}, if any, at {@link #getBackupFilePath(Path)}. Only one previous generation is
+     * kept.
+     */
+    public static void replaceFileWithBackup(Path file, ContentWriter writer) throws IOException {
+        Path tempFile = writeTempFile(file, writer);
+        if (Files.exists(file)) {
+            moveIntoPlace(file, getBackupFilePath(file));
+        }
+        moveIntoPlace(tempFile, file);
+    }
+
+    /**
+     * Appends {@code bytes} to {@code file}, creating the file if it does not exist yet, and forces
+     * them to the disk before returning.
+     */
+    public static void appendToFile(Path file, byte[] bytes) throws IOException {
+        try (FileChannel channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    /** Returns the path at which {@link #replaceFileWithBackup} keeps the previous content. */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /** Writes the content of {@code writer} to a temporary sibling of {@code file} on the disk. */
+    private static Path writeTempFile(Path file, ContentWriter writer) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                writer.writeTo(out);
+            }
+            // The writer may close the stream itself, so the file is forced through a new channel
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    /** Moves {@code source} over {@code target}, atomically if the file system allows it. */
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(
+                    source,
+                    target,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warning("Atomic move not supported, replacing " + target + " directly");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Writes the content of a file being replaced. */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /** Writes the content to {@code out}, which may be closed when done. */
+        void writeTo(OutputStream out) throws IOException;
     }
 }
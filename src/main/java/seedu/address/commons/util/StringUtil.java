@@ -47,6 +47,14 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, the characters matched by {@code
+     * \p{Alnum}} in a regular expression.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer e.g. 1, 2, 3, ..., {@code
      * Integer.MAX_VALUE} <br>
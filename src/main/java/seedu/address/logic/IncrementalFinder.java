@@ -0,0 +1,257 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.NameStartsWithKeywordsPredicate;
+import seedu.address.model.task.Task;
+
+/**
+ * Filters the displayed task list while a find command is being typed, showing the tasks with a
+ * word starting with any of the keywords typed so far.
+ *
+ * <p>Whether a task matches only depends on its name, so the finder keeps its own copy of the task
+ * names. The copy is read once when the finder is created, and then kept up to date from the
+ * changes to the task list, so no task is decoded or copied while typing. The copy is confined to
+ * the background thread, which applies each change to it in turn before matching any later query.
+ *
+ * <p>Names are matched on that thread once typing has paused for the debounce delay. A query is
+ * abandoned as soon as a newer one is requested. When the new keywords only narrow the previous
+ * ones, the names matched by the previous query are matched again instead of all names. The
+ * matches are handed to the publisher to be shown.
+ *
+ * <p>Apart from the matching and the copy of the names, everything happens on the thread that owns
+ * the model, which is also the thread the publisher runs on.
+ */
+class IncrementalFinder {
+
+    static final long DEBOUNCE_MILLIS = 150;
+
+    /** Number of tasks matched between checks for a newer query. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final Model model;
+    private final ScheduledExecutorService matcher;
+    private final Executor publisher;
+    private final long debounceMillis;
+
+    // Incremented for every query requested or cancelled, so that older queries know to stop
+    private final AtomicLong generation = new AtomicLong();
+
+    private long listVersion;
+    private NameStartsWithKeywordsPredicate requestedPredicate;
+    private Future<?> pendingQuery;
+    private NameStartsWithKeywordsPredicate shownPredicate;
+    private Set<Name> shownMatches;
+    private boolean isShowingMatches;
+
+    // Number of tasks with each name. Only used on the matcher thread.
+    private final Map<Name, Integer> nameCounts = new HashMap<>();
+
+    /**
+     * Creates an {@code IncrementalFinder} that filters {@code model}'s task list, matching on its
+     * own background thread and showing the matches through {@code publisher}.
+     */
+    IncrementalFinder(Model model, Executor publisher) {
+        this(
+                model,
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "incremental-find");
+                            thread.setDaemon(true);
+                            return thread;
+                        }),
+                publisher,
+                DEBOUNCE_MILLIS);
+    }
+
+    IncrementalFinder(
+            Model model, ScheduledExecutorService matcher, Executor publisher, long debounceMillis) {
+        requireNonNull(model);
+        requireNonNull(matcher);
+        requireNonNull(publisher);
+        this.model = model;
+        this.matcher = matcher;
+        this.publisher = publisher;
+        this.debounceMillis = debounceMillis;
+        List<Name> names = model.getTaskList().getTaskNames();
+        matcher.execute(() -> names.forEach(this::addName));
+        model.getTaskList()
+                .getTaskList()
+                .addListener((ListChangeListener<Task>) this::handleTasksChanged);
+    }
+
+    /**
+     * Filters the task list by the keywords of {@code commandText} if it is a find command with at
+     * least one keyword. Otherwise, shows all tasks again if they were filtered by this finder.
+     */
+    void update(String commandText) {
+        requireNonNull(commandText);
+        NameStartsWithKeywordsPredicate predicate = parseFind(commandText);
+        if (predicate == null) {
+            cancelPendingQuery();
+            if (isShowingMatches) {
+                isShowingMatches = false;
+                model.updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            }
+            return;
+        }
+        if (predicate.equals(requestedPredicate)) {
+            return;
+        }
+
+        cancelPendingQuery();
+        long queryGeneration = generation.get();
+        long queryListVersion = listVersion;
+        // Null candidates are all the names, which can only be read on the matcher thread
+        Collection<Name> candidates =
+                shownPredicate != null && shownPredicate.isRefinedBy(predicate)
+                        ? shownMatches
+                        : null;
+        requestedPredicate = predicate;
+        pendingQuery =
+                matcher.schedule(
+                        () -> match(queryGeneration, queryListVersion, predicate, candidates),
+                        debounceMillis,
+                        TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abandons the pending query, if any. The tasks shown are left as they are, to be replaced by
+     * those of the command about to be executed.
+     */
+    void cancel() {
+        cancelPendingQuery();
+        isShowingMatches = false;
+    }
+
+    private void cancelPendingQuery() {
+        generation.incrementAndGet();
+        if (pendingQuery != null) {
+            pendingQuery.cancel(false);
+            pendingQuery = null;
+        }
+        requestedPredicate = null;
+    }
+
+    /**
+     * Matches {@code candidates}, or all names if it is null, against {@code predicate}. Runs on
+     * the matcher thread.
+     */
+    private void match(
+            long queryGeneration,
+            long queryListVersion,
+            NameStartsWithKeywordsPredicate predicate,
+            Collection<Name> candidates) {
+        Set<Name> matchingNames = new HashSet<>();
+        int matched = 0;
+        for (Name name : candidates != null ? candidates : nameCounts.keySet()) {
+            if (matched++ % CANCELLATION_CHECK_INTERVAL == 0
+                    && generation.get() != queryGeneration) {
+                return;
+            }
+            if (predicate.matches(name)) {
+                matchingNames.add(name);
+            }
+        }
+        publisher.execute(() -> show(queryGeneration, queryListVersion, predicate, matchingNames));
+    }
+
+    /**
+     * Shows the tasks with the names matched by a query, unless a newer query has been requested
+     * since.
+     */
+    private void show(
+            long queryGeneration,
+            long queryListVersion,
+            NameStartsWithKeywordsPredicate predicate,
+            Set<Name> matchingNames) {
+        if (generation.get() != queryGeneration) {
+            return;
+        }
+
+        pendingQuery = null;
+        if (listVersion == queryListVersion) {
+            shownPredicate = predicate;
+            shownMatches = matchingNames;
+        }
+        isShowingMatches = true;
+        model.updateFilteredTaskList(
+                task ->
+                        listVersion == queryListVersion
+                                ? matchingNames.contains(task.getName())
+                                : predicate.test(task));
+    }
+
+    /**
+     * Passes the names added to and removed from the task list by {@code change} on to the matcher
+     * thread. If the whole list was replaced, its names are read again instead, as reading the
+     * tasks added would decode every one of them.
+     */
+    private void handleTasksChanged(Change<? extends Task> change) {
+        listVersion++;
+        shownPredicate = null;
+        shownMatches = null;
+
+        List<Name> removedNames = new ArrayList<>();
+        List<Name> addedNames = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasAdded() && change.getAddedSize() == change.getList().size()) {
+                List<Name> names = model.getTaskList().getTaskNames();
+                matcher.execute(
+                        () -> {
+                            nameCounts.clear();
+                            names.forEach(this::addName);
+                        });
+                return;
+            }
+            change.getRemoved().forEach(task -> removedNames.add(task.getName()));
+            change.getAddedSubList().forEach(task -> addedNames.add(task.getName()));
+        }
+        matcher.execute(
+                () -> {
+                    removedNames.forEach(this::removeName);
+                    addedNames.forEach(this::addName);
+                });
+    }
+
+    /** Counts a task with {@code name}. Runs on the matcher thread. */
+    private void addName(Name name) {
+        nameCounts.merge(name, 1, Integer::sum);
+    }
+
+    /** Uncounts a task with {@code name}. Runs on the matcher thread. */
+    private void removeName(Name name) {
+        nameCounts.computeIfPresent(name, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Returns the predicate of {@code commandText} if it is a find command with keywords, or null
+     * otherwise.
+     */
+    private static NameStartsWithKeywordsPredicate parseFind(String commandText) {
+        String[] words = commandText.trim().split("\\s+");
+        if (words.length < 2 || !words[0].equals(FindCommand.COMMAND_WORD)) {
+            return null;
+        }
+        return new NameStartsWithKeywordsPredicate(Arrays.asList(words).subList(1, words.length));
+    }
+}
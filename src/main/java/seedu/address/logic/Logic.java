@@ -7,6 +7,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.reminder.ReminderHandler;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
 import seedu.address.model.task.Task;
 import seedu.address.ui.PetDisplayHandler;
 
@@ -22,6 +24,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Shows the effect of a command that is still being typed. While a find command is typed, the
+     * task list is filtered by its keywords in the background; other commands have no effect.
+     *
+     * @param commandText The command typed so far.
+     */
+    void previewCommand(String commandText);
+
     /**
      * Returns the TaskList.
      *
@@ -42,4 +52,19 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     PetDisplayHandler getPetDisplayHandler();
+
+    /** Returns the time spent in pomodoro sessions, which is updated as each session ends. */
+    ReadOnlySessionStatistics getPomodoroStatistics();
+
+    /**
+     * Sets the handler that is shown the tasks whose reminders are due. It is called on the JavaFX
+     * application thread, after the fired reminders have been removed from the tasks and saved.
+     */
+    void setReminderHandler(ReminderHandler handler);
+
+    /**
+     * Saves the changes made to the model outside of commands, such as by the pomodoro timer. A
+     * failure to save is logged, and the changes are saved again with the next command.
+     */
+    void saveChanges();
 }
@@ -1,8 +1,13 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Logger;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +18,8 @@ import seedu.address.logic.parser.TaskListParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.reminder.ReminderHandler;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
 import seedu.address.model.task.Task;
 import seedu.address.storage.Storage;
 import seedu.address.ui.PetDisplayHandler;
@@ -25,43 +32,44 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final TaskListParser taskListParser;
+    private final IncrementalFinder incrementalFinder;
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         taskListParser = new TaskListParser();
+        // Created up front, so that the task names are read at startup rather than on a keystroke
+        incrementalFinder = new IncrementalFinder(model, Platform::runLater);
+
+        // Sessions end when a timer runs out, not on a command, so each is saved as it ends
+        model.getPomodoroStatistics()
+                .lastSessionProperty()
+                .addListener((observable, oldSession, newSession) -> saveChanges());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        incrementalFinder.cancel();
 
         CommandResult commandResult;
         Command command = taskListParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
         try {
-            storage.saveTaskList(model.getTaskList());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
-
-        try {
-            storage.savePet(model.getPet());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
-
-        try {
-            storage.savePomodoro(model.getPomodoro());
+            storage.saveChanges(model);
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-        model.updatePetDisplayHandler();
 
         return commandResult;
     }
 
+    @Override
+    public void previewCommand(String commandText) {
+        incrementalFinder.update(commandText);
+    }
+
     @Override
     public ReadOnlyTaskList getTaskList() {
         return model.getTaskList();
@@ -91,4 +99,58 @@ public class LogicManager implements Logic {
     public PetDisplayHandler getPetDisplayHandler() {
         return model.getPetDisplayHandler();
     }
+
+    @Override
+    public ReadOnlySessionStatistics getPomodoroStatistics() {
+        return model.getPomodoroStatistics();
+    }
+
+    @Override
+    public void setReminderHandler(ReminderHandler handler) {
+        requireNonNull(handler);
+        model.setReminderHandler(
+                new ReminderHandler() {
+                    @Override
+                    public void remind(Task task) {
+                        Platform.runLater(
+                                () ->
+                                        dismissReminders(Collections.singletonList(task))
+                                                .forEach(handler::remind));
+                    }
+
+                    @Override
+                    public void remindMissed(List<Task> tasks) {
+                        Platform.runLater(
+                                () -> {
+                                    List<Task> dismissed = dismissReminders(tasks);
+                                    if (!dismissed.isEmpty()) {
+                                        handler.remindMissed(dismissed);
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Removes the fired reminders of {@code tasks} from the model and saves it, so that they are not
+     * fired again when the application is next started. Returns the tasks still in the model.
+     */
+    private List<Task> dismissReminders(List<Task> tasks) {
+        List<Task> dismissed = model.dismissReminders(tasks);
+        try {
+            storage.saveChanges(model);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save dismissed reminders: " + ioe);
+        }
+        return dismissed;
+    }
+
+    @Override
+    public void saveChanges() {
+        try {
+            storage.saveChanges(model);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save changes: " + ioe);
+        }
+    }
 }
@@ -1,16 +1,16 @@
 package seedu.address.logic;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
-import javafx.beans.binding.Bindings;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
 import javafx.scene.control.Label;
 import javafx.util.Duration;
 import seedu.address.model.Model;
+import seedu.address.model.statistics.PomodoroSession;
+import seedu.address.model.statistics.PomodoroSession.Outcome;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Description;
 import seedu.address.model.task.Done;
@@ -19,17 +19,35 @@ import seedu.address.model.task.Priority;
 import seedu.address.model.task.Task;
 import seedu.address.ui.ResultDisplay;
 
+/**
+ * Runs the pomodoro timer and the breaks between pomodoros, and shows the time they have left.
+ *
+ * <p>The time left is read from a monotonic clock rather than counted down, so the timer does not
+ * drift. The label is only updated when the seconds it shows change. The pomodoro's time left is
+ * kept in the model and saved when the pomodoro starts, pauses or resumes, and every {@value
+ * #SAVE_INTERVAL_SECONDS} seconds while it runs. A pomodoro interrupted even by a crash then
+ * continues after a restart from at most that long before it was interrupted.
+ */
 public class PomodoroManager {
 
-    private Integer startTime;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long SAVE_INTERVAL_SECONDS = 10;
+
     private Integer restTime = 5; // 5 * 60;
-    private Timeline timeline;
+    private Timeline ticker; // Null if nothing is counting down
     private Label timerLabel;
     private ResultDisplay resultDisplay;
-    private IntegerProperty timeSeconds;
     private Model model;
+    private final Runnable saveChanges;
     private List<Task> originList;
     private int taskIndex;
+    private String sessionTaskName;
+    private LocalDateTime sessionStart; // null if no pomodoro is running
+    private long sessionNanos; // The length of the running pomodoro
+    private boolean isOnBreak;
+    private long breakDeadlineNanos; // When the break ends, if it is not paused
+    private long breakNanosLeft; // If the break is paused
+    private long savedAtNanos; // When the time left by the running pomodoro was last saved
 
     public enum PROMPT_STATE {
         NONE,
@@ -46,7 +64,13 @@ public class PomodoroManager {
 
     private PROMPT_STATE promptState;
 
-    public PomodoroManager() {
+    /**
+     * Creates a manager of the pomodoros in {@code model}, which saves the changes it makes to the
+     * model by running {@code saveChanges}.
+     */
+    public PomodoroManager(Model model, Runnable saveChanges) {
+        this.model = model;
+        this.saveChanges = saveChanges;
         promptState = PROMPT_STATE.NONE;
     }
 
@@ -58,62 +82,168 @@ public class PomodoroManager {
         this.timerLabel = timerLabel;
     }
 
+    /**
+     * Starts a pomodoro on the task given by {@link #setDoneParams(Model, List, int)}. A pomodoro
+     * that is still running is recorded as aborted.
+     */
     public void start(float timeInMinutes) {
-        startTime = (int) (timeInMinutes * 60);
-        timeSeconds = new SimpleIntegerProperty(startTime);
-        configureUi();
-        configureTimer();
+        endSession(Outcome.ABORTED);
+        stopTicking();
+        isOnBreak = false;
+        Task task = originList.get(taskIndex);
+        sessionNanos = (long) (timeInMinutes * 60) * NANOS_PER_SECOND;
+        sessionTaskName = task.getName().fullName;
+        sessionStart = LocalDateTime.now();
+        model.startPomodoro(task, java.time.Duration.ofNanos(sessionNanos));
+        save();
+        tick();
+    }
+
+    /**
+     * Continues the pomodoro that was running or paused when the app last stopped, from the time it
+     * had left then. Returns the name of its task, or an empty {@code Optional} if there is no such
+     * pomodoro or its task is no longer shown.
+     */
+    public Optional<String> resumeInterrupted() {
+        Task task = model.getPomodoro().getRunningTask();
+        if (task == null) {
+            return Optional.empty();
+        }
+
+        List<Task> shownTasks = model.getFilteredTaskList();
+        int index = shownTasks.indexOf(task);
+        if (index < 0) {
+            model.stopPomodoro();
+            return Optional.empty();
+        }
+
+        setDoneParams(model, shownTasks, index);
+        // Only the time from now on is recorded, as the time before was not saved as a session
+        sessionNanos = model.getPomodoro().getRemainingTime().toNanos();
+        sessionTaskName = task.getName().fullName;
+        sessionStart = LocalDateTime.now();
+        if (model.getPomodoro().isPaused()) {
+            showTimeLeft(sessionNanos);
+        } else {
+            savedAtNanos = System.nanoTime();
+            tick();
+        }
+        return Optional.of(task.getName().toString());
+    }
+
+    /** Records the running pomodoro, if any, in the model as having ended with {@code outcome}. */
+    private void endSession(Outcome outcome) {
+        if (sessionStart == null) {
+            return;
+        }
+
+        long nanosSpent = sessionNanos - model.getPomodoro().getRemainingTime().toNanos();
+        model.stopPomodoro();
+        model.addPomodoroSession(
+                new PomodoroSession(
+                        sessionTaskName,
+                        sessionStart,
+                        java.time.Duration.ofSeconds(Math.max(0, nanosSpent / NANOS_PER_SECOND)),
+                        outcome));
+        sessionStart = null;
     }
 
     public void pause() throws NullPointerException {
-        try {
-            timeline.pause();
-        } catch (NullPointerException ne) {
-            throw ne;
+        if (ticker == null) {
+            throw new NullPointerException("Nothing is counting down");
+        }
+
+        stopTicking();
+        if (isOnBreak) {
+            breakNanosLeft = Math.max(0, breakDeadlineNanos - System.nanoTime());
+        } else {
+            model.pausePomodoro();
+            save();
         }
     }
 
     public void unpause() throws NullPointerException {
-        try {
-            timeline.play();
-        } catch (NullPointerException ne) {
-            throw ne;
+        if (ticker != null) {
+            return;
+        }
+
+        if (isOnBreak) {
+            breakDeadlineNanos = System.nanoTime() + breakNanosLeft;
+        } else if (sessionStart != null) {
+            model.resumePomodoro();
+            save();
+        } else {
+            throw new NullPointerException("Nothing is paused");
         }
+        tick();
     }
 
-    private void configureUi() {
-        timerLabel
-                .textProperty()
-                .bind(
-                        Bindings.createStringBinding(
-                                () -> {
-                                    if (timeSeconds.getValue() == null) {
-                                        return "";
-                                    } else {
-                                        int secondsRemaining = timeSeconds.get();
-                                        int minutePortion = secondsRemaining / 60;
-                                        int secondPortion = secondsRemaining % 60;
-                                        return String.format(
-                                                "%02d:%02d", minutePortion, secondPortion);
-                                    }
-                                },
-                                timeSeconds));
-    }
-
-    private void configureTimer() {
-        if (timeline != null) {
-            timeline.stop();
+    /** Saves the pomodoro in the model, with the time it has left now. */
+    private void save() {
+        savedAtNanos = System.nanoTime();
+        saveChanges.run();
+    }
+
+    /**
+     * Shows the time left, and waits until the seconds shown next change to show it again. Ends the
+     * pomodoro or break once no time is left, and saves the time left by a running pomodoro every
+     * {@value #SAVE_INTERVAL_SECONDS} seconds.
+     */
+    private void tick() {
+        long nanosLeft = getNanosLeft();
+        showTimeLeft(nanosLeft);
+        if (nanosLeft == 0) {
+            ticker = null;
+            finish();
+            return;
+        }
+
+        long nanosSinceSaved = System.nanoTime() - savedAtNanos;
+        if (!isOnBreak && nanosSinceSaved >= SAVE_INTERVAL_SECONDS * NANOS_PER_SECOND) {
+            model.recordPomodoroTimeLeft();
+            save();
         }
-        timeSeconds.set(startTime);
-        timeline = new Timeline();
-        timeline.getKeyFrames()
-                .add(new KeyFrame(Duration.seconds(startTime + 1), new KeyValue(timeSeconds, 0)));
-        timeline.playFromStart();
-        timeline.setOnFinished(
-                event -> {
-                    this.setPromptState(PROMPT_STATE.CHECK_DONE);
-                    resultDisplay.setFeedbackToUser(CHECK_DONE_MESSAGE);
-                });
+
+        long nanosUntilNextSecond = (nanosLeft - 1) % NANOS_PER_SECOND + 1;
+        ticker =
+                new Timeline(
+                        new KeyFrame(
+                                Duration.millis(nanosUntilNextSecond / 1_000_000.0),
+                                event -> tick()));
+        ticker.play();
+    }
+
+    private void stopTicking() {
+        if (ticker != null) {
+            ticker.stop();
+            ticker = null;
+        }
+    }
+
+    private long getNanosLeft() {
+        if (isOnBreak) {
+            return Math.max(0, breakDeadlineNanos - System.nanoTime());
+        }
+        return model.getPomodoro().getRemainingTime().toNanos();
+    }
+
+    /** Shows {@code nanosLeft} on the label, rounded up to a whole second. */
+    private void showTimeLeft(long nanosLeft) {
+        long secondsLeft = (nanosLeft + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+        timerLabel.setText(String.format("%02d:%02d", secondsLeft / 60, secondsLeft % 60));
+    }
+
+    private void finish() {
+        if (isOnBreak) {
+            isOnBreak = false;
+            resultDisplay.setFeedbackToUser("Breaks over! What shall we do next?");
+            this.setPromptState(PROMPT_STATE.NONE); // App back to neutral
+            return;
+        }
+
+        endSession(Outcome.COMPLETED);
+        this.setPromptState(PROMPT_STATE.CHECK_DONE);
+        resultDisplay.setFeedbackToUser(CHECK_DONE_MESSAGE);
     }
 
     public PROMPT_STATE getPromptState() {
@@ -129,19 +259,10 @@ public class PomodoroManager {
     }
 
     public void takeABreak() {
-        if (timeline != null) {
-            timeline.stop();
-        }
-        timeSeconds.set(restTime);
-        timeline = new Timeline();
-        timeline.getKeyFrames()
-                .add(new KeyFrame(Duration.seconds(restTime + 1), new KeyValue(timeSeconds, 0)));
-        timeline.playFromStart();
-        timeline.setOnFinished(
-                event -> {
-                    resultDisplay.setFeedbackToUser("Breaks over! What shall we do next?");
-                    this.setPromptState(PROMPT_STATE.NONE); // App back to neutral
-                });
+        stopTicking();
+        isOnBreak = true;
+        breakDeadlineNanos = System.nanoTime() + restTime * NANOS_PER_SECOND;
+        tick();
     }
 
     public void setDoneParams(Model model, List<Task> originList, int taskIndex) {
@@ -151,7 +272,6 @@ public class PomodoroManager {
     }
 
     private void clearDoneParams() {
-        this.model = null;
         this.originList = null;
         this.taskIndex = -1;
     }
@@ -168,7 +288,8 @@ public class PomodoroManager {
                         updatedPriority,
                         updatedDescription,
                         new Done("Y"),
-                        updatedTags);
+                        updatedTags,
+                        taskToEdit.getOptionalReminder());
         model.setTask(taskToEdit, editedTask);
         clearDoneParams();
     }
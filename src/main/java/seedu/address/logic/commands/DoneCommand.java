@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import seedu.address.commons.core.Messages;
@@ -41,6 +42,8 @@ public class DoneCommand extends Command {
         requireNonNull(model);
         List<Task> lastShownList = model.getFilteredTaskList();
         StringBuilder tasksDone = new StringBuilder(MESSAGE_DONE_TASK_SUCCESS);
+        // Every index is resolved first, as a sorted list may reorder tasks once they are done
+        List<Task> toEditTasks = new ArrayList<>();
         for (Index targetIndex : targetIndices) {
             targetIndex.getZeroBased();
             if (targetIndex.getZeroBased() >= lastShownList.size()) {
@@ -48,9 +51,13 @@ public class DoneCommand extends Command {
             }
             // Person person = lastShownList.get(targetIndex.getZeroBased());
             Task taskToEdit = lastShownList.get(targetIndex.getZeroBased());
-            if (taskToEdit.getDone().isDone) {
+            // A repeated index refers to a task that is done by the time it is reached
+            if (taskToEdit.getDone().isDone || toEditTasks.contains(taskToEdit)) {
                 throw new CommandException(Messages.MESSAGE_INVALID_TASK_TO_BE_DONED);
             }
+            toEditTasks.add(taskToEdit);
+        }
+        for (Task taskToEdit : toEditTasks) {
             Task editedTask = createDoneTask(taskToEdit);
             tasksDone.append(String.format("%n%s", editedTask));
             model.setTask(taskToEdit, editedTask);
@@ -71,7 +78,12 @@ public class DoneCommand extends Command {
         Set<Tag> updatedTags = taskToEdit.getTags();
 
         return new Task(
-                updatedName, updatedPriority, updatedDescription, new Done("Y"), updatedTags);
+                updatedName,
+                updatedPriority,
+                updatedDescription,
+                new Done("Y"),
+                updatedTags,
+                taskToEdit.getOptionalReminder());
     }
 
     @Override
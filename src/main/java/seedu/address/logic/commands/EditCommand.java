@@ -22,6 +22,7 @@ import seedu.address.model.task.Description;
 import seedu.address.model.task.Done;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Priority;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.Reminder;
 import seedu.address.model.task.Task;
 
@@ -99,7 +100,8 @@ public class EditCommand extends Command {
      * Creates and returns a {@code Task} with the details of {@code personToEdit} edited with
      * {@code editTaskDescriptor}.
      */
-    private static Task createEditedTask(Task taskToEdit, EditTaskDescriptor editTaskDescriptor) {
+    private static Task createEditedTask(Task taskToEdit, EditTaskDescriptor editTaskDescriptor)
+            throws CommandException {
         assert taskToEdit != null;
 
         Name updatedName = editTaskDescriptor.getName().orElse(taskToEdit.getName());
@@ -109,7 +111,15 @@ public class EditCommand extends Command {
                 editTaskDescriptor.getDescription().orElse(taskToEdit.getDescription());
         Done updatedDone = editTaskDescriptor.getDone().orElse(taskToEdit.getDone());
         Set<Tag> updatedTags = editTaskDescriptor.getTags().orElse(taskToEdit.getTags());
-        Optional<Reminder> updatedOptionalReminder = editTaskDescriptor.getReminder();
+        Optional<Reminder> updatedOptionalReminder =
+                editTaskDescriptor.getReminder().or(taskToEdit::getOptionalReminder);
+        Optional<Recurrence> updatedRecurrence =
+                editTaskDescriptor.getRecurrence().orElse(taskToEdit.getRecurrence());
+        if (updatedRecurrence.isPresent() && updatedOptionalReminder.isEmpty()) {
+            throw new CommandException(Recurrence.MESSAGE_REMINDER_REQUIRED);
+        }
+        updatedOptionalReminder =
+                updatedOptionalReminder.map(reminder -> reminder.withRecurrence(updatedRecurrence));
 
         return new Task(
                 updatedName,
@@ -148,6 +158,7 @@ public class EditCommand extends Command {
         private Done done;
         private Set<Tag> tags;
         private Reminder reminder;
+        private Optional<Recurrence> recurrence; // null if the recurrence is not edited
 
         public EditTaskDescriptor() {}
 
@@ -159,11 +170,13 @@ public class EditCommand extends Command {
             setDone(toCopy.done);
             setTags(toCopy.tags);
             setReminder(toCopy.reminder);
+            setRecurrence(toCopy.recurrence);
         }
 
         /** Returns true if at least one field is edited. */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(name, priority, description, tags, reminder);
+            return CollectionUtil.isAnyNonNull(
+                    name, priority, description, tags, reminder, recurrence);
         }
 
         public void setName(Name name) {
@@ -224,6 +237,19 @@ public class EditCommand extends Command {
             return Optional.ofNullable(reminder);
         }
 
+        /**
+         * Sets the recurrence to edit to {@code recurrence}, where an empty {@code recurrence}
+         * stops the task from repeating.
+         */
+        public void setRecurrence(Optional<Recurrence> recurrence) {
+            this.recurrence = recurrence;
+        }
+
+        /** Returns the recurrence to edit to, or {@code Optional#empty()} if it is not edited. */
+        public Optional<Optional<Recurrence>> getRecurrence() {
+            return Optional.ofNullable(recurrence);
+        }
+
         @Override
         public boolean equals(Object other) {
             // short circuit if same object
@@ -243,7 +269,9 @@ public class EditCommand extends Command {
                     && getPriority().equals(e.getPriority())
                     && getDescription().equals(e.getDescription())
                     && getDone().equals(e.getDone())
-                    && getTags().equals(e.getTags());
+                    && getTags().equals(e.getTags())
+                    && getReminder().equals(e.getReminder())
+                    && getRecurrence().equals(e.getRecurrence());
         }
     }
 }
@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.filter.TaskFilter;
+
+/** Lists the tasks whose priority, done state, tags and reminder match the argument query. */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD
+                    + ": Displays the tasks matching the specified query as a list with index "
+                    + "numbers. A query combines the conditions p/PRIORITY, t/TAG, done and "
+                    + "reminder (has a reminder) with and, or, not and parentheses. Conditions "
+                    + "next to each other must all hold.\n"
+                    + "Parameters: QUERY\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " (p/1 or p/2) not done t/work";
+
+    private final TaskFilter filter;
+
+    public FilterCommand(TaskFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredTaskList(filter);
+        return new CommandResult(
+                String.format(
+                        Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                        model.getFilteredTaskList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                        && filter.equals(((FilterCommand) other).filter)); // state check
+    }
+}
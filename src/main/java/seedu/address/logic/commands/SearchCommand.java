@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.search.SearchQuery;
+
+/**
+ * Lists the tasks whose names, descriptions or tags match any of the argument keywords, from the
+ * most relevant to the least. Keywords also match words that start with them or, if they are long
+ * enough, that are misspelt by one letter. Matching is case insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD
+                    + ": Searches the names, descriptions and tags of all tasks for the specified "
+                    + "keywords (case-insensitive) and displays the matching tasks, most relevant "
+                    + "first, as a list with index numbers. Keywords also match words starting "
+                    + "with them, and words of four or more letters also match with one letter "
+                    + "wrong.\n"
+                    + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " lab report cs2103";
+
+    private final SearchQuery query;
+
+    public SearchCommand(SearchQuery query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.searchTasks(query);
+        return new CommandResult(
+                String.format(
+                        Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                        model.getFilteredTaskList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                        && query.equals(((SearchCommand) other).query)); // state check
+    }
+}
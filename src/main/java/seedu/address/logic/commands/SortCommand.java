@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import seedu.address.model.Model;
+import seedu.address.model.task.SortKey;
+
+/** Sorts the displayed tasks by the argument keys, ties broken by each following key. */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD
+                    + ": Sorts the displayed tasks by the specified keys, in order. Tasks tied "
+                    + "on a key are sorted by the next one. Keys: priority (highest first), name, "
+                    + "done (not done first) and reminder (earliest first).\n"
+                    + "Parameters: KEY [MORE_KEYS]...\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " done priority name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted tasks by %1$s";
+
+    private final List<SortKey> sortKeys;
+
+    public SortCommand(List<SortKey> sortKeys) {
+        requireNonNull(sortKeys);
+        this.sortKeys = sortKeys;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredTaskList(SortKey.comparing(sortKeys));
+        String keywords =
+                sortKeys.stream().map(sortKey -> sortKey.keyword).collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, keywords));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                        && sortKeys.equals(((SortCommand) other).sortKeys)); // state check
+    }
+}
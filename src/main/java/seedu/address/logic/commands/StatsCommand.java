@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import seedu.address.model.Model;
+import seedu.address.model.statistics.StatisticsRange;
+
+/**
+ * Shows the time spent on Pomodoro over a recent range, or between two dates. Recent ranges are
+ * also shown on the statistics chart.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD
+                    + ": Shows the time spent on Pomodoro over the last week (7 days), month "
+                    + "(5 weeks) or year (12 months), or from one date to another, both "
+                    + "inclusive. Shows the last week if no range is given.\n"
+                    + "Parameters: [week/month/year] or START_DATE END_DATE (DD/MM/YY)\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " month\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " 01/10/20 31/10/20";
+
+    public static final String MESSAGE_SUCCESS_RANGE =
+            "Time spent on Pomodoro over %1$s: %2$d mins";
+    public static final String MESSAGE_SUCCESS_DATES =
+            "Time spent on Pomodoro from %1$s to %2$s: %3$d mins";
+
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/uu");
+
+    private final StatisticsRange range; // Null if dates are given
+    private final LocalDate start;
+    private final LocalDate end;
+    private final Clock clock;
+
+    /** Creates a StatsCommand for the recent {@code range}. */
+    public StatsCommand(StatisticsRange range) {
+        this(range, Clock.systemDefaultZone());
+    }
+
+    /** Creates a StatsCommand for the recent {@code range}, ending on the day of {@code clock}. */
+    StatsCommand(StatisticsRange range, Clock clock) {
+        requireAllNonNull(range, clock);
+        this.range = range;
+        this.start = null;
+        this.end = null;
+        this.clock = clock;
+    }
+
+    /** Creates a StatsCommand from {@code start} to {@code end}, both inclusive. */
+    public StatsCommand(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        this.range = null;
+        this.start = start;
+        this.end = end;
+        this.clock = Clock.systemDefaultZone();
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (range == null) {
+            long seconds = model.getPomodoroStatistics().getSeconds(start, end);
+            return new CommandResult(
+                    String.format(
+                            MESSAGE_SUCCESS_DATES,
+                            start.format(DATE_FORMAT),
+                            end.format(DATE_FORMAT),
+                            seconds / 60));
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        long seconds = model.getPomodoroStatistics().getSeconds(range.getStart(today), today);
+        return new StatsCommandResult(
+                String.format(MESSAGE_SUCCESS_RANGE, range.description, seconds / 60), range);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        // state check
+        StatsCommand otherCommand = (StatsCommand) other;
+        return range == otherCommand.range
+                && Objects.equals(start, otherCommand.start)
+                && Objects.equals(end, otherCommand.end);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.statistics.StatisticsRange;
+
+/** The result of a {@link StatsCommand} for a recent range, which the statistics chart shows. */
+public class StatsCommandResult extends CommandResult {
+
+    private final StatisticsRange range;
+
+    /** Constructs a {@code StatsCommandResult} with the specified fields. */
+    public StatsCommandResult(String feedbackToUser, StatisticsRange range) {
+        super(requireNonNull(feedbackToUser), false, false);
+        this.range = requireNonNull(range);
+    }
+
+    public StatisticsRange getRange() {
+        return range;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommandResult // instanceof handles nulls
+                        && super.equals(other)
+                        && range == ((StatsCommandResult) other).range); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() * 31 + range.hashCode();
+    }
+}
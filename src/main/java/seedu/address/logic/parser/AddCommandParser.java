@@ -4,6 +4,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMINDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -16,6 +17,7 @@ import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Description;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Priority;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.Reminder;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.exceptions.InvalidReminderException;
@@ -38,7 +40,8 @@ public class AddCommandParser implements Parser<AddCommand> {
                         PREFIX_PRIORITY,
                         PREFIX_DESCRIPTION,
                         PREFIX_TAG,
-                        PREFIX_REMINDER);
+                        PREFIX_REMINDER,
+                        PREFIX_RECURRENCE);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME) || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(
@@ -74,6 +77,16 @@ public class AddCommandParser implements Parser<AddCommand> {
                                 ParserUtil.parseReminder(
                                         argMultimap.getValue(PREFIX_REMINDER).get()));
 
+        if (argMultimap.getValue(PREFIX_RECURRENCE).isPresent()) {
+            if (optionalReminder.isEmpty()) {
+                throw new ParseException(Recurrence.MESSAGE_REMINDER_REQUIRED);
+            }
+            Recurrence recurrence =
+                    ParserUtil.parseRecurrence(argMultimap.getValue(PREFIX_RECURRENCE).get());
+            optionalReminder =
+                    Optional.of(optionalReminder.get().withRecurrence(Optional.of(recurrence)));
+        }
+
         Task task = new Task(name, priority, description, tagList, optionalReminder);
 
         return new AddCommand(task);
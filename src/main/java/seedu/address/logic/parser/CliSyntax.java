@@ -9,5 +9,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_DESCRIPTION = new Prefix("des/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_REMINDER = new Prefix("r/");
+    public static final Prefix PREFIX_RECURRENCE = new Prefix("rp/");
     public static final Prefix PREFIX_TIMER = new Prefix("tm/");
 }
@@ -5,6 +5,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMINDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -17,6 +18,7 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditTaskDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Recurrence;
 
 /** Parses input arguments and creates a new EditCommand object */
 public class EditCommandParser implements Parser<EditCommand> {
@@ -36,7 +38,8 @@ public class EditCommandParser implements Parser<EditCommand> {
                         PREFIX_PRIORITY,
                         PREFIX_DESCRIPTION,
                         PREFIX_TAG,
-                        PREFIX_REMINDER);
+                        PREFIX_REMINDER,
+                        PREFIX_RECURRENCE);
 
         Index index;
 
@@ -66,6 +69,11 @@ public class EditCommandParser implements Parser<EditCommand> {
                     ParserUtil.parseReminder(argMultimap.getValue(PREFIX_REMINDER).get()));
         }
 
+        if (argMultimap.getValue(PREFIX_RECURRENCE).isPresent()) {
+            editTaskDescriptor.setRecurrence(
+                    parseRecurrenceForEdit(argMultimap.getValue(PREFIX_RECURRENCE).get()));
+        }
+
         parseTagsForEdit(argMultimap.getAllValues(PREFIX_TAG))
                 .ifPresent(editTaskDescriptor::setTags);
 
@@ -76,6 +84,16 @@ public class EditCommandParser implements Parser<EditCommand> {
         return new EditCommand(index, editTaskDescriptor);
     }
 
+    /**
+     * Parses {@code recurrence} into a {@code Recurrence}, or into none if {@code recurrence} is
+     * empty, so that the task stops repeating.
+     */
+    private Optional<Recurrence> parseRecurrenceForEdit(String recurrence) throws ParseException {
+        return recurrence.isBlank()
+                ? Optional.empty()
+                : Optional.of(ParserUtil.parseRecurrence(recurrence));
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>} if {@code tags} is non-empty.
      * If {@code tags} contain only one element which is an empty string, it will be parsed into a
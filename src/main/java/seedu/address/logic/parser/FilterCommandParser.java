@@ -0,0 +1,154 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.DoneFilter;
+import seedu.address.model.filter.OrFilter;
+import seedu.address.model.filter.PriorityFilter;
+import seedu.address.model.filter.ReminderFilter;
+import seedu.address.model.filter.TagFilter;
+import seedu.address.model.filter.TaskFilter;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object. The query is parsed by recursive
+ * descent with this grammar, in which {@code not} binds tightest and {@code or} loosest:
+ *
+ * <pre>
+ * query     = and-query ("or" and-query)*
+ * and-query = condition (["and"] condition)*
+ * condition = "not" condition | "(" query ")" | "p/" PRIORITY | "t/" TAG | "done" | "reminder"
+ * </pre>
+ *
+ * <p>Words are matched case-insensitively.
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String DONE = "done";
+    private static final String REMINDER = "reminder";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand and returns
+     * a FilterCommand object for execution.
+     *
+     * @throws ParseException if the user input is not a query of the grammar, or if a priority or
+     *     tag in it is invalid
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        return new FilterCommand(parseFilter(args));
+    }
+
+    /**
+     * Parses {@code query} into the filter it describes.
+     *
+     * @throws ParseException if {@code query} is not a query of the grammar, or if a priority or
+     *     tag in it is invalid
+     */
+    public TaskFilter parseFilter(String query) throws ParseException {
+        tokens = tokenize(query);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        TaskFilter filter = parseQuery();
+        if (position < tokens.size()) {
+            throw invalidFormat();
+        }
+        return filter;
+    }
+
+    private TaskFilter parseQuery() throws ParseException {
+        List<TaskFilter> filters = new ArrayList<>();
+        filters.add(parseAndQuery());
+        while (accept(OR)) {
+            filters.add(parseAndQuery());
+        }
+        return filters.size() == 1 ? filters.get(0) : new OrFilter(filters);
+    }
+
+    private TaskFilter parseAndQuery() throws ParseException {
+        List<TaskFilter> filters = new ArrayList<>();
+        filters.add(parseCondition());
+        while (position < tokens.size() && !peek(OR) && !peek(CLOSE)) {
+            accept(AND);
+            filters.add(parseCondition());
+        }
+        return filters.size() == 1 ? filters.get(0) : new AndFilter(filters);
+    }
+
+    private TaskFilter parseCondition() throws ParseException {
+        if (position == tokens.size()) {
+            throw invalidFormat();
+        }
+
+        String token = tokens.get(position++);
+        String word = token.toLowerCase(Locale.ROOT);
+        if (word.equals(NOT)) {
+            return parseCondition().negate();
+        } else if (word.equals(OPEN)) {
+            TaskFilter filter = parseQuery();
+            if (!accept(CLOSE)) {
+                throw invalidFormat();
+            }
+            return filter;
+        } else if (word.equals(DONE)) {
+            return new DoneFilter(true);
+        } else if (word.equals(REMINDER)) {
+            return new ReminderFilter();
+        } else if (word.startsWith(PREFIX_PRIORITY.getPrefix())) {
+            return new PriorityFilter(
+                    ParserUtil.parsePriority(
+                            token.substring(PREFIX_PRIORITY.getPrefix().length())));
+        } else if (word.startsWith(PREFIX_TAG.getPrefix())) {
+            return new TagFilter(
+                    ParserUtil.parseTag(token.substring(PREFIX_TAG.getPrefix().length())));
+        }
+        throw invalidFormat();
+    }
+
+    /** Returns true if the next token is {@code word}. */
+    private boolean peek(String word) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(word);
+    }
+
+    /** Returns true, and moves past the next token, if the next token is {@code word}. */
+    private boolean accept(String word) {
+        if (!peek(word)) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+
+    /** Splits {@code query} into words and parentheses. */
+    private static List<String> tokenize(String query) {
+        String spacedArgs = query.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " ");
+        String trimmedArgs = spacedArgs.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.asList(trimmedArgs.split("\\s+"));
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+}
@@ -13,6 +13,7 @@ import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Description;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Priority;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.Reminder;
 import seedu.address.model.task.exceptions.InvalidReminderException;
 
@@ -81,6 +82,22 @@ public class ParserUtil {
         return new Reminder(reminderTime);
     }
 
+    /**
+     * Parses a {@code String recurrence} into a {@code Recurrence}. Leading and trailing
+     * whitespaces will be trimmed. Recurrences to receive are daily, weekly, weekdays or every N
+     * days.
+     *
+     * @throws ParseException if the given {@code recurrence} is invalid.
+     */
+    public static Recurrence parseRecurrence(String recurrence) throws ParseException {
+        requireNonNull(recurrence);
+        String trimmedRecurrence = recurrence.trim();
+        if (!Recurrence.isValidRecurrence(trimmedRecurrence)) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        return Recurrence.of(trimmedRecurrence);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}. Leading and trailing whitespaces will be
      * trimmed.
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.search.SearchQuery;
+
+/** Parses input arguments and creates a new SearchCommand object */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand and returns
+     * a SearchCommand object for execution.
+     *
+     * @throws ParseException if the user input does not contain any keywords
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        SearchQuery query = new SearchQuery(args);
+        if (query.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        return new SearchCommand(query);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.task.SortKey;
+
+/** Parses input arguments and creates a new SortCommand object */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand and returns a
+     * SortCommand object for execution.
+     *
+     * @throws ParseException if the user input has no keys, or a key that does not exist
+     */
+    public SortCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+
+        List<SortKey> sortKeys = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            SortKey sortKey =
+                    SortKey.fromKeyword(keyword)
+                            .orElseThrow(
+                                    () ->
+                                            new ParseException(
+                                                    String.format(
+                                                            MESSAGE_INVALID_COMMAND_FORMAT,
+                                                            SortCommand.MESSAGE_USAGE)));
+            if (!sortKeys.contains(sortKey)) {
+                sortKeys.add(sortKey);
+            }
+        }
+        return new SortCommand(sortKeys);
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.statistics.StatisticsRange;
+
+/** Parses input arguments and creates a new StatsCommand object */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    public static final String MESSAGE_START_AFTER_END = "The start date is after the end date";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand and returns
+     * a StatsCommand object for execution. No arguments are parsed as the last week.
+     *
+     * @throws ParseException if the user input is neither a range nor two dates in order
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new StatsCommand(StatisticsRange.WEEK);
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        if (words.length == 1) {
+            return new StatsCommand(
+                    StatisticsRange.fromKeyword(words[0]).orElseThrow(this::invalidFormat));
+        }
+        if (words.length != 2) {
+            throw invalidFormat();
+        }
+
+        LocalDate start = parseDate(words[0]);
+        LocalDate end = parseDate(words[1]);
+        if (start.isAfter(end)) {
+            throw new ParseException(MESSAGE_START_AFTER_END);
+        }
+        return new StatsCommand(start, end);
+    }
+
+    private LocalDate parseDate(String date) throws ParseException {
+        try {
+            return LocalDate.parse(
+                    date, StatsCommand.DATE_FORMAT.withResolverStyle(ResolverStyle.STRICT));
+        } catch (DateTimeParseException e) {
+            throw invalidFormat();
+        }
+    }
+
+    private ParseException invalidFormat() {
+        return new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
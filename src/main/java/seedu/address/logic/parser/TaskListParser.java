@@ -12,10 +12,14 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DoneCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PomCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /** Parses user input. */
@@ -63,6 +67,18 @@ public class TaskListParser {
             case FindCommand.COMMAND_WORD:
                 return new FindCommandParser().parse(arguments);
 
+            case SearchCommand.COMMAND_WORD:
+                return new SearchCommandParser().parse(arguments);
+
+            case FilterCommand.COMMAND_WORD:
+                return new FilterCommandParser().parse(arguments);
+
+            case SortCommand.COMMAND_WORD:
+                return new SortCommandParser().parse(arguments);
+
+            case StatsCommand.COMMAND_WORD:
+                return new StatsCommandParser().parse(arguments);
+
             case ListCommand.COMMAND_WORD:
                 return new ListCommand();
 
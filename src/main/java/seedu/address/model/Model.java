@@ -1,9 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.reminder.ReminderHandler;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.statistics.PomodoroSession;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
+import seedu.address.model.task.NameContainsKeywordsPredicate;
 import seedu.address.model.task.Task;
 import seedu.address.ui.PetDisplayHandler;
 
@@ -64,6 +73,54 @@ public interface Model {
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate},
+     * finding the matching tasks through the task list's name index.
+     *
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredTaskList(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code filter},
+     * testing only the tasks that the task list's field indexes find may match it.
+     *
+     * @throws NullPointerException if {@code filter} is null.
+     */
+    void updateFilteredTaskList(TaskFilter filter);
+
+    /**
+     * Updates the filtered person list to show the tasks matching {@code query}, ranked from the
+     * most relevant to the least.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void searchTasks(SearchQuery query);
+
+    /**
+     * Sorts the filtered person list by {@code comparator}. The order is kept when the filter is
+     * updated, except while the results of a search are shown, which are ranked instead.
+     *
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void sortFilteredTaskList(Comparator<Task> comparator);
+
+    /**
+     * Sets the handler that the tasks whose reminders are due are handed to. It is called on the
+     * reminder timer thread, not on the thread that owns the model.
+     *
+     * @throws NullPointerException if {@code handler} is null.
+     */
+    void setReminderHandler(ReminderHandler handler);
+
+    /**
+     * Removes the reminders of {@code tasks}, which have fired, from the tasks in the address book.
+     * A repeating reminder is moved to its next occurrence instead. Tasks that have since been
+     * deleted, or given another reminder, are left as they are. Returns the tasks whose reminders
+     * were dismissed.
+     */
+    List<Task> dismissReminders(List<Task> tasks);
+
     ReadOnlyPet getPet();
 
     void setPetName(String name);
@@ -72,9 +129,40 @@ public interface Model {
 
     PetDisplayHandler getPetDisplayHandler();
 
-    void updatePetDisplayHandler();
-
     ReadOnlyPomodoro getPomodoro();
 
     void setPomodoroTask(Task task);
+
+    /** Starts a pomodoro of {@code length} on {@code task}, replacing the running one if any. */
+    void startPomodoro(Task task, Duration length);
+
+    /** Pauses the running pomodoro, keeping the time it has left. */
+    void pausePomodoro();
+
+    /** Runs the paused pomodoro again from the time it had left. */
+    void resumePomodoro();
+
+    /** Records the time the running pomodoro has left now, to be saved. It keeps running. */
+    void recordPomodoroTimeLeft();
+
+    /** Ends the pomodoro of the running task, if any. */
+    void stopPomodoro();
+
+    /** Records {@code session}, a pomodoro that has just completed or been aborted. */
+    void addPomodoroSession(PomodoroSession session);
+
+    /** Returns the time spent in the pomodoro sessions recorded so far. */
+    ReadOnlySessionStatistics getPomodoroStatistics();
+
+    /**
+     * Returns the version of the task list. The version changes whenever the task list is modified
+     * and stays the same otherwise.
+     */
+    long getTaskListVersion();
+
+    /** Returns the version of the pet, as described in {@link #getTaskListVersion()}. */
+    long getPetVersion();
+
+    /** Returns the version of the pomodoro, as described in {@link #getTaskListVersion()}. */
+    long getPomodoroVersion();
 }
@@ -4,12 +4,29 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.reminder.ReminderHandler;
+import seedu.address.model.reminder.ReminderScheduler;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchResults;
+import seedu.address.model.statistics.PomodoroSession;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
+import seedu.address.model.statistics.SessionStatistics;
+import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.Reminder;
+import seedu.address.model.task.SortableTaskList;
 import seedu.address.model.task.Task;
 import seedu.address.ui.PetDisplayHandler;
 
@@ -22,30 +39,50 @@ public class ModelManager implements Model {
     private final TaskList taskList;
     private final Pet pet;
     private final Pomodoro pomodoro;
+    private final SessionStatistics pomodoroStatistics;
     private final PetDisplayHandler petDisplayHandler;
     private final UserPrefs userPrefs;
     private final FilteredList<Task> filteredTasks;
+    private final SortableTaskList sortedTasks;
+    private final ReminderScheduler reminderScheduler = new ReminderScheduler();
+    private Comparator<Task> taskOrder; // Null until the tasks are sorted
 
-    /** Initializes a ModelManager with the given taskList and userPrefs. */
+    /**
+     * Initializes a ModelManager with the given taskList and userPrefs, and the totals of the
+     * pomodoro sessions recorded before in {@code pomodoroStatistics}.
+     */
     public ModelManager(
             ReadOnlyTaskList taskList,
             ReadOnlyPet pet,
             ReadOnlyPomodoro pomodoro,
+            ReadOnlySessionStatistics pomodoroStatistics,
             ReadOnlyUserPrefs userPrefs) {
         super();
-        requireAllNonNull(taskList, userPrefs);
+        requireAllNonNull(taskList, pomodoroStatistics, userPrefs);
 
         logger.fine("Initializing with Task List: " + taskList + " and user prefs " + userPrefs);
 
         this.taskList = new TaskList(taskList);
         this.pet = new Pet(pet); // initialize a pet as a model
         this.pomodoro = new Pomodoro(pomodoro); // initialize a pet as a model
+        this.pomodoroStatistics = new SessionStatistics(pomodoroStatistics);
         this.petDisplayHandler = new PetDisplayHandler(this.pet);
         logger.info(String.format("Initializing with Pet: %s", this.pet.toString()));
         logger.info(String.format("Initializing with Pomodoro: %s", this.pomodoro.toString()));
 
         this.userPrefs = new UserPrefs(userPrefs);
         filteredTasks = new FilteredList<>(this.taskList.getTaskList());
+        sortedTasks = new SortableTaskList(filteredTasks);
+        this.taskList.getTasksWithReminders().forEach(reminderScheduler::schedule);
+    }
+
+    /** Initializes a ModelManager with the given taskList and userPrefs, and no past sessions. */
+    public ModelManager(
+            ReadOnlyTaskList taskList,
+            ReadOnlyPet pet,
+            ReadOnlyPomodoro pomodoro,
+            ReadOnlyUserPrefs userPrefs) {
+        this(taskList, pet, pomodoro, new SessionStatistics(), userPrefs);
     }
 
     public ModelManager() {
@@ -94,6 +131,8 @@ public class ModelManager implements Model {
     @Override
     public void setTaskList(ReadOnlyTaskList taskList) {
         this.taskList.resetData(taskList);
+        reminderScheduler.cancelAll();
+        this.taskList.getTasksWithReminders().forEach(reminderScheduler::schedule);
     }
 
     @Override
@@ -110,11 +149,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteTask(Task target) {
         taskList.removeTask(target);
+        reminderScheduler.cancel(target);
     }
 
     @Override
     public void addTask(Task task) {
         taskList.addTask(task);
+        reminderScheduler.schedule(task);
         updateFilteredTaskList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -123,6 +164,12 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedTask);
 
         taskList.setTask(target, editedTask);
+        reminderScheduler.reschedule(target, editedTask);
+    }
+
+    @Override
+    public long getTaskListVersion() {
+        return taskList.getVersion();
     }
 
     // =========== Filtered Task List Accessors
@@ -134,15 +181,80 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return filteredTasks;
+        return sortedTasks;
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
+        sortedTasks.setComparator(taskOrder);
         filteredTasks.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredTaskList(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        sortedTasks.setComparator(taskOrder);
+        filteredTasks.setPredicate(taskList.getIndexedPredicate(predicate));
+    }
+
+    @Override
+    public void updateFilteredTaskList(TaskFilter filter) {
+        requireNonNull(filter);
+        sortedTasks.setComparator(taskOrder);
+        filteredTasks.setPredicate(taskList.getIndexedPredicate(filter));
+    }
+
+    @Override
+    public void searchTasks(SearchQuery query) {
+        requireNonNull(query);
+        SearchResults results = taskList.search(query);
+        filteredTasks.setPredicate(results);
+        sortedTasks.setComparator(results.getRankComparator());
+    }
+
+    @Override
+    public void sortFilteredTaskList(Comparator<Task> comparator) {
+        requireNonNull(comparator);
+        taskOrder = comparator;
+        sortedTasks.setComparator(comparator);
+    }
+
+    @Override
+    public void setReminderHandler(ReminderHandler handler) {
+        requireNonNull(handler);
+        reminderScheduler.setHandler(handler);
+    }
+
+    @Override
+    public List<Task> dismissReminders(List<Task> tasks) {
+        requireNonNull(tasks);
+        List<Task> dismissed = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Task task : tasks) {
+            Optional<Task> current = taskList.getSameTask(task);
+            if (current.isPresent()
+                    && current.get().getOptionalReminder().equals(task.getOptionalReminder())) {
+                Task currentTask = current.get();
+                Optional<Reminder> nextReminder =
+                        currentTask
+                                .getOptionalReminder()
+                                .flatMap(reminder -> reminder.getNextReminder(now));
+                setTask(
+                        currentTask,
+                        new Task(
+                                currentTask.getName(),
+                                currentTask.getPriority(),
+                                currentTask.getDescription(),
+                                currentTask.getDone(),
+                                currentTask.getTags(),
+                                nextReminder));
+                dismissed.add(currentTask);
+            }
+        }
+        return dismissed;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -179,13 +291,13 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public PetDisplayHandler getPetDisplayHandler() {
-        return petDisplayHandler;
+    public long getPetVersion() {
+        return pet.getVersion();
     }
 
     @Override
-    public void updatePetDisplayHandler() {
-        this.petDisplayHandler.updatePetDisplay();
+    public PetDisplayHandler getPetDisplayHandler() {
+        return petDisplayHandler;
     }
 
     // ============================ Pomodoro Manager
@@ -194,6 +306,46 @@ public class ModelManager implements Model {
         this.pomodoro.setTask(task);
     }
 
+    @Override
+    public void startPomodoro(Task task, Duration length) {
+        pomodoro.start(task, length);
+    }
+
+    @Override
+    public void pausePomodoro() {
+        pomodoro.pause();
+    }
+
+    @Override
+    public void resumePomodoro() {
+        pomodoro.resume();
+    }
+
+    @Override
+    public void recordPomodoroTimeLeft() {
+        pomodoro.recordTimeLeft();
+    }
+
+    @Override
+    public void stopPomodoro() {
+        pomodoro.stop();
+    }
+
+    @Override
+    public void addPomodoroSession(PomodoroSession session) {
+        pomodoroStatistics.record(session);
+    }
+
+    @Override
+    public ReadOnlySessionStatistics getPomodoroStatistics() {
+        return pomodoroStatistics;
+    }
+
+    @Override
+    public long getPomodoroVersion() {
+        return pomodoro.getVersion();
+    }
+
     @Override
     public void incrementExp() {
         this.pet.incrementExp();
@@ -1,23 +1,25 @@
 package seedu.address.model;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
 public class Pet implements ReadOnlyPet {
     private static final String DEFAULT_NAME = "BB Productive";
-    private static final String DEFAULT_EXP = "0";
-    private static final String DEFAULT_LEVEL = "1";
-    public String exp;
-    public String level;
+    private static final int DEFAULT_EXP = 0;
+    private static final int DEFAULT_LEVEL = 1;
+    private final ReadOnlyIntegerWrapper exp;
+    private final ReadOnlyIntegerWrapper level;
     public String name;
+    private long version;
 
-    public Pet(String name, String exp, String level) {
-        this.exp = exp;
-        this.level = level;
+    public Pet(String name, int exp, int level) {
+        this.exp = new ReadOnlyIntegerWrapper(exp);
+        this.level = new ReadOnlyIntegerWrapper(level);
         this.name = name;
     }
 
     public Pet(ReadOnlyPet source) {
-        this.exp = source.getExp();
-        this.level = source.getLevel();
-        this.name = source.getName();
+        this(source.getName(), source.getExp(), source.getLevel());
     }
 
     public Pet() {
@@ -26,17 +28,28 @@ public class Pet implements ReadOnlyPet {
 
     public void setName(String name) {
         this.name = name;
+        version++;
     }
 
-    // When a task is done, exp level increases by 5
+    /**
+     * Increases the pet's exp by 5, as when a task is done, and levels it up if the exp reaches the
+     * next level. The level is set first, and only if it changes, so a listener of the exp sees the
+     * pet's new level along with its new exp.
+     */
     public void incrementExp() {
-        int newExp = Integer.parseInt(this.exp) + 5;
-        this.exp = Integer.toString(newExp);
+        int newExp = exp.get() + 5;
+        version++;
+
+        int newLevel = (int) Math.ceil(newExp / 99.0);
+        if (newLevel != level.get()) {
+            level.set(newLevel);
+        }
+        exp.set(newExp);
+    }
 
-        // update level
-        int expInteger = Integer.parseInt(this.exp);
-        int levelInteger = (int) Math.ceil(expInteger / 99.0);
-        this.level = Integer.toString(levelInteger);
+    /** Returns the number of modifications made to this pet since it was created. */
+    public long getVersion() {
+        return version;
     }
 
     @Override
@@ -45,17 +58,28 @@ public class Pet implements ReadOnlyPet {
     }
 
     @Override
-    public String getLevel() {
-        return level;
+    public int getLevel() {
+        return level.get();
+    }
+
+    @Override
+    public int getExp() {
+        return exp.get();
+    }
+
+    @Override
+    public ReadOnlyIntegerProperty levelProperty() {
+        return level.getReadOnlyProperty();
     }
 
     @Override
-    public String getExp() {
-        return this.exp;
+    public ReadOnlyIntegerProperty expProperty() {
+        return exp.getReadOnlyProperty();
     }
 
     @Override
     public String toString() {
-        return String.format("Hi I'm pet %s! my Exp is %s and my level is %s", name, exp, level);
+        return String.format(
+                "Hi I'm pet %s! my Exp is %d and my level is %d", name, getExp(), getLevel());
     }
 }
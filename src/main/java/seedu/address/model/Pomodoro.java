@@ -1,16 +1,51 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.function.LongSupplier;
 import seedu.address.model.task.Task;
 
+/**
+ * The pomodoro of the running task, if any, and the minutes it has left.
+ *
+ * <p>While a pomodoro is running, its time left is worked out from the monotonic clock of {@link
+ * System#nanoTime()} rather than counted down, so it does not drift however seldom it is read. The
+ * time left read at any moment can be saved, and a pomodoro read back continues from exactly that
+ * time.
+ */
 public class Pomodoro implements ReadOnlyPomodoro {
     private static final String DEFAULT_TIME = "25.0";
-    public static final String TIME_REGEX = "\\d+.?\\d*";
+    public static final String TIME_REGEX = "\\d+\\.?\\d*";
+
+    private static final BigDecimal NANOS_PER_MINUTE = BigDecimal.valueOf(60_000_000_000L);
+    private static final int MINUTE_DECIMAL_PLACES = 9; // Keeps the time left to a microsecond
 
     public String defaultTime;
-    public String timeLeft;
+    public String timeLeft; // When the pomodoro last started or paused, if it is running
     public Task runningTask; // runningTask will be null if not running tasks
+    private boolean isPaused;
+    private long resumedAtNanos; // Clock time when the running pomodoro last started
+    private final LongSupplier nanoClock;
+    private long version;
 
-    public Pomodoro(String defaultTime, String timeLeft, Task runningTask) {
+    /**
+     * Creates a pomodoro of {@code runningTask} with {@code timeLeft} minutes left. The pomodoro
+     * runs from now on unless it {@code isPaused}.
+     */
+    public Pomodoro(String defaultTime, String timeLeft, Task runningTask, boolean isPaused) {
+        this(defaultTime, timeLeft, runningTask, isPaused, System::nanoTime);
+    }
+
+    /** Similar to {@link #Pomodoro(String, String, Task, boolean)}, timed by {@code nanoClock}. */
+    Pomodoro(
+            String defaultTime,
+            String timeLeft,
+            Task runningTask,
+            boolean isPaused,
+            LongSupplier nanoClock) {
         if (defaultTime == null || !defaultTime.matches(TIME_REGEX)) {
             defaultTime = DEFAULT_TIME;
         }
@@ -22,10 +57,22 @@ public class Pomodoro implements ReadOnlyPomodoro {
         this.defaultTime = defaultTime;
         this.timeLeft = timeLeft;
         this.runningTask = runningTask;
+        this.isPaused = isPaused;
+        this.nanoClock = nanoClock;
+        this.resumedAtNanos = nanoClock.getAsLong();
     }
 
+    public Pomodoro(String defaultTime, String timeLeft, Task runningTask) {
+        this(defaultTime, timeLeft, runningTask, false);
+    }
+
+    /** Creates a copy of {@code source}, which runs on from its time left if it is running. */
     public Pomodoro(ReadOnlyPomodoro source) {
-        this(source.getDefaultTime(), source.getTimeLeft(), source.getRunningTask());
+        this(
+                source.getDefaultTime(),
+                source.getTimeLeft(),
+                source.getRunningTask(),
+                source.isPaused());
     }
 
     public Pomodoro() {
@@ -34,6 +81,69 @@ public class Pomodoro implements ReadOnlyPomodoro {
 
     public void setTask(Task runningTask) {
         this.runningTask = runningTask;
+        version++;
+    }
+
+    /** Starts a pomodoro of {@code length} on {@code task}, replacing the running one if any. */
+    public void start(Task task, Duration length) {
+        requireNonNull(task);
+        requireNonNull(length);
+        runningTask = task;
+        timeLeft = toMinutes(length.toNanos());
+        isPaused = false;
+        resumedAtNanos = nanoClock.getAsLong();
+        version++;
+    }
+
+    /** Pauses the running pomodoro, keeping the time it has left. */
+    public void pause() {
+        if (!isRunning()) {
+            return;
+        }
+        timeLeft = getTimeLeft();
+        isPaused = true;
+        version++;
+    }
+
+    /** Runs the paused pomodoro again from the time it had left. */
+    public void resume() {
+        if (runningTask == null || !isPaused) {
+            return;
+        }
+        isPaused = false;
+        resumedAtNanos = nanoClock.getAsLong();
+        version++;
+    }
+
+    /**
+     * Records the time the running pomodoro has left now, so that it is saved with that time left.
+     * The pomodoro keeps running.
+     */
+    public void recordTimeLeft() {
+        if (!isRunning()) {
+            return;
+        }
+        timeLeft = getTimeLeft();
+        resumedAtNanos = nanoClock.getAsLong();
+        version++;
+    }
+
+    /** Ends the pomodoro of the running task, if any. */
+    public void stop() {
+        runningTask = null;
+        timeLeft = defaultTime;
+        isPaused = false;
+        version++;
+    }
+
+    /** Returns the number of modifications made to this pomodoro since it was created. */
+    public long getVersion() {
+        return version;
+    }
+
+    /** Returns true if there is a pomodoro that is counting down. */
+    public boolean isRunning() {
+        return runningTask != null && !isPaused;
     }
 
     @Override
@@ -48,13 +158,44 @@ public class Pomodoro implements ReadOnlyPomodoro {
 
     @Override
     public String getTimeLeft() {
-        return this.timeLeft;
+        return isRunning() ? toMinutes(getRemainingTime().toNanos()) : timeLeft;
+    }
+
+    @Override
+    public boolean isPaused() {
+        return isPaused;
+    }
+
+    @Override
+    public Duration getRemainingTime() {
+        long nanosLeft = toNanos(timeLeft);
+        if (isRunning()) {
+            nanosLeft = Math.max(0, nanosLeft - (nanoClock.getAsLong() - resumedAtNanos));
+        }
+        return Duration.ofNanos(nanosLeft);
+    }
+
+    private static String toMinutes(long nanos) {
+        return BigDecimal.valueOf(nanos)
+                .divide(NANOS_PER_MINUTE, MINUTE_DECIMAL_PLACES, RoundingMode.HALF_UP)
+                .stripTrailingZeros()
+                .toPlainString();
+    }
+
+    /** Returns {@code minutes} in nanoseconds, to the microsecond it was saved with. */
+    private static long toNanos(String minutes) {
+        return new BigDecimal(minutes)
+                .multiply(NANOS_PER_MINUTE)
+                .setScale(-3, RoundingMode.HALF_UP)
+                .longValue();
     }
 
     @Override
     public String toString() {
         return String.format(
                 "Hi running task is: %s! my timeleft is %s and my default time is %s",
-                runningTask == null ? "No tasks!" : runningTask.toString(), timeLeft, defaultTime);
+                runningTask == null ? "No tasks!" : runningTask.toString(),
+                getTimeLeft(),
+                defaultTime);
     }
 }
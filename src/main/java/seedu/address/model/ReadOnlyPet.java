@@ -1,9 +1,17 @@
 package seedu.address.model;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+
 public interface ReadOnlyPet {
     public String getName();
 
-    public String getLevel();
+    public int getLevel();
+
+    public int getExp();
+
+    /** Returns the level, which can be observed for changes. */
+    public ReadOnlyIntegerProperty levelProperty();
 
-    public String getExp();
+    /** Returns the experience, which can be observed for changes. */
+    public ReadOnlyIntegerProperty expProperty();
 }
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import java.time.Duration;
 import seedu.address.model.task.Task;
 
 public interface ReadOnlyPomodoro {
@@ -7,5 +8,12 @@ public interface ReadOnlyPomodoro {
 
     public String getDefaultTime();
 
+    /** Returns the minutes the pomodoro of the running task has left at this moment. */
     public String getTimeLeft();
+
+    /** Returns true if the pomodoro of the running task is paused. */
+    public boolean isPaused();
+
+    /** Returns the time the pomodoro of the running task has left at this moment. */
+    public Duration getRemainingTime();
 }
@@ -1,6 +1,9 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import javafx.collections.ObservableList;
+import seedu.address.model.task.Name;
 import seedu.address.model.task.Task;
 
 /** Unmodifiable view of an address book */
@@ -11,4 +14,9 @@ public interface ReadOnlyTaskList {
      * persons.
      */
     ObservableList<Task> getTaskList();
+
+    /** Returns the names of the tasks in the list, in order. */
+    default List<Name> getTaskNames() {
+        return getTaskList().stream().map(Task::getName).collect(Collectors.toList());
+    }
 }
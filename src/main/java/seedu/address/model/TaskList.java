@@ -2,9 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import javafx.collections.ObservableList;
+import seedu.address.model.filter.TaskFieldIndex;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.search.SearchIndex;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.search.SearchResults;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.NameContainsKeywordsPredicate;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
 import seedu.address.model.task.UniqueTaskList;
 
 /**
@@ -12,8 +24,26 @@ import seedu.address.model.task.UniqueTaskList;
  */
 public class TaskList implements ReadOnlyTaskList {
 
+    /**
+     * The field indexes are only used if at most one in this many tasks may match a filter, as
+     * testing many candidates out of order costs more than testing every task in order.
+     */
+    private static final int MIN_INDEXED_SELECTIVITY = 16;
+
     private final UniqueTaskList tasklist;
 
+    /**
+     * Number of modifications made to this task list since it was created. It is incremented
+     * before each modification, so that listeners of the task list see the new version.
+     */
+    private long version;
+
+    /** Full-text index of the tasks, built by the first search after the tasks are replaced. */
+    private SearchIndex searchIndex;
+
+    /** Indexes of the tasks by field, built by the first filter after the tasks are replaced. */
+    private TaskFieldIndex fieldIndex;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -31,6 +61,7 @@ public class TaskList implements ReadOnlyTaskList {
     public TaskList(ReadOnlyTaskList toBeCopied) {
         this();
         resetData(toBeCopied);
+        version = 0;
     }
 
     //// list overwrite operations
@@ -40,7 +71,10 @@ public class TaskList implements ReadOnlyTaskList {
      * contain duplicate persons.
      */
     public void setTasks(List<Task> tasklist) {
+        version++;
         this.tasklist.setTasks(tasklist);
+        searchIndex = null;
+        fieldIndex = null;
     }
 
     /** Resets the existing data of this {@code TaskList} with {@code newData}. */
@@ -60,9 +94,25 @@ public class TaskList implements ReadOnlyTaskList {
         return tasklist.contains(task);
     }
 
+    /**
+     * Returns the task in the address book with the same identity as {@code task}, if there is
+     * one.
+     */
+    public Optional<Task> getSameTask(Task task) {
+        requireNonNull(task);
+        return tasklist.getSameTask(task);
+    }
+
     /** Adds a person to the address book. The person must not already exist in the address book. */
     public void addTask(Task t) {
+        version++;
         tasklist.add(t);
+        if (searchIndex != null) {
+            searchIndex.add(t);
+        }
+        if (fieldIndex != null) {
+            fieldIndex.add(t);
+        }
     }
 
     /**
@@ -73,18 +123,112 @@ public class TaskList implements ReadOnlyTaskList {
     public void setTask(Task target, Task editedTask) {
         requireNonNull(editedTask);
 
+        version++;
         tasklist.setTask(target, editedTask);
+        if (searchIndex != null) {
+            searchIndex.remove(target);
+            searchIndex.add(editedTask);
+        }
+        if (fieldIndex != null) {
+            fieldIndex.remove(target);
+            fieldIndex.add(editedTask);
+        }
     }
 
     /**
      * Removes {@code key} from this {@code TaskList}. {@code key} must exist in the address book.
      */
     public void removeTask(Task key) {
+        version++;
         tasklist.remove(key);
+        if (searchIndex != null) {
+            searchIndex.remove(key);
+        }
+        if (fieldIndex != null) {
+            fieldIndex.remove(key);
+        }
     }
 
     //// util methods
 
+    /**
+     * Returns the number of modifications made to this task list since it was created. Copying a
+     * task list does not count as a modification.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /** Returns the tasks that have a reminder, without decoding the others from storage. */
+    public List<Task> getTasksWithReminders() {
+        return tasklist.getTasksWithReminders();
+    }
+
+    /**
+     * Returns a predicate that accepts the same tasks as {@code predicate}, but looks the matching
+     * tasks up in the name index instead of testing the words of each name. The lookup is done
+     * once, so after this task list is modified the predicate tests tasks with {@code predicate}
+     * instead.
+     */
+    public Predicate<Task> getIndexedPredicate(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Name> names = tasklist.getNamesContainingAnyWord(predicate.getKeywords());
+        long indexedVersion = version;
+        return task ->
+                version == indexedVersion ? names.contains(task.getName()) : predicate.test(task);
+    }
+
+    /**
+     * Returns a predicate that accepts the same tasks as {@code filter}. If the field indexes find
+     * that only a few tasks may match {@code filter}, only those tasks are tested, once, and the
+     * predicate looks tasks up among the matches. After this task list is modified, the predicate
+     * tests tasks with {@code filter} instead. The field indexes are built by the first filter, and
+     * kept up to date from then on.
+     */
+    public Predicate<Task> getIndexedPredicate(TaskFilter filter) {
+        requireNonNull(filter);
+        if (fieldIndex == null) {
+            fieldIndex = new TaskFieldIndex();
+            for (Task task : tasklist) {
+                fieldIndex.add(task);
+            }
+        }
+
+        Optional<Set<TaskIdentity>> candidates = filter.getCandidates(fieldIndex);
+        int taskCount = tasklist.asUnmodifiableObservableList().size();
+        if (!candidates.isPresent()
+                || candidates.get().size() > taskCount / MIN_INDEXED_SELECTIVITY) {
+            return filter;
+        }
+        Set<TaskIdentity> matches = new HashSet<>();
+        for (TaskIdentity candidate : candidates.get()) {
+            if (tasklist.getTask(candidate).filter(filter).isPresent()) {
+                matches.add(candidate);
+            }
+        }
+        long indexedVersion = version;
+        return task ->
+                version == indexedVersion
+                        ? matches.contains(new TaskIdentity(task))
+                        : filter.test(task);
+    }
+
+    /**
+     * Returns the tasks that match {@code query}, ranked by relevance. The full-text index is built
+     * by the first search, and kept up to date from then on.
+     */
+    public SearchResults search(SearchQuery query) {
+        requireNonNull(query);
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex();
+            for (Task task : tasklist) {
+                searchIndex.add(task);
+            }
+        }
+        long searchedVersion = version;
+        return searchIndex.search(query, () -> version == searchedVersion);
+    }
+
     @Override
     public String toString() {
         return tasklist.asUnmodifiableObservableList().size() + " persons";
@@ -96,6 +240,12 @@ public class TaskList implements ReadOnlyTaskList {
         return tasklist.asUnmodifiableObservableList();
     }
 
+    /** Returns the names of the tasks, without decoding the tasks from storage. */
+    @Override
+    public List<Name> getTaskNames() {
+        return tasklist.getNames();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -10,10 +10,23 @@ import seedu.address.commons.core.GuiSettings;
 /** Represents User's preferences. */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** The formats in which the task list can be stored. */
+    public enum TaskListFormat {
+        /** The whole task list is rewritten as JSON on every save. */
+        JSON,
+        /** Changes are appended to a journal that is regularly compacted into a JSON snapshot. */
+        JOURNAL,
+        /** The whole task list is rewritten in a compact binary form on every save. */
+        BINARY,
+        /** Like {@code BINARY}, but tasks are only read from the file when they are needed. */
+        MAPPED
+    }
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path taskListFilePath = Paths.get("data", "tasklist.json");
     private Path petFilePath = Paths.get("data", "pet.json");
     private Path pomodoroFilePath = Paths.get("data", "pomodoro.json");
+    private TaskListFormat taskListFormat = TaskListFormat.JSON;
 
     /** Creates a {@code UserPrefs} with default values. */
     public UserPrefs() {}
@@ -31,6 +44,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setTaskListFilePath(newUserPrefs.getTaskListFilePath());
         setPetFilePath(newUserPrefs.getPetFilePath());
         setPomodoroFilePath(newUserPrefs.getPomodoroFilePath());
+        setTaskListFormat(newUserPrefs.getTaskListFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -69,6 +83,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.pomodoroFilePath = pomodoroFilePath;
     }
 
+    public TaskListFormat getTaskListFormat() {
+        return taskListFormat;
+    }
+
+    public void setTaskListFormat(TaskListFormat taskListFormat) {
+        requireNonNull(taskListFormat);
+        this.taskListFormat = taskListFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +103,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs o = (UserPrefs) other;
 
-        return guiSettings.equals(o.guiSettings) && taskListFilePath.equals(o.taskListFilePath);
+        return guiSettings.equals(o.guiSettings)
+                && taskListFilePath.equals(o.taskListFilePath)
+                && taskListFormat == o.taskListFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, taskListFilePath);
+        return Objects.hash(guiSettings, taskListFilePath, taskListFormat);
     }
 
     @Override
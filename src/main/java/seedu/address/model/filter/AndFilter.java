@@ -0,0 +1,45 @@
+package seedu.address.model.filter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/** Tests that a {@code Task} matches all of the given filters. */
+public class AndFilter extends CompositeFilter {
+
+    public AndFilter(List<TaskFilter> filters) {
+        super(filters);
+    }
+
+    @Override
+    public boolean test(Task task) {
+        for (TaskFilter filter : filters) {
+            if (!filter.test(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** A matching task is among the candidates of every filter, so the fewest are returned. */
+    @Override
+    public Optional<Set<TaskIdentity>> getCandidates(TaskFieldIndex index) {
+        Optional<Set<TaskIdentity>> fewestCandidates = Optional.empty();
+        for (TaskFilter filter : filters) {
+            Optional<Set<TaskIdentity>> candidates = filter.getCandidates(index);
+            if (candidates.isPresent()
+                    && (!fewestCandidates.isPresent()
+                            || candidates.get().size() < fewestCandidates.get().size())) {
+                fewestCandidates = candidates;
+            }
+        }
+        return fewestCandidates;
+    }
+
+    @Override
+    public String toString() {
+        return toString("and");
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A filter that combines other filters. The filters are kept from the cheapest to the most
+ * expensive, so that a test can often be decided by the cheaper filters alone.
+ */
+abstract class CompositeFilter extends TaskFilter {
+
+    protected final List<TaskFilter> filters;
+    private final int cost;
+
+    CompositeFilter(List<TaskFilter> filters) {
+        requireNonNull(filters);
+        List<TaskFilter> sortedFilters = new ArrayList<>(filters);
+        sortedFilters.sort(Comparator.comparingInt(TaskFilter::getCost));
+        this.filters = Collections.unmodifiableList(sortedFilters);
+        this.cost = sortedFilters.stream().mapToInt(TaskFilter::getCost).sum();
+    }
+
+    @Override
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null
+                        && other.getClass() == getClass()
+                        && filters.equals(((CompositeFilter) other).filters)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return filters.hashCode();
+    }
+
+    /** Returns the filters joined by {@code operator}, in parentheses. */
+    protected String toString(String operator) {
+        return filters.stream()
+                .map(TaskFilter::toString)
+                .collect(Collectors.joining(" " + operator + " ", "(", ")"));
+    }
+}
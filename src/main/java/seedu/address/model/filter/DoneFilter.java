@@ -0,0 +1,54 @@
+package seedu.address.model.filter;
+
+import java.util.Optional;
+import java.util.Set;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/** Tests that a {@code Task} is done, or that it is not done. */
+public class DoneFilter extends TaskFilter {
+
+    private final boolean isDone;
+
+    public DoneFilter(boolean isDone) {
+        this.isDone = isDone;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return task.getDone().isDone == isDone;
+    }
+
+    @Override
+    public int getCost() {
+        return 1;
+    }
+
+    @Override
+    public Optional<Set<TaskIdentity>> getCandidates(TaskFieldIndex index) {
+        return Optional.of(index.getTasksWithDone(isDone));
+    }
+
+    /** Returns the opposite filter, which can still be looked up in the index. */
+    @Override
+    public TaskFilter negate() {
+        return new DoneFilter(!isDone);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DoneFilter // instanceof handles nulls
+                        && isDone == ((DoneFilter) other).isDone); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(isDone);
+    }
+
+    @Override
+    public String toString() {
+        return isDone ? "done" : "not done";
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/** Tests that a {@code Task} does not match the given filter. */
+public class NotFilter extends TaskFilter {
+
+    private final TaskFilter filter;
+
+    public NotFilter(TaskFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return !filter.test(task);
+    }
+
+    @Override
+    public int getCost() {
+        return filter.getCost();
+    }
+
+    /** The tasks matching the negated filter can be looked up, but not the others. */
+    @Override
+    public Optional<Set<TaskIdentity>> getCandidates(TaskFieldIndex index) {
+        return Optional.empty();
+    }
+
+    @Override
+    public TaskFilter negate() {
+        return filter;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotFilter // instanceof handles nulls
+                        && filter.equals(((NotFilter) other).filter)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ~filter.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "not " + filter;
+    }
+}
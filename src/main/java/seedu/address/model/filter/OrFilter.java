@@ -0,0 +1,48 @@
+package seedu.address.model.filter;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/** Tests that a {@code Task} matches any of the given filters. */
+public class OrFilter extends CompositeFilter {
+
+    public OrFilter(List<TaskFilter> filters) {
+        super(filters);
+    }
+
+    @Override
+    public boolean test(Task task) {
+        for (TaskFilter filter : filters) {
+            if (filter.test(task)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A matching task is among the candidates of some filter, so the candidates of all the filters
+     * are returned, unless one of them may match any task.
+     */
+    @Override
+    public Optional<Set<TaskIdentity>> getCandidates(TaskFieldIndex index) {
+        Set<TaskIdentity> allCandidates = new LinkedHashSet<>();
+        for (TaskFilter filter : filters) {
+            Optional<Set<TaskIdentity>> candidates = filter.getCandidates(index);
+            if (!candidates.isPresent()) {
+                return Optional.empty();
+            }
+            allCandidates.addAll(candidates.get());
+        }
+        return Optional.of(allCandidates);
+    }
+
+    @Override
+    public String toString() {
+        return toString("or");
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/** Tests that a {@code Task} has the given {@code Priority}. */
+public class PriorityFilter extends TaskFilter {
+
+    private final Priority priority;
+
+    public PriorityFilter(Priority priority) {
+        requireNonNull(priority);
+        this.priority = priority;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return task.getPriority().equals(priority);
+    }
+
+    @Override
+    public int getCost() {
+        return 1;
+    }
+
+    @Override
+    public Optional<Set<TaskIdentity>> getCandidates(TaskFieldIndex index) {
+        return Optional.of(index.getTasksWithPriority(priority));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PriorityFilter // instanceof handles nulls
+                        && priority.equals(((PriorityFilter) other).priority)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return priority.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "p/" + priority;
+    }
+}
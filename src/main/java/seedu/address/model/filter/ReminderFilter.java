@@ -0,0 +1,41 @@
+package seedu.address.model.filter;
+
+import java.util.Optional;
+import java.util.Set;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/** Tests that a {@code Task} has a reminder. */
+public class ReminderFilter extends TaskFilter {
+
+    @Override
+    public boolean test(Task task) {
+        return task.getOptionalReminder().isPresent();
+    }
+
+    @Override
+    public int getCost() {
+        return 1;
+    }
+
+    /** Reminders are not indexed, so any task may match. */
+    @Override
+    public Optional<Set<TaskIdentity>> getCandidates(TaskFieldIndex index) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof ReminderFilter;
+    }
+
+    @Override
+    public int hashCode() {
+        return ReminderFilter.class.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "reminder";
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/** Tests that a {@code Task} has the given {@code Tag}. */
+public class TagFilter extends TaskFilter {
+
+    private final Tag tag;
+
+    public TagFilter(Tag tag) {
+        requireNonNull(tag);
+        this.tag = tag;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return task.getTags().contains(tag);
+    }
+
+    /** Looking a tag up hashes it, which costs more than comparing a priority. */
+    @Override
+    public int getCost() {
+        return 2;
+    }
+
+    @Override
+    public Optional<Set<TaskIdentity>> getCandidates(TaskFieldIndex index) {
+        return Optional.of(index.getTasksWithTag(tag));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagFilter // instanceof handles nulls
+                        && tag.equals(((TagFilter) other).tag)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return tag.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "t/" + tag.tagName;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/**
+ * Secondary indexes of tasks by priority, by whether they are done and by tag. Tasks are referred
+ * to by their {@link TaskIdentity}, so the index keeps no task in memory, and must not hold two
+ * tasks with the same identity. The sets of identities are linked, so that their tasks are visited
+ * in the order they were added, which is mostly their order in the task list.
+ */
+public class TaskFieldIndex {
+
+    private final Map<Priority, Set<TaskIdentity>> tasksByPriority = new HashMap<>();
+    private final Map<Boolean, Set<TaskIdentity>> tasksByDone = new HashMap<>();
+    private final Map<Tag, Set<TaskIdentity>> tasksByTag = new HashMap<>();
+
+    /** Adds {@code task} to the index. */
+    public void add(Task task) {
+        requireNonNull(task);
+        TaskIdentity identity = new TaskIdentity(task);
+        addTo(tasksByPriority, task.getPriority(), identity);
+        addTo(tasksByDone, task.getDone().isDone, identity);
+        for (Tag tag : task.getTags()) {
+            addTo(tasksByTag, tag, identity);
+        }
+    }
+
+    /** Removes {@code task} from the index. {@code task} must have been added before. */
+    public void remove(Task task) {
+        requireNonNull(task);
+        TaskIdentity identity = new TaskIdentity(task);
+        removeFrom(tasksByPriority, task.getPriority(), identity);
+        removeFrom(tasksByDone, task.getDone().isDone, identity);
+        for (Tag tag : task.getTags()) {
+            removeFrom(tasksByTag, tag, identity);
+        }
+    }
+
+    /** Returns the identities of the tasks with {@code priority}. */
+    public Set<TaskIdentity> getTasksWithPriority(Priority priority) {
+        return get(tasksByPriority, priority);
+    }
+
+    /** Returns the identities of the tasks that are done if {@code isDone}, or not otherwise. */
+    public Set<TaskIdentity> getTasksWithDone(boolean isDone) {
+        return get(tasksByDone, isDone);
+    }
+
+    /** Returns the identities of the tasks with {@code tag}. */
+    public Set<TaskIdentity> getTasksWithTag(Tag tag) {
+        return get(tasksByTag, tag);
+    }
+
+    private static <K> Set<TaskIdentity> get(Map<K, Set<TaskIdentity>> tasksByKey, K key) {
+        requireNonNull(key);
+        return Collections.unmodifiableSet(tasksByKey.getOrDefault(key, Collections.emptySet()));
+    }
+
+    private static <K> void addTo(
+            Map<K, Set<TaskIdentity>> tasksByKey, K key, TaskIdentity identity) {
+        tasksByKey.computeIfAbsent(key, unused -> new LinkedHashSet<>()).add(identity);
+    }
+
+    private static <K> void removeFrom(
+            Map<K, Set<TaskIdentity>> tasksByKey, K key, TaskIdentity identity) {
+        Set<TaskIdentity> identities = tasksByKey.get(key);
+        identities.remove(identity);
+        if (identities.isEmpty()) {
+            tasksByKey.remove(key);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.model.filter;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/**
+ * A node of a filter over the fields of tasks. Besides testing a task, a filter can estimate how
+ * expensive the test is, so that cheaper tests can be made first, and can look the tasks that may
+ * match it up in a {@link TaskFieldIndex}, so that not every task has to be tested.
+ */
+public abstract class TaskFilter implements Predicate<Task> {
+
+    /** Returns a relative estimate of how expensive testing a task against this filter is. */
+    public abstract int getCost();
+
+    /**
+     * Returns the identities of the tasks in {@code index} that may match this filter, or an empty
+     * {@code Optional} if any task may match it.
+     */
+    public abstract Optional<Set<TaskIdentity>> getCandidates(TaskFieldIndex index);
+
+    /** Returns a filter that accepts exactly the tasks that this filter rejects. */
+    public TaskFilter negate() {
+        return new NotFilter(this);
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.model.reminder;
+
+import java.util.List;
+import seedu.address.model.task.Task;
+
+/** Receives the tasks whose reminders are fired by a {@link ReminderScheduler}. */
+public interface ReminderHandler {
+
+    /** Called when the reminder of {@code task} is due. */
+    void remind(Task task);
+
+    /**
+     * Called once with every task whose reminder fell due before the scheduler was started, that
+     * is, while the application was not running.
+     */
+    void remindMissed(List<Task> tasks);
+}
@@ -0,0 +1,223 @@
+package seedu.address.model.reminder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import seedu.address.model.task.Reminder;
+import seedu.address.model.task.Task;
+
+/**
+ * Fires the reminders of tasks when they are due. The reminders are kept in a single queue ordered
+ * by the time they are due, and a single timer thread sleeps until the earliest of them. Whatever
+ * the number of reminders, only that one wake-up is ever scheduled.
+ *
+ * <p>Tasks are immutable, so a task is rescheduled by cancelling the reminder of the task it
+ * replaces and scheduling its own. Due reminders are handed to the handler on the timer thread;
+ * until a handler is set, reminders are kept queued even once due. Reminders that were already due
+ * when the scheduler was created, such as saved reminders missed while the application was closed,
+ * are handed over together rather than one by one.
+ */
+public class ReminderScheduler {
+
+    private static final Comparator<ScheduledReminder> BY_FIRE_TIME =
+            Comparator.<ScheduledReminder, Instant>comparing(scheduled -> scheduled.fireTime)
+                    .thenComparingLong(scheduled -> scheduled.sequenceNumber);
+
+    private final Clock clock;
+    private final Instant startTime;
+    private final NavigableSet<ScheduledReminder> queue = new TreeSet<>(BY_FIRE_TIME);
+    private final Map<Task, ScheduledReminder> scheduledByTask = new HashMap<>();
+
+    private ScheduledExecutorService timer; // Created when first needed
+    private ReminderHandler handler;
+    private long nextSequenceNumber;
+    private ScheduledFuture<?> wakeUp;
+    private Instant wakeUpTime;
+
+    /** Creates a {@code ReminderScheduler} on the system clock, with its own timer thread. */
+    public ReminderScheduler() {
+        this(Clock.systemDefaultZone(), null);
+    }
+
+    /**
+     * Creates a {@code ReminderScheduler} that tells the time with {@code clock} and waits on
+     * {@code timer}, or on its own timer thread if {@code timer} is null.
+     */
+    ReminderScheduler(Clock clock, ScheduledExecutorService timer) {
+        requireNonNull(clock);
+        this.clock = clock;
+        this.timer = timer;
+        this.startTime = clock.instant();
+    }
+
+    /**
+     * Sets the handler that due reminders are handed to, on the timer thread. Reminders that fell
+     * due while there was no handler are handed over straight away.
+     */
+    public synchronized void setHandler(ReminderHandler handler) {
+        requireNonNull(handler);
+        this.handler = handler;
+        scheduleWakeUp();
+    }
+
+    /** Schedules the reminder of {@code task}, if it has one, even if it is already due. */
+    public synchronized void schedule(Task task) {
+        requireNonNull(task);
+        Optional<Reminder> reminder = task.getOptionalReminder();
+        if (!reminder.isPresent()) {
+            return;
+        }
+
+        Instant fireTime =
+                reminder.get().getReminderDateTime().atZone(clock.getZone()).toInstant();
+        ScheduledReminder scheduled =
+                new ScheduledReminder(task, reminder.get(), fireTime, nextSequenceNumber++);
+        ScheduledReminder replaced = scheduledByTask.put(task, scheduled);
+        if (replaced != null) {
+            queue.remove(replaced);
+        }
+        queue.add(scheduled);
+        scheduleWakeUp();
+    }
+
+    /** Cancels the reminder of the task equal to {@code task}, if one is scheduled. */
+    public synchronized void cancel(Task task) {
+        requireNonNull(task);
+        ScheduledReminder scheduled = scheduledByTask.remove(task);
+        if (scheduled != null) {
+            queue.remove(scheduled);
+            scheduleWakeUp();
+        }
+    }
+
+    /** Replaces the reminder of {@code target}, if any, by that of {@code editedTask}, if any. */
+    public synchronized void reschedule(Task target, Task editedTask) {
+        cancel(target);
+        schedule(editedTask);
+    }
+
+    /** Cancels every scheduled reminder. */
+    public synchronized void cancelAll() {
+        scheduledByTask.clear();
+        queue.clear();
+        scheduleWakeUp();
+    }
+
+    /** Returns the number of reminders scheduled. */
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /** Returns the time the earliest scheduled reminder is due, if any. */
+    public synchronized Optional<Instant> getNextFireTime() {
+        return queue.isEmpty() ? Optional.empty() : Optional.of(queue.first().fireTime);
+    }
+
+    /**
+     * Fires the reminders that are due, handing their tasks to the handler if one is set, and waits
+     * for the next one. Returns the tasks whose reminders fired, in the order they were due.
+     */
+    List<Task> fireDueReminders() {
+        List<ScheduledReminder> due = new ArrayList<>();
+        ReminderHandler dueHandler;
+        synchronized (this) {
+            wakeUpTime = null; // So that the next wake-up replaces the one that woke us
+            Instant now = clock.instant();
+            while (!queue.isEmpty() && !queue.first().fireTime.isAfter(now)) {
+                ScheduledReminder scheduled = queue.pollFirst();
+                scheduledByTask.remove(scheduled.task);
+                due.add(scheduled);
+            }
+            dueHandler = handler;
+            scheduleWakeUp();
+        }
+
+        // The handler is called without holding the lock, so that it may schedule reminders
+        List<Task> missed = new ArrayList<>();
+        List<Task> fired = new ArrayList<>();
+        for (ScheduledReminder scheduled : due) {
+            scheduled.reminder.setHasFired();
+            if (scheduled.fireTime.isBefore(startTime)) {
+                missed.add(scheduled.task);
+            }
+            fired.add(scheduled.task);
+        }
+        if (dueHandler != null) {
+            if (!missed.isEmpty()) {
+                dueHandler.remindMissed(missed);
+            }
+            for (ScheduledReminder scheduled : due) {
+                if (!scheduled.fireTime.isBefore(startTime)) {
+                    dueHandler.remind(scheduled.task);
+                }
+            }
+        }
+        return fired;
+    }
+
+    /** Makes the timer wake up when the earliest reminder is due, once there is a handler. */
+    private void scheduleWakeUp() {
+        Instant nextFireTime = queue.isEmpty() || handler == null ? null : queue.first().fireTime;
+        if (nextFireTime != null && nextFireTime.equals(wakeUpTime)) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+            wakeUp = null;
+            wakeUpTime = null;
+        }
+        if (nextFireTime == null) {
+            return;
+        }
+
+        long delayMillis = Math.max(0, Duration.between(clock.instant(), nextFireTime).toMillis());
+        wakeUpTime = nextFireTime;
+        wakeUp = getTimer().schedule(this::fireDueReminders, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private ScheduledExecutorService getTimer() {
+        if (timer == null) {
+            ScheduledThreadPoolExecutor executor =
+                    new ScheduledThreadPoolExecutor(
+                            1,
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "reminders");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            // Cancelled wake-ups would otherwise stay queued until they were due
+            executor.setRemoveOnCancelPolicy(true);
+            timer = executor;
+        }
+        return timer;
+    }
+
+    /** A reminder in the queue. Reminders due at the same time fire in the order scheduled. */
+    private static class ScheduledReminder {
+        private final Task task;
+        private final Reminder reminder;
+        private final Instant fireTime;
+        private final long sequenceNumber;
+
+        ScheduledReminder(Task task, Reminder reminder, Instant fireTime, long sequenceNumber) {
+            this.task = task;
+            this.reminder = reminder;
+            this.fireTime = fireTime;
+            this.sequenceNumber = sequenceNumber;
+        }
+    }
+}
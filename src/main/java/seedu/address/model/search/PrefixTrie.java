@@ -0,0 +1,197 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * A map from strings to values that can list the keys starting with a prefix, or within a number of
+ * edits of a string, without visiting the other keys.
+ *
+ * <p>Each node keeps its children in a sorted array rather than a map, as most nodes have only one
+ * or two children.
+ */
+public class PrefixTrie<V> {
+
+    private final Node<V> root = new Node<>();
+    private int size;
+
+    /** Returns the number of keys in the trie. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns the value of {@code key}, or null if the trie does not contain {@code key}. */
+    public V get(String key) {
+        requireNonNull(key);
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Returns the value of {@code key}, first adding {@code key} with a value from {@code
+     * valueSupplier} if the trie does not contain it.
+     */
+    public V computeIfAbsent(String key, Supplier<V> valueSupplier) {
+        requireNonNull(key);
+        Node<V> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrNew(key.charAt(i));
+        }
+        if (node.value == null) {
+            node.value = valueSupplier.get();
+            size++;
+        }
+        return node.value;
+    }
+
+    /** Removes {@code key} and its value, along with any nodes that no longer lead to a key. */
+    public void remove(String key) {
+        requireNonNull(key);
+        if (remove(root, key, 0)) {
+            size--;
+        }
+    }
+
+    /** Returns true if {@code key} was removed from below {@code node}. */
+    private boolean remove(Node<V> node, String key, int depth) {
+        if (depth == key.length()) {
+            boolean isRemoved = node.value != null;
+            node.value = null;
+            return isRemoved;
+        }
+
+        Node<V> child = node.child(key.charAt(depth));
+        if (child == null || !remove(child, key, depth + 1)) {
+            return false;
+        }
+        if (child.value == null && child.childCount == 0) {
+            node.removeChild(key.charAt(depth));
+        }
+        return true;
+    }
+
+    /** Passes every key that starts with {@code prefix}, and its value, to {@code action}. */
+    public void forEachWithPrefix(String prefix, BiConsumer<String, V> action) {
+        requireNonNull(prefix);
+        Node<V> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node != null) {
+            forEachBelow(node, new StringBuilder(prefix), action);
+        }
+    }
+
+    private void forEachBelow(Node<V> node, StringBuilder key, BiConsumer<String, V> action) {
+        if (node.value != null) {
+            action.accept(key.toString(), node.value);
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            key.append(node.keys[i]);
+            forEachBelow(node.children[i], key, action);
+            key.setLength(key.length() - 1);
+        }
+    }
+
+    /**
+     * Passes every key within {@code maxEdits} insertions, deletions or substitutions of {@code
+     * term}, and its value, to {@code action}. Branches of the trie that cannot lead to such a key
+     * are not visited.
+     */
+    public void forEachWithinEdits(String term, int maxEdits, BiConsumer<String, V> action) {
+        requireNonNull(term);
+        int[] firstRow = new int[term.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        forEachWithinEdits(root, new StringBuilder(), term, firstRow, maxEdits, action);
+    }
+
+    /**
+     * Visits {@code node}, whose key is {@code key}. {@code previousRow} holds the edit distances
+     * from {@code key} to each prefix of {@code term}.
+     */
+    private void forEachWithinEdits(
+            Node<V> node,
+            StringBuilder key,
+            String term,
+            int[] previousRow,
+            int maxEdits,
+            BiConsumer<String, V> action) {
+        if (node.value != null && previousRow[term.length()] <= maxEdits) {
+            action.accept(key.toString(), node.value);
+        }
+
+        for (int i = 0; i < node.childCount; i++) {
+            char c = node.keys[i];
+            int[] row = new int[previousRow.length];
+            row[0] = previousRow[0] + 1;
+            int minDistance = row[0];
+            for (int j = 1; j < row.length; j++) {
+                int substitution = previousRow[j - 1] + (term.charAt(j - 1) == c ? 0 : 1);
+                row[j] = Math.min(substitution, Math.min(row[j - 1], previousRow[j]) + 1);
+                minDistance = Math.min(minDistance, row[j]);
+            }
+
+            // Extending the key can only keep or increase the smallest distance
+            if (minDistance <= maxEdits) {
+                key.append(c);
+                forEachWithinEdits(node.children[i], key, term, row, maxEdits, action);
+                key.setLength(key.length() - 1);
+            }
+        }
+    }
+
+    /** A node of the trie, with its children sorted by their characters. */
+    private static class Node<V> {
+        private static final char[] NO_KEYS = new char[0];
+
+        private char[] keys = NO_KEYS;
+        private Node<V>[] children;
+        private int childCount;
+        private V value;
+
+        Node<V> child(char c) {
+            int i = Arrays.binarySearch(keys, 0, childCount, c);
+            return i < 0 ? null : children[i];
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<V> childOrNew(char c) {
+            int i = Arrays.binarySearch(keys, 0, childCount, c);
+            if (i >= 0) {
+                return children[i];
+            }
+
+            int insertAt = -i - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children =
+                        children == null
+                                ? (Node<V>[]) new Node<?>[capacity]
+                                : Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            keys[insertAt] = c;
+            children[insertAt] = new Node<>();
+            childCount++;
+            return children[insertAt];
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, 0, childCount, c);
+            System.arraycopy(keys, i + 1, keys, i, childCount - i - 1);
+            System.arraycopy(children, i + 1, children, i, childCount - i - 1);
+            childCount--;
+            children[childCount] = null;
+        }
+    }
+}
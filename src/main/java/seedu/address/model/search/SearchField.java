@@ -0,0 +1,14 @@
+package seedu.address.model.search;
+
+/** The fields of a task that are searched, with how much a match in each field counts. */
+public enum SearchField {
+    NAME(3),
+    TAG(2),
+    DESCRIPTION(1);
+
+    public final double weight;
+
+    SearchField(double weight) {
+        this.weight = weight;
+    }
+}
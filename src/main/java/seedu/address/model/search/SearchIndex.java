@@ -0,0 +1,254 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/**
+ * A full-text index of the names, descriptions and tags of tasks. Every term is kept in a {@link
+ * PrefixTrie} with its postings: the tasks containing the term, and how often each field of those
+ * tasks contains it. Postings refer to tasks through numbered documents, so that scoring a match
+ * neither hashes the task nor allocates, and documents refer to tasks by their {@link
+ * TaskIdentity}, so that the index keeps no task in memory.
+ *
+ * <p>A query term matches a task term that is the same, that starts with the query term, or, for
+ * query terms of at least {@value #MIN_FUZZY_TERM_LENGTH} characters, that is one edit away from
+ * it. The score of a task for a query term is that of its best matching term, weighted by how
+ * exact the match is, by the fields the term appears in and by how rare the term is. The score of a
+ * task for a query is the sum of its scores for the query terms.
+ */
+public class SearchIndex {
+
+    public static final int MIN_FUZZY_TERM_LENGTH = 4;
+
+    private static final int MAX_EDITS = 1;
+    private static final double EXACT_MATCH_WEIGHT = 1.0;
+    private static final double PREFIX_MATCH_WEIGHT = 0.6;
+    private static final double FUZZY_MATCH_WEIGHT = 0.4;
+
+    private final PrefixTrie<Map<Document, int[]>> terms = new PrefixTrie<>();
+    private final Map<TaskIdentity, Document> documents = new HashMap<>();
+    private final List<Document> documentsById = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+    /** Adds {@code task} to the index. The index must not contain a task with the same identity. */
+    public void add(Task task) {
+        requireNonNull(task);
+        TaskIdentity identity = new TaskIdentity(task);
+        Document document;
+        if (freeIds.isEmpty()) {
+            document = new Document(documentsById.size(), identity);
+            documentsById.add(document);
+        } else {
+            document = new Document(freeIds.pop(), identity);
+            documentsById.set(document.id, document);
+        }
+        documents.put(identity, document);
+
+        for (Map.Entry<String, int[]> entry : countTerms(task).entrySet()) {
+            terms.computeIfAbsent(entry.getKey(), HashMap::new).put(document, entry.getValue());
+        }
+    }
+
+    /** Removes {@code task}, which must be the task in the index with its identity. */
+    public void remove(Task task) {
+        requireNonNull(task);
+        Document document = documents.remove(new TaskIdentity(task));
+        documentsById.set(document.id, null);
+        freeIds.push(document.id);
+
+        for (String term : countTerms(task).keySet()) {
+            Map<Document, int[]> postings = terms.get(term);
+            postings.remove(document);
+            if (postings.isEmpty()) {
+                terms.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Returns the tasks in the index that match {@code query}, with their scores. Only the terms
+     * that match {@code query} are visited.
+     *
+     * @param isUnchanged tells the results whether the tasks have changed since the search, and so
+     *     whether a task without a score can be taken not to match.
+     */
+    public SearchResults search(SearchQuery query, BooleanSupplier isUnchanged) {
+        requireNonNull(query);
+        // Scores are kept by document number; a score of 0 means no match
+        double[] scores = new double[documentsById.size()];
+        double[] termScores = new double[documentsById.size()];
+        List<Document> matches = new ArrayList<>();
+        List<Document> termMatches = new ArrayList<>();
+
+        for (String queryTerm : query.getTerms()) {
+            BiConsumer<String, Map<Document, int[]>> scoreTerm =
+                    (term, postings) -> {
+                        double weight = matchWeight(queryTerm, term) * rarity(postings.size());
+                        postings.forEach(
+                                (document, counts) -> {
+                                    if (termScores[document.id] == 0) {
+                                        termMatches.add(document);
+                                    }
+                                    termScores[document.id] =
+                                            Math.max(
+                                                    termScores[document.id],
+                                                    weight * fieldWeight(counts));
+                                });
+                    };
+
+            terms.forEachWithPrefix(queryTerm, scoreTerm);
+            if (queryTerm.length() >= MIN_FUZZY_TERM_LENGTH) {
+                terms.forEachWithinEdits(queryTerm, MAX_EDITS, scoreTerm);
+            }
+
+            for (Document document : termMatches) {
+                if (scores[document.id] == 0) {
+                    matches.add(document);
+                }
+                scores[document.id] += termScores[document.id];
+                termScores[document.id] = 0;
+            }
+            termMatches.clear();
+        }
+
+        Map<TaskIdentity, Double> scoresByTask = new HashMap<>(matches.size() * 2);
+        for (Document document : matches) {
+            scoresByTask.put(document.identity, scores[document.id]);
+        }
+        return new SearchResults(this, query, scoresByTask, isUnchanged);
+    }
+
+    /**
+     * Returns the score of {@code task} for {@code query}, found from the terms of {@code task}
+     * rather than from the postings. This is the score {@link #search} gives {@code task} if it is
+     * in the index.
+     */
+    public double score(SearchQuery query, Task task) {
+        requireNonNull(query);
+        requireNonNull(task);
+        Map<String, int[]> taskTerms = countTerms(task);
+        double score = 0;
+        for (String queryTerm : query.getTerms()) {
+            double bestScore = 0;
+            for (Map.Entry<String, int[]> entry : taskTerms.entrySet()) {
+                double weight = matchWeight(queryTerm, entry.getKey());
+                if (weight > 0) {
+                    Map<Document, int[]> postings = terms.get(entry.getKey());
+                    int postingCount = postings == null ? 1 : postings.size();
+                    bestScore =
+                            Math.max(
+                                    bestScore,
+                                    weight * rarity(postingCount) * fieldWeight(entry.getValue()));
+                }
+            }
+            score += bestScore;
+        }
+        return score;
+    }
+
+    /** Returns how much a match of {@code term} for {@code queryTerm} counts, or 0 if none. */
+    private static double matchWeight(String queryTerm, String term) {
+        if (term.equals(queryTerm)) {
+            return EXACT_MATCH_WEIGHT;
+        }
+        if (term.startsWith(queryTerm)) {
+            return PREFIX_MATCH_WEIGHT;
+        }
+        if (queryTerm.length() >= MIN_FUZZY_TERM_LENGTH
+                && isWithinEdits(queryTerm, term, MAX_EDITS)) {
+            return FUZZY_MATCH_WEIGHT;
+        }
+        return 0;
+    }
+
+    /** Returns how much a term in {@code postingCount} tasks counts; rarer terms count more. */
+    private double rarity(int postingCount) {
+        return Math.log(1 + (double) Math.max(documents.size(), postingCount) / postingCount);
+    }
+
+    /** Returns how much a term counts given how often each field contains it. */
+    private static double fieldWeight(int[] counts) {
+        double weight = 0;
+        for (SearchField field : SearchField.values()) {
+            int count = counts[field.ordinal()];
+            if (count > 0) {
+                weight += field.weight * (1 + Math.log(count));
+            }
+        }
+        return weight;
+    }
+
+    /** Returns the terms in the fields of {@code task}, with how often each field has each. */
+    private static Map<String, int[]> countTerms(Task task) {
+        Map<String, int[]> counts = new HashMap<>();
+        countTerms(counts, SearchField.NAME, task.getName().fullName);
+        countTerms(counts, SearchField.DESCRIPTION, task.getDescription().value);
+        for (Tag tag : task.getTags()) {
+            countTerms(counts, SearchField.TAG, tag.tagName);
+        }
+        return counts;
+    }
+
+    private static void countTerms(Map<String, int[]> counts, SearchField field, String text) {
+        for (String term : SearchQuery.tokenize(text)) {
+            int[] termCounts =
+                    counts.computeIfAbsent(term, unused -> new int[SearchField.values().length]);
+            termCounts[field.ordinal()]++;
+        }
+    }
+
+    /** Returns true if {@code a} is at most {@code maxEdits} edits away from {@code b}. */
+    static boolean isWithinEdits(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return false;
+        }
+
+        int[] previousRow = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            row[0] = i;
+            int minDistance = row[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution =
+                        previousRow[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                row[j] = Math.min(substitution, Math.min(row[j - 1], previousRow[j]) + 1);
+                minDistance = Math.min(minDistance, row[j]);
+            }
+            if (minDistance > maxEdits) {
+                return false;
+            }
+            int[] swap = previousRow;
+            previousRow = row;
+            row = swap;
+        }
+        return previousRow[b.length()] <= maxEdits;
+    }
+
+    /**
+     * A task in the index, numbered so that scores can be kept in arrays. Documents are compared by
+     * identity, which is cheaper than comparing tasks.
+     */
+    private static class Document {
+        private final int id;
+        private final TaskIdentity identity;
+
+        Document(int id, TaskIdentity identity) {
+            this.id = id;
+            this.identity = identity;
+        }
+    }
+}
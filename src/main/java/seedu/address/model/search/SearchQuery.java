@@ -0,0 +1,65 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The terms searched for in a search. Terms are the lower-cased runs of letters and digits in the
+ * text of the query, and are split from task fields the same way.
+ */
+public class SearchQuery {
+
+    private final List<String> terms;
+
+    public SearchQuery(String text) {
+        requireNonNull(text);
+        terms = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(tokenize(text))));
+    }
+
+    public List<String> getTerms() {
+        return terms;
+    }
+
+    /** Returns true if the query has no terms to search for. */
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    /** Returns the lower-cased runs of letters and digits in {@code text}, in order. */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTokenChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTokenChar && start == -1) {
+                start = i;
+            } else if (!isTokenChar && start != -1) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchQuery // instanceof handles nulls
+                        && terms.equals(((SearchQuery) other).terms)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", terms);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.search;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+
+/**
+ * The tasks that matched a search, with their scores. As a predicate, accepts the tasks that
+ * match. The tasks are kept by their {@link TaskIdentity} rather than held.
+ *
+ * <p>Once the searched tasks change, any task may have been added or edited since the search, so
+ * each task is scored on its own instead of being looked up.
+ */
+public class SearchResults implements Predicate<Task> {
+
+    private final SearchIndex index;
+    private final SearchQuery query;
+    private final Map<TaskIdentity, Double> scores;
+    private final BooleanSupplier isUnchanged;
+
+    SearchResults(
+            SearchIndex index,
+            SearchQuery query,
+            Map<TaskIdentity, Double> scores,
+            BooleanSupplier isUnchanged) {
+        this.index = index;
+        this.query = query;
+        this.scores = scores;
+        this.isUnchanged = isUnchanged;
+    }
+
+    /** Returns the score of {@code task}, which is 0 if it does not match. */
+    public double getScore(Task task) {
+        if (!isUnchanged.getAsBoolean()) {
+            return index.score(query, task);
+        }
+        return scores.getOrDefault(new TaskIdentity(task), 0.0);
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return getScore(task) > 0;
+    }
+
+    /** Returns a comparator that orders tasks from the highest score to the lowest. */
+    public Comparator<Task> getRankComparator() {
+        return Comparator.comparingDouble(this::getScore).reversed();
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/** The length of the buckets that time spent in sessions is totalled in. */
+public enum Granularity {
+    /** A bucket per day. */
+    DAY(ChronoUnit.DAYS),
+    /** A bucket per week, starting on Monday. */
+    WEEK(ChronoUnit.WEEKS),
+    /** A bucket per calendar month. */
+    MONTH(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    Granularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /** Returns the first day of the bucket that {@code date} is in. */
+    public LocalDate getBucketStart(LocalDate date) {
+        requireNonNull(date);
+        switch (this) {
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+            case MONTH:
+                return date.withDayOfMonth(1);
+
+            case DAY:
+            default:
+                return date;
+        }
+    }
+
+    /**
+     * Returns the first day of the bucket that is {@code buckets} buckets after the one {@code
+     * date} is in.
+     */
+    public LocalDate plusBuckets(LocalDate date, long buckets) {
+        return getBucketStart(date).plus(buckets, unit);
+    }
+
+    /** Returns the number of buckets between those that {@code start} and {@code end} are in. */
+    public long bucketsBetween(LocalDate start, LocalDate end) {
+        return unit.between(getBucketStart(start), getBucketStart(end));
+    }
+}
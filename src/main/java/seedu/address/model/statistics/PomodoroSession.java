@@ -0,0 +1,90 @@
+package seedu.address.model.statistics;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Represents a pomodoro that was run on a task, from when it started until it completed or was
+ * aborted. Guarantees: immutable; details are present and not null, duration is not negative
+ */
+public class PomodoroSession {
+
+    public static final String MESSAGE_CONSTRAINTS = "A session cannot last a negative duration";
+
+    /** How a session ended. */
+    public enum Outcome {
+        COMPLETED,
+        ABORTED
+    }
+
+    private final String taskName;
+    private final LocalDateTime start;
+    private final Duration duration;
+    private final Outcome outcome;
+
+    /** Every field must be present and not null, and {@code duration} must not be negative. */
+    public PomodoroSession(
+            String taskName, LocalDateTime start, Duration duration, Outcome outcome) {
+        requireAllNonNull(taskName, start, duration, outcome);
+        checkArgument(!duration.isNegative(), MESSAGE_CONSTRAINTS);
+        this.taskName = taskName;
+        this.start = start;
+        this.duration = duration;
+        this.outcome = outcome;
+    }
+
+    public String getTaskName() {
+        return taskName;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    /** Returns the day the session is counted towards, which is the day it started on. */
+    public LocalDate getDate() {
+        return start.toLocalDate();
+    }
+
+    /** Returns the time spent on the task, not counting the time the session was paused. */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PomodoroSession)) {
+            return false;
+        }
+
+        PomodoroSession otherSession = (PomodoroSession) other;
+        return otherSession.taskName.equals(taskName)
+                && otherSession.start.equals(start)
+                && otherSession.duration.equals(duration)
+                && otherSession.outcome == outcome;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(taskName, start, duration, outcome);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s Start: %s Duration: %s Outcome: %s", taskName, start, duration, outcome);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.model.statistics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import javafx.beans.property.ReadOnlyObjectProperty;
+
+/** Unmodifiable view of the time spent in pomodoro sessions. */
+public interface ReadOnlySessionStatistics {
+
+    /** Returns the seconds spent in sessions that started on {@code date}. */
+    long getSecondsOn(LocalDate date);
+
+    /** Returns the seconds spent in sessions that started from {@code start} to {@code end}. */
+    long getSeconds(LocalDate start, LocalDate end);
+
+    /**
+     * Returns the seconds spent in each of the {@code buckets} buckets of {@code granularity} up to
+     * and including the one {@code lastDate} is in, oldest first.
+     */
+    long[] getSeconds(Granularity granularity, LocalDate lastDate, int buckets);
+
+    /** Returns the seconds spent in sessions on the task named {@code taskName}. */
+    long getSecondsFor(String taskName);
+
+    /** Returns the number of days on which the daily goal was reached. */
+    int getMedalCount();
+
+    /** Returns a copy of the seconds spent per day, week and month. */
+    SessionRollups getRollups();
+
+    /** Returns the seconds spent per task, keyed by the tasks' names. */
+    Map<String, Long> getSecondsPerTask();
+
+    /** Returns the sessions recorded since these statistics were created, oldest first. */
+    List<PomodoroSession> getRecordedSessions();
+
+    /** Returns the session recorded last, which can be observed for new sessions. */
+    ReadOnlyObjectProperty<PomodoroSession> lastSessionProperty();
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Time spent in sessions, totalled in buckets of a day, a week and a month. A bucket is known by
+ * its first day, as given by {@link Granularity#getBucketStart(LocalDate)}.
+ *
+ * <p>Every session is added to one bucket of each granularity, so the total of a range is the sum
+ * of the largest buckets that fit in it. A range of years costs a lookup per month rather than per
+ * day or per session.
+ */
+public class SessionRollups {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "A bucket should start on the first day of its granularity and hold no negative time";
+
+    private final Map<Granularity, Map<LocalDate, Long>> secondsPerBucket =
+            new EnumMap<>(Granularity.class);
+
+    public SessionRollups() {
+        for (Granularity granularity : Granularity.values()) {
+            secondsPerBucket.put(granularity, new HashMap<>());
+        }
+    }
+
+    /** Creates a copy of {@code source}. */
+    public SessionRollups(SessionRollups source) {
+        this();
+        for (Granularity granularity : Granularity.values()) {
+            secondsPerBucket.get(granularity).putAll(source.getBuckets(granularity));
+        }
+    }
+
+    /** Adds {@code seconds} spent on {@code date} to the buckets that the date is in. */
+    public void add(LocalDate date, long seconds) {
+        requireNonNull(date);
+        for (Granularity granularity : Granularity.values()) {
+            secondsPerBucket
+                    .get(granularity)
+                    .merge(granularity.getBucketStart(date), seconds, Long::sum);
+        }
+    }
+
+    /**
+     * Sets the seconds in the bucket of {@code granularity} that starts on {@code bucketStart}, as
+     * they were totalled before. The bucket must start on the first day of its granularity.
+     */
+    public void setBucket(Granularity granularity, LocalDate bucketStart, long seconds) {
+        requireNonNull(granularity);
+        requireNonNull(bucketStart);
+        checkArgument(isValidBucket(granularity, bucketStart, seconds), MESSAGE_CONSTRAINTS);
+        secondsPerBucket.get(granularity).put(bucketStart, seconds);
+    }
+
+    /**
+     * Returns true if a bucket of {@code granularity} can start on {@code bucketStart} and hold
+     * {@code seconds}.
+     */
+    public static boolean isValidBucket(
+            Granularity granularity, LocalDate bucketStart, long seconds) {
+        return granularity.getBucketStart(bucketStart).equals(bucketStart) && seconds >= 0;
+    }
+
+    /** Returns the seconds in the bucket of {@code granularity} that {@code date} is in. */
+    public long getSeconds(Granularity granularity, LocalDate date) {
+        requireNonNull(granularity);
+        requireNonNull(date);
+        return secondsPerBucket.get(granularity).getOrDefault(granularity.getBucketStart(date), 0L);
+    }
+
+    /**
+     * Returns the seconds from {@code start} to {@code end}, both inclusive. The range is covered
+     * by the largest buckets that fit, so it costs a lookup per month plus a few per week and day.
+     */
+    public long getSeconds(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        LocalDate afterEnd = end.plusDays(1);
+        long seconds = 0;
+        LocalDate date = start;
+        while (date.isBefore(afterEnd)) {
+            Granularity granularity = Granularity.DAY;
+            if (date.getDayOfMonth() == 1 && !date.plusMonths(1).isAfter(afterEnd)) {
+                granularity = Granularity.MONTH;
+            } else if (date.getDayOfWeek() == DayOfWeek.MONDAY
+                    && !date.plusWeeks(1).isAfter(afterEnd)) {
+                granularity = Granularity.WEEK;
+            }
+            seconds += getSeconds(granularity, date);
+            date = granularity.plusBuckets(date, 1);
+        }
+        return seconds;
+    }
+
+    /** Returns the buckets of {@code granularity} that hold any time, keyed by their first day. */
+    public Map<LocalDate, Long> getBuckets(Granularity granularity) {
+        requireNonNull(granularity);
+        return Collections.unmodifiableMap(secondsPerBucket.get(granularity));
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+/**
+ * The time spent in pomodoro sessions, totalled per day, week and month and per task.
+ *
+ * <p>The totals are updated as each session is recorded, and can be saved and read back without
+ * the sessions themselves. Looking up a bucket or a task costs the same however many sessions
+ * there are.
+ */
+public class SessionStatistics implements ReadOnlySessionStatistics {
+
+    public static final int DAILY_GOAL_MINUTES = 100;
+
+    private static final long DAILY_GOAL_SECONDS = DAILY_GOAL_MINUTES * 60L;
+
+    private final SessionRollups rollups;
+    private final Map<String, Long> secondsPerTask = new HashMap<>();
+    private final List<PomodoroSession> recordedSessions = new ArrayList<>();
+    private final ReadOnlyObjectWrapper<PomodoroSession> lastSession =
+            new ReadOnlyObjectWrapper<>();
+    private int medalCount;
+
+    public SessionStatistics() {
+        rollups = new SessionRollups();
+    }
+
+    /** Creates statistics of the sessions in {@code history}, which were recorded before. */
+    public SessionStatistics(List<PomodoroSession> history) {
+        this();
+        requireNonNull(history);
+        history.forEach(this::addLoggedSession);
+    }
+
+    /** Creates statistics from totals that were worked out before. */
+    public SessionStatistics(SessionRollups rollups, Map<String, Long> secondsPerTask) {
+        requireNonNull(rollups);
+        requireNonNull(secondsPerTask);
+        this.rollups = new SessionRollups(rollups);
+        this.secondsPerTask.putAll(secondsPerTask);
+        medalCount =
+                (int)
+                        rollups.getBuckets(Granularity.DAY).values().stream()
+                                .filter(seconds -> seconds >= DAILY_GOAL_SECONDS)
+                                .count();
+    }
+
+    /** Creates a copy of the totals in {@code source}, with no sessions recorded. */
+    public SessionStatistics(ReadOnlySessionStatistics source) {
+        this(source.getRollups(), source.getSecondsPerTask());
+    }
+
+    /** Records {@code session}, which has just ended. */
+    public void record(PomodoroSession session) {
+        requireNonNull(session);
+        addLoggedSession(session);
+        recordedSessions.add(session);
+        lastSession.set(session);
+    }
+
+    /**
+     * Adds {@code session}, which was recorded before, to the totals without recording it again.
+     */
+    public void addLoggedSession(PomodoroSession session) {
+        requireNonNull(session);
+        long seconds = session.getDuration().getSeconds();
+        long secondsBefore = rollups.getSeconds(Granularity.DAY, session.getDate());
+        rollups.add(session.getDate(), seconds);
+        secondsPerTask.merge(session.getTaskName(), seconds, Long::sum);
+
+        if (secondsBefore < DAILY_GOAL_SECONDS && secondsBefore + seconds >= DAILY_GOAL_SECONDS) {
+            medalCount++;
+        }
+    }
+
+    @Override
+    public long getSecondsOn(LocalDate date) {
+        return rollups.getSeconds(Granularity.DAY, date);
+    }
+
+    @Override
+    public long getSeconds(LocalDate start, LocalDate end) {
+        return rollups.getSeconds(start, end);
+    }
+
+    @Override
+    public long[] getSeconds(Granularity granularity, LocalDate lastDate, int buckets) {
+        requireNonNull(granularity);
+        requireNonNull(lastDate);
+        long[] seconds = new long[buckets];
+        for (int i = 0; i < buckets; i++) {
+            LocalDate date = granularity.plusBuckets(lastDate, i - buckets + 1);
+            seconds[i] = rollups.getSeconds(granularity, date);
+        }
+        return seconds;
+    }
+
+    @Override
+    public long getSecondsFor(String taskName) {
+        requireNonNull(taskName);
+        return secondsPerTask.getOrDefault(taskName, 0L);
+    }
+
+    @Override
+    public int getMedalCount() {
+        return medalCount;
+    }
+
+    @Override
+    public SessionRollups getRollups() {
+        return new SessionRollups(rollups);
+    }
+
+    @Override
+    public Map<String, Long> getSecondsPerTask() {
+        return Collections.unmodifiableMap(secondsPerTask);
+    }
+
+    @Override
+    public List<PomodoroSession> getRecordedSessions() {
+        return Collections.unmodifiableList(recordedSessions);
+    }
+
+    @Override
+    public ReadOnlyObjectProperty<PomodoroSession> lastSessionProperty() {
+        return lastSession.getReadOnlyProperty();
+    }
+}
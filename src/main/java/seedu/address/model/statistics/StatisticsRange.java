@@ -0,0 +1,46 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/** A range of recent time that statistics can be shown for, split into buckets. */
+public enum StatisticsRange {
+    /** The last 7 days, a bucket per day. */
+    WEEK("week", Granularity.DAY, 7, "the last 7 days"),
+    /** The last 5 weeks, a bucket per week. */
+    MONTH("month", Granularity.WEEK, 5, "the last 5 weeks"),
+    /** The last 12 months, a bucket per month. */
+    YEAR("year", Granularity.MONTH, 12, "the last 12 months");
+
+    public final String keyword;
+    public final Granularity granularity;
+    public final int bucketCount;
+    public final String description;
+
+    StatisticsRange(
+            String keyword, Granularity granularity, int bucketCount, String description) {
+        this.keyword = keyword;
+        this.granularity = granularity;
+        this.bucketCount = bucketCount;
+        this.description = description;
+    }
+
+    /** Returns the first day of this range, if it ends with the bucket that {@code today} is in. */
+    public LocalDate getStart(LocalDate today) {
+        requireNonNull(today);
+        return granularity.plusBuckets(today, 1 - bucketCount);
+    }
+
+    /** Returns the range named {@code keyword}, ignoring case, if there is one. */
+    public static Optional<StatisticsRange> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (StatisticsRange range : values()) {
+            if (range.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(range);
+            }
+        }
+        return Optional.empty();
+    }
+}
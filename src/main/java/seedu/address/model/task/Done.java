@@ -37,7 +37,7 @@ public class Done {
 
     /** Returns true if a given string is a valid name. */
     public static boolean isValidDone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.equals(DONE) || test.equals(NOT_DONE);
     }
 
     @Override
@@ -0,0 +1,166 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of tasks in which each element is either a {@code Task} held by the list or a
+ * position in a {@link TaskSource}. Elements from the source are decoded each time they are read
+ * and are not kept by the list, so a list backed by a large source only holds the tasks that have
+ * been added or replaced since it was created.
+ */
+public class LazyTaskList extends ModifiableObservableListBase<Task> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NOT_FROM_SOURCE = -1;
+
+    private TaskSource source;
+
+    // Element i is tasks[i] if it is non-null, otherwise the task at sourceIndexes[i] in source
+    private Task[] tasks = new Task[INITIAL_CAPACITY];
+    private int[] sourceIndexes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /** Creates an empty {@code LazyTaskList}. */
+    public LazyTaskList() {}
+
+    /** Creates a {@code LazyTaskList} holding every task in {@code source}, in order. */
+    public LazyTaskList(TaskSource source) {
+        requireNonNull(source);
+        this.source = source;
+        size = source.size();
+        tasks = new Task[Math.max(size, INITIAL_CAPACITY)];
+        sourceIndexes = new int[tasks.length];
+        for (int i = 0; i < size; i++) {
+            sourceIndexes[i] = i;
+        }
+    }
+
+    @Override
+    public Task get(int index) {
+        checkIndex(index);
+        Task task = tasks[index];
+        return task != null ? task : source.getTask(sourceIndexes[index]);
+    }
+
+    /** Returns the name of the task at {@code index} without decoding the whole task. */
+    public Name getName(int index) {
+        checkIndex(index);
+        Task task = tasks[index];
+        return task != null ? task.getName() : source.getName(sourceIndexes[index]);
+    }
+
+    /** Returns the priority of the task at {@code index} without decoding the whole task. */
+    public Priority getPriority(int index) {
+        checkIndex(index);
+        Task task = tasks[index];
+        return task != null ? task.getPriority() : source.getPriority(sourceIndexes[index]);
+    }
+
+    /** Returns true if the task at {@code index} has a reminder, without decoding the task. */
+    public boolean hasReminder(int index) {
+        checkIndex(index);
+        Task task = tasks[index];
+        return task != null
+                ? task.getOptionalReminder().isPresent()
+                : source.hasReminder(sourceIndexes[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Replaces the contents of this list with those of {@code other} without decoding any task.
+     * Both lists share {@code other}'s source afterwards.
+     */
+    public void replaceWith(LazyTaskList other) {
+        requireNonNull(other);
+        beginChange();
+        try {
+            clear();
+            source = other.source;
+            tasks = Arrays.copyOf(other.tasks, Math.max(other.size, INITIAL_CAPACITY));
+            sourceIndexes = Arrays.copyOf(other.sourceIndexes, tasks.length);
+            size = other.size;
+            modCount++;
+            nextAdd(0, size);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, Task task) {
+        requireNonNull(task);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        if (size == tasks.length) {
+            tasks = Arrays.copyOf(tasks, size * 2);
+            sourceIndexes = Arrays.copyOf(sourceIndexes, size * 2);
+        }
+        System.arraycopy(tasks, index, tasks, index + 1, size - index);
+        System.arraycopy(sourceIndexes, index, sourceIndexes, index + 1, size - index);
+        tasks[index] = task;
+        sourceIndexes[index] = NOT_FROM_SOURCE;
+        size++;
+    }
+
+    @Override
+    protected Task doSet(int index, Task task) {
+        requireNonNull(task);
+        Task oldTask = get(index);
+        tasks[index] = task;
+        sourceIndexes[index] = NOT_FROM_SOURCE;
+        return oldTask;
+    }
+
+    @Override
+    protected Task doRemove(int index) {
+        Task oldTask = get(index);
+        removeElements(index, index + 1);
+        return oldTask;
+    }
+
+    /** Removes the range in one pass rather than shifting the rest of the list once per element. */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        beginChange();
+        try {
+            List<Task> removed = new ArrayList<>(toIndex - fromIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                removed.add(get(i));
+            }
+            removeElements(fromIndex, toIndex);
+            modCount++;
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    private void removeElements(int fromIndex, int toIndex) {
+        System.arraycopy(tasks, toIndex, tasks, fromIndex, size - toIndex);
+        System.arraycopy(sourceIndexes, toIndex, sourceIndexes, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(tasks, newSize, size, null);
+        size = newSize;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.task;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.isAsciiAlphanumeric;
 
 /**
  * Represents a Task's name in the address book. Guarantees: immutable; is valid as declared in
@@ -33,7 +34,16 @@ public class Name {
 
     /** Returns true if a given string is a valid name. */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -12,6 +12,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Task> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Task task) {
         return keywords.stream()
@@ -0,0 +1,83 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the words in task names to the names containing them. Words are matched
+ * case-insensitively, as in {@link NameContainsKeywordsPredicate}.
+ *
+ * <p>A name may belong to several tasks, so each name is counted and only leaves the index when
+ * its last task does.
+ */
+public class NameIndex {
+
+    private final Map<String, Map<Name, Integer>> postings = new HashMap<>();
+
+    /** Adds a task's {@code name} to the index. */
+    public void add(Name name) {
+        requireNonNull(name);
+        for (String word : wordsOf(name)) {
+            postings.computeIfAbsent(word, unused -> new HashMap<>()).merge(name, 1, Integer::sum);
+        }
+    }
+
+    /** Removes a task's {@code name} from the index. {@code name} must have been added before. */
+    public void remove(Name name) {
+        requireNonNull(name);
+        for (String word : wordsOf(name)) {
+            Map<Name, Integer> names = postings.get(word);
+            if (names.merge(name, -1, Integer::sum) == 0) {
+                names.remove(name);
+                if (names.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+    }
+
+    /** Replaces the contents of this index with those of {@code replacement}. */
+    public void setAll(NameIndex replacement) {
+        requireNonNull(replacement);
+        postings.clear();
+        replacement.postings.forEach((word, names) -> postings.put(word, new HashMap<>(names)));
+    }
+
+    /** Removes every name from the index. */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the names that contain any of {@code keywords} as a whole word. Only the names that
+     * match are visited.
+     */
+    public Set<Name> getNamesContainingAnyWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Name> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Map<Name, Integer> names = postings.get(keyword.trim().toLowerCase(Locale.ROOT));
+            if (names != null) {
+                matches.addAll(names.keySet());
+            }
+        }
+        return matches;
+    }
+
+    /** Returns the distinct lower-cased words of {@code name}. */
+    private static Set<String> wordsOf(Name name) {
+        Set<String> words = new HashSet<>();
+        for (String word : name.fullName.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase(Locale.ROOT));
+            }
+        }
+        return words;
+    }
+}
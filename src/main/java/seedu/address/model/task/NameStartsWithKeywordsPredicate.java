@@ -0,0 +1,75 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Task}'s {@code Name} has a word starting with any of the keywords given,
+ * ignoring case. Unlike {@link NameContainsKeywordsPredicate}, a keyword that is still being typed
+ * already matches.
+ */
+public class NameStartsWithKeywordsPredicate implements Predicate<Task> {
+    private final List<String> keywords;
+
+    public NameStartsWithKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if every task that {@code other} accepts is also accepted by this predicate,
+     * because each keyword of {@code other} starts with a keyword of this predicate.
+     */
+    public boolean isRefinedBy(NameStartsWithKeywordsPredicate other) {
+        requireNonNull(other);
+        return other.keywords.stream()
+                .allMatch(
+                        otherKeyword ->
+                                keywords.stream()
+                                        .anyMatch(
+                                                keyword ->
+                                                        startsWithIgnoreCase(
+                                                                otherKeyword, 0, keyword)));
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return matches(task.getName());
+    }
+
+    /** Returns true if {@code taskName} has a word starting with any of the keywords. */
+    public boolean matches(Name taskName) {
+        String name = taskName.fullName;
+        for (int i = 0; i < name.length(); i++) {
+            boolean isWordStart =
+                    !Character.isWhitespace(name.charAt(i))
+                            && (i == 0 || Character.isWhitespace(name.charAt(i - 1)));
+            if (isWordStart) {
+                for (String keyword : keywords) {
+                    if (startsWithIgnoreCase(name, i, keyword)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Returns true if {@code text} has {@code prefix} at {@code offset}, ignoring case. */
+    private static boolean startsWithIgnoreCase(String text, int offset, String prefix) {
+        return text.regionMatches(true, offset, prefix, 0, prefix.length());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameStartsWithKeywordsPredicate // instanceof handles nulls
+                        && keywords.equals(((NameStartsWithKeywordsPredicate) other).keywords));
+    }
+}
@@ -26,7 +26,7 @@ public class Priority {
 
     /** Returns true if a given string is a valid priority number. */
     public static boolean isValidPriority(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.length() == 1 && test.charAt(0) >= '1' && test.charAt(0) <= '3';
     }
 
     @Override
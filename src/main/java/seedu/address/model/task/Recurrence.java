@@ -0,0 +1,199 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents how a Task's reminder repeats: every given number of days, or on every weekday.
+ * Guarantees: immutable; is valid as declared in {@link #isValidRecurrence(String)}
+ *
+ * <p>Occurrences are worked out from the first one when they are needed, never stored, so a rule
+ * costs the same however long it repeats for. Occurrences keep the time of day of the first one.
+ */
+public class Recurrence {
+
+    public static final int MAX_INTERVAL_DAYS = 9999;
+    public static final String MESSAGE_CONSTRAINTS =
+            "Recurrence should be daily, weekly, weekdays or every N days, where N is a number"
+                    + " from 1 to "
+                    + MAX_INTERVAL_DAYS
+                    + ", eg every 3 days";
+    public static final String MESSAGE_REMINDER_REQUIRED =
+            "Only a task with a reminder can repeat";
+
+    public static final Recurrence DAILY = new Recurrence(1, false);
+    public static final Recurrence WEEKLY = new Recurrence(7, false);
+    public static final Recurrence WEEKDAYS = new Recurrence(1, true);
+
+    private static final String DAILY_KEYWORD = "daily";
+    private static final String WEEKLY_KEYWORD = "weekly";
+    private static final String WEEKDAYS_KEYWORD = "weekdays";
+    private static final Pattern EVERY_N_DAYS_PATTERN =
+            Pattern.compile("every (?<days>[1-9][0-9]{0,3}) days?", Pattern.CASE_INSENSITIVE);
+
+    private final int intervalDays;
+    private final boolean isWeekdaysOnly;
+
+    private Recurrence(int intervalDays, boolean isWeekdaysOnly) {
+        this.intervalDays = intervalDays;
+        this.isWeekdaysOnly = isWeekdaysOnly;
+    }
+
+    /** Returns a recurrence every {@code intervalDays} days, which must be a valid interval. */
+    public static Recurrence everyDays(int intervalDays) {
+        checkArgument(
+                intervalDays >= 1 && intervalDays <= MAX_INTERVAL_DAYS, MESSAGE_CONSTRAINTS);
+        return new Recurrence(intervalDays, false);
+    }
+
+    /** Returns the recurrence described by {@code recurrence}, which must be valid. */
+    public static Recurrence of(String recurrence) {
+        requireNonNull(recurrence);
+        checkArgument(isValidRecurrence(recurrence), MESSAGE_CONSTRAINTS);
+        if (recurrence.equalsIgnoreCase(DAILY_KEYWORD)) {
+            return DAILY;
+        }
+        if (recurrence.equalsIgnoreCase(WEEKLY_KEYWORD)) {
+            return WEEKLY;
+        }
+        if (recurrence.equalsIgnoreCase(WEEKDAYS_KEYWORD)) {
+            return WEEKDAYS;
+        }
+        Matcher matcher = EVERY_N_DAYS_PATTERN.matcher(recurrence);
+        matcher.matches();
+        return everyDays(Integer.parseInt(matcher.group("days")));
+    }
+
+    /** Returns true if a given string is a valid recurrence. */
+    public static boolean isValidRecurrence(String test) {
+        return test.equalsIgnoreCase(DAILY_KEYWORD)
+                || test.equalsIgnoreCase(WEEKLY_KEYWORD)
+                || test.equalsIgnoreCase(WEEKDAYS_KEYWORD)
+                || EVERY_N_DAYS_PATTERN.matcher(test).matches();
+    }
+
+    /** Returns the number of days between occurrences, not counting skipped weekend days. */
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    /** Returns true if this recurrence only occurs on weekdays. */
+    public boolean isWeekdaysOnly() {
+        return isWeekdaysOnly;
+    }
+
+    /**
+     * Returns the first occurrence at or after {@code time}, for occurrences starting from {@code
+     * first}. Any number of occurrences is skipped in constant time.
+     */
+    public LocalDateTime getFirstOnOrAfter(LocalDateTime first, LocalDateTime time) {
+        requireNonNull(first);
+        requireNonNull(time);
+        if (!time.isAfter(first)) {
+            return skipWeekend(first);
+        }
+        if (isWeekdaysOnly) {
+            LocalDateTime sameDay = time.toLocalDate().atTime(first.toLocalTime());
+            return skipWeekend(sameDay.isBefore(time) ? sameDay.plusDays(1) : sameDay);
+        }
+
+        // Whole seconds drop any fraction of a second, so this is the last occurrence at or before
+        // time, and the one after it is taken if time is even a nanosecond later.
+        long intervalSeconds = intervalDays * ChronoUnit.DAYS.getDuration().getSeconds();
+        long intervals = ChronoUnit.SECONDS.between(first, time) / intervalSeconds;
+        LocalDateTime occurrence = first.plusDays(intervals * intervalDays);
+        return occurrence.isBefore(time) ? occurrence.plusDays(intervalDays) : occurrence;
+    }
+
+    /**
+     * Returns the first occurrence after {@code time}, for occurrences starting from {@code first}.
+     */
+    public LocalDateTime getFirstAfter(LocalDateTime first, LocalDateTime time) {
+        LocalDateTime occurrence = getFirstOnOrAfter(first, time);
+        return occurrence.isAfter(time) ? occurrence : getNext(occurrence);
+    }
+
+    /** Returns the occurrence following {@code occurrence}. */
+    public LocalDateTime getNext(LocalDateTime occurrence) {
+        requireNonNull(occurrence);
+        return isWeekdaysOnly
+                ? skipWeekend(occurrence.plusDays(1))
+                : occurrence.plusDays(intervalDays);
+    }
+
+    /**
+     * Returns the occurrences at or after {@code from} and before {@code until}, in order, for
+     * occurrences starting from {@code first}. The occurrences are worked out as they are iterated.
+     */
+    public Iterator<LocalDateTime> getOccurrences(
+            LocalDateTime first, LocalDateTime from, LocalDateTime until) {
+        requireNonNull(until);
+        LocalDateTime firstInWindow = getFirstOnOrAfter(first, from);
+        return new Iterator<LocalDateTime>() {
+            private LocalDateTime next = firstInWindow;
+
+            @Override
+            public boolean hasNext() {
+                return next.isBefore(until);
+            }
+
+            @Override
+            public LocalDateTime next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                LocalDateTime occurrence = next;
+                next = getNext(occurrence);
+                return occurrence;
+            }
+        };
+    }
+
+    /** Returns {@code time} if this recurrence occurs on its day, or else the next day it does. */
+    private LocalDateTime skipWeekend(LocalDateTime time) {
+        if (!isWeekdaysOnly) {
+            return time;
+        }
+        LocalDateTime weekday = time;
+        while (weekday.getDayOfWeek() == DayOfWeek.SATURDAY
+                || weekday.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            weekday = weekday.plusDays(1);
+        }
+        return weekday;
+    }
+
+    @Override
+    public String toString() {
+        if (isWeekdaysOnly) {
+            return WEEKDAYS_KEYWORD;
+        }
+        if (intervalDays == 1) {
+            return DAILY_KEYWORD;
+        }
+        if (intervalDays == 7) {
+            return WEEKLY_KEYWORD;
+        }
+        return "every " + intervalDays + " days";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Recurrence // instanceof handles nulls
+                        && intervalDays == ((Recurrence) other).intervalDays
+                        && isWeekdaysOnly == ((Recurrence) other).isWeekdaysOnly);
+    }
+
+    @Override
+    public int hashCode() {
+        return intervalDays * 2 + (isWeekdaysOnly ? 1 : 0);
+    }
+}
@@ -1,7 +1,14 @@
 package seedu.address.model.task;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
 import seedu.address.model.task.exceptions.InvalidReminderException;
 
 /**
@@ -14,7 +21,9 @@ public class Reminder {
             "Reminder should be in format DD/MM/YY@HH:mm eg 04/11/20@10:30";
     public static final String VALIDATION_REGEX =
             "(0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/(2[0-9])@(([0-1][0-9]|2[0-4]):([0-5][0-9]))";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private final LocalDateTime reminderDateTime;
+    private final Optional<Recurrence> recurrence;
     private boolean hasFired;
     private long delay;
 
@@ -28,11 +37,76 @@ public class Reminder {
      */
     public Reminder(LocalDateTime reminderDateTime) throws InvalidReminderException {
         this.reminderDateTime = reminderDateTime;
+        this.recurrence = Optional.empty();
         this.hasFired = false;
         this.delay = Integer.MAX_VALUE;
         setDelay();
     }
 
+    private Reminder(
+            LocalDateTime reminderDateTime, Optional<Recurrence> recurrence, long delay) {
+        this.reminderDateTime = reminderDateTime;
+        this.recurrence = recurrence;
+        this.hasFired = false;
+        this.delay = delay;
+    }
+
+    /**
+     * Returns a reminder at {@code reminderDateTime}. Unlike the constructor, the time may be in
+     * the past, as it is for saved reminders that were missed while the application was closed.
+     */
+    public static Reminder of(LocalDateTime reminderDateTime) {
+        return of(reminderDateTime, Optional.empty());
+    }
+
+    /**
+     * Returns a reminder at {@code reminderDateTime} that repeats by {@code recurrence}, if given.
+     * The time may be in the past. A reminder on weekdays set on a weekend is moved to the Monday.
+     */
+    public static Reminder of(LocalDateTime reminderDateTime, Optional<Recurrence> recurrence) {
+        requireNonNull(reminderDateTime);
+        requireNonNull(recurrence);
+        LocalDateTime firstDateTime =
+                recurrence
+                        .map(rule -> rule.getFirstOnOrAfter(reminderDateTime, reminderDateTime))
+                        .orElse(reminderDateTime);
+        LocalDateTime currentTime = LocalDateTime.now();
+        long delay = Math.max(0, Duration.between(currentTime, firstDateTime).getSeconds());
+        return new Reminder(firstDateTime, recurrence, delay);
+    }
+
+    /** Returns a reminder at the same time as this one that repeats by {@code recurrence}. */
+    public Reminder withRecurrence(Optional<Recurrence> recurrence) {
+        return of(reminderDateTime, recurrence);
+    }
+
+    /**
+     * Returns the reminder for the next occurrence after {@code time}, or nothing if this reminder
+     * does not repeat. Occurrences up to {@code time} are skipped, so a repeating reminder missed
+     * many times only comes due once more.
+     */
+    public Optional<Reminder> getNextReminder(LocalDateTime time) {
+        requireNonNull(time);
+        return recurrence.map(
+                rule -> of(rule.getFirstAfter(reminderDateTime, time), recurrence));
+    }
+
+    /**
+     * Returns the times this reminder comes due at or after {@code from} and before {@code until},
+     * in order. The times of a repeating reminder are worked out as they are iterated, so a window
+     * of any length costs the same memory.
+     */
+    public Iterator<LocalDateTime> getOccurrences(LocalDateTime from, LocalDateTime until) {
+        requireNonNull(from);
+        requireNonNull(until);
+        if (recurrence.isPresent()) {
+            return recurrence.get().getOccurrences(reminderDateTime, from, until);
+        }
+        return !reminderDateTime.isBefore(from) && reminderDateTime.isBefore(until)
+                ? Collections.singletonList(reminderDateTime).iterator()
+                : Collections.emptyIterator();
+    }
+
     private long calculateDelay(LocalDateTime reminderDateTime) {
         LocalDateTime currentTime = LocalDateTime.now();
         Duration duration = Duration.between(currentTime, reminderDateTime);
@@ -45,7 +119,7 @@ public class Reminder {
     }
 
     public static boolean isValidReminder(String reminderString) {
-        return reminderString.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(reminderString).matches();
     }
 
     /**
@@ -65,15 +139,38 @@ public class Reminder {
         }
     }
 
+    /** Returns the time this reminder is next due. */
+    public LocalDateTime getReminderDateTime() {
+        return reminderDateTime;
+    }
+
+    public Optional<Recurrence> getRecurrence() {
+        return recurrence;
+    }
+
     /** @return the delay */
     public long getDelay() {
         return delay;
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Reminder // instanceof handles nulls
+                        && reminderDateTime.equals(((Reminder) other).reminderDateTime)
+                        && recurrence.equals(((Reminder) other).recurrence));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reminderDateTime, recurrence);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("Reminder LocalDateTime: ");
         sb.append(reminderDateTime.toString());
+        recurrence.ifPresent(rule -> sb.append(" Repeats: ").append(rule));
         return sb.toString();
     }
 }
@@ -0,0 +1,71 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A field that tasks can be sorted by. Tasks are compared through their cached {@link
+ * TaskSortKeys}, so sorting a task list works each task's keys out once rather than on every
+ * comparison.
+ */
+public enum SortKey {
+    /** Highest priority first. */
+    PRIORITY("priority", Comparator.comparingInt(keys -> -keys.priority)),
+    /** Alphabetical order of names, ignoring case. */
+    NAME("name", Comparator.comparing(keys -> keys.name)),
+    /** Tasks that are not done first. */
+    DONE("done", (keys, otherKeys) -> Boolean.compare(keys.isDone, otherKeys.isDone)),
+    /** Earliest reminder first, then the tasks without reminders. */
+    REMINDER("reminder", Comparator.comparingLong(keys -> keys.reminderTime));
+
+    /**
+     * Orders tasks by their identity fields, name then priority, so that tasks tied on every sort
+     * key still have one order however the list was sorted.
+     */
+    private static final Comparator<Task> IDENTITY_ORDER =
+            Comparator.<Task, String>comparing(task -> task.getSortKeys().name)
+                    .thenComparing(task -> task.getName().fullName)
+                    .thenComparingInt(task -> task.getSortKeys().priority);
+
+    public final String keyword;
+    private final Comparator<Task> comparator;
+
+    SortKey(String keyword, Comparator<TaskSortKeys> keysComparator) {
+        this.keyword = keyword;
+        this.comparator =
+                (task, otherTask) ->
+                        keysComparator.compare(task.getSortKeys(), otherTask.getSortKeys());
+    }
+
+    public Comparator<Task> getComparator() {
+        return comparator;
+    }
+
+    /** Returns the sort key named {@code keyword}, ignoring case, if there is one. */
+    public static Optional<SortKey> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (SortKey sortKey : values()) {
+            if (sortKey.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(sortKey);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a comparator that orders tasks by the first of {@code sortKeys}, then breaks ties by
+     * each of the next ones in turn. Tasks tied on all of them are ordered by name then priority,
+     * so a task repositioned after an edit lands where a full sort would put it.
+     */
+    public static Comparator<Task> comparing(List<SortKey> sortKeys) {
+        requireNonNull(sortKeys);
+        Comparator<Task> comparator = (task, otherTask) -> 0;
+        for (SortKey sortKey : sortKeys) {
+            comparator = comparator.thenComparing(sortKey.comparator);
+        }
+        return comparator.thenComparing(IDENTITY_ORDER);
+    }
+}
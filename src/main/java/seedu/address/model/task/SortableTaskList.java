@@ -0,0 +1,161 @@
+package seedu.address.model.task;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of a list of tasks that shows them in the order of the list until it is given a
+ * comparator, and sorted by the comparator from then until the comparator is removed.
+ *
+ * <p>A {@link SortedList} holds every task of its source, so a view of a {@link LazyTaskList}
+ * would decode and keep all of them. This view only reads the tasks it is asked for while it is
+ * not sorted, and only keeps a {@code SortedList} of the tasks while it is.
+ */
+public class SortableTaskList extends TransformationList<Task, Task> {
+
+    private final ListChangeListener<Task> sortedTasksListener =
+            change -> fireChange(new ForwardedChange(change));
+    private SortedList<Task> sortedTasks; // Null while the tasks are not sorted
+
+    public SortableTaskList(ObservableList<? extends Task> source) {
+        super(source);
+    }
+
+    /** Returns the comparator the tasks are sorted by, or null if they are not sorted. */
+    public Comparator<? super Task> getComparator() {
+        return sortedTasks == null ? null : sortedTasks.getComparator();
+    }
+
+    /**
+     * Sorts the tasks by {@code comparator}, or shows them in the order of the source list if
+     * {@code comparator} is null.
+     */
+    public void setComparator(Comparator<? super Task> comparator) {
+        if (comparator == null) {
+            if (sortedTasks != null) {
+                SortedList<Task> oldSortedTasks = sortedTasks;
+                oldSortedTasks.removeListener(sortedTasksListener);
+                sortedTasks = null;
+                int[] permutation = new int[size()];
+                for (int i = 0; i < permutation.length; i++) {
+                    permutation[i] = oldSortedTasks.getSourceIndex(i);
+                }
+                firePermutation(permutation);
+            }
+        } else if (sortedTasks == null) {
+            sortedTasks = new SortedList<>(getSource(), comparator);
+            sortedTasks.addListener(sortedTasksListener);
+            int[] permutation = new int[size()];
+            for (int i = 0; i < permutation.length; i++) {
+                permutation[sortedTasks.getSourceIndex(i)] = i;
+            }
+            firePermutation(permutation);
+        } else {
+            sortedTasks.setComparator(comparator);
+        }
+    }
+
+    @Override
+    public Task get(int index) {
+        return sortedTasks == null ? getSource().get(index) : sortedTasks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return sortedTasks == null ? index : sortedTasks.getSourceIndex(index);
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return sortedTasks == null ? index : sortedTasks.getViewIndex(index);
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Task> change) {
+        // While sorted, the change is passed on once the sorted tasks have been updated
+        if (sortedTasks == null) {
+            fireChange(new ForwardedChange(change));
+        }
+    }
+
+    private void firePermutation(int[] permutation) {
+        if (permutation.length == 0) {
+            return;
+        }
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+
+    /** A change to the source list or the sorted tasks, reported as a change to this view. */
+    private class ForwardedChange extends ListChangeListener.Change<Task> {
+        private final ListChangeListener.Change<? extends Task> change;
+
+        ForwardedChange(ListChangeListener.Change<? extends Task> change) {
+            super(SortableTaskList.this);
+            this.change = change;
+        }
+
+        @Override
+        public boolean next() {
+            return change.next();
+        }
+
+        @Override
+        public void reset() {
+            change.reset();
+        }
+
+        @Override
+        public int getFrom() {
+            return change.getFrom();
+        }
+
+        @Override
+        public int getTo() {
+            return change.getTo();
+        }
+
+        @Override
+        public List<Task> getRemoved() {
+            return Collections.unmodifiableList(change.getRemoved());
+        }
+
+        @Override
+        public boolean wasPermutated() {
+            return change.wasPermutated();
+        }
+
+        @Override
+        public boolean wasUpdated() {
+            return change.wasUpdated();
+        }
+
+        @Override
+        public int getPermutation(int index) {
+            return change.getPermutation(index);
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            if (!change.wasPermutated()) {
+                return new int[0];
+            }
+            int[] permutation = new int[getTo() - getFrom()];
+            for (int i = getFrom(); i < getTo(); i++) {
+                permutation[i - getFrom()] = change.getPermutation(i);
+            }
+            return permutation;
+        }
+    }
+}
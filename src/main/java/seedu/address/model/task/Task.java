@@ -2,13 +2,15 @@ package seedu.address.model.task;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import seedu.address.model.tag.Tag;
-import seedu.address.ui.MainWindow;
 
 /**
  * Represents a Task in the task list. Guarantees: details are present and not null, field values
@@ -25,6 +27,9 @@ public class Task {
     private final Done done;
     private final Set<Tag> tags = new HashSet<>();
     private final Optional<Reminder> optionalReminder;
+    private int hashCode; // Computed when first needed, as tasks are looked up in hash sets
+    private TaskSortKeys sortKeys; // Computed when first sorted
+    private List<Tag> sortedTags; // Computed when first displayed
 
     /** Every field must be present and not null. */
     public Task(
@@ -41,7 +46,6 @@ public class Task {
         this.done = done;
         this.tags.addAll(tags);
         this.optionalReminder = optionalReminder;
-        triggerReminderIfPresent();
     }
 
     /** With done and no reminder */
@@ -69,7 +73,6 @@ public class Task {
         this.done = new Done();
         this.optionalReminder = optionalReminder;
         this.tags.addAll(tags);
-        triggerReminderIfPresent();
     }
 
     // without Reminder or done provided
@@ -83,13 +86,6 @@ public class Task {
         this.tags.addAll(tags);
     }
 
-    public void triggerReminderIfPresent() {
-        if (optionalReminder.isPresent()) {
-            Reminder reminder = optionalReminder.get();
-            MainWindow.triggerReminder(reminder, name.toString(), description.toString());
-        }
-    }
-
     public Name getName() {
         return name;
     }
@@ -111,6 +107,11 @@ public class Task {
         return optionalReminder;
     }
 
+    /** Returns how the reminder of this task repeats, if it has a repeating reminder. */
+    public Optional<Recurrence> getRecurrence() {
+        return optionalReminder.flatMap(Reminder::getRecurrence);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException} if
      * modification is attempted.
@@ -119,6 +120,24 @@ public class Task {
         return Collections.unmodifiableSet(tags);
     }
 
+    /** Returns the tags of this task in order of name, working the order out the first time. */
+    public List<Tag> getSortedTags() {
+        if (sortedTags == null) {
+            List<Tag> sorted = new ArrayList<>(tags);
+            sorted.sort(Comparator.comparing(tag -> tag.tagName));
+            sortedTags = Collections.unmodifiableList(sorted);
+        }
+        return sortedTags;
+    }
+
+    /** Returns the values this task is sorted by, working them out the first time. */
+    TaskSortKeys getSortKeys() {
+        if (sortKeys == null) {
+            sortKeys = new TaskSortKeys(this);
+        }
+        return sortKeys;
+    }
+
     /**
      * Returns true if both persons of the same name have at least one other identity field that is
      * the same. This defines a weaker notion of equality between two persons.
@@ -157,7 +176,10 @@ public class Task {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, priority, description, tags);
+        if (hashCode == 0) {
+            hashCode = Objects.hash(name, priority, description, tags);
+        }
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,44 @@
+package seedu.address.model.task;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * The identity fields of a {@code Task}. Two identities are equal exactly when their tasks are the
+ * same task as defined by {@link Task#isSameTask(Task)}, so an index can refer to a task of a task
+ * list by its identity rather than holding the task itself.
+ */
+public final class TaskIdentity {
+
+    private final Name name;
+    private final Priority priority;
+
+    public TaskIdentity(Task task) {
+        this(task.getName(), task.getPriority());
+    }
+
+    public TaskIdentity(Name name, Priority priority) {
+        requireAllNonNull(name, priority);
+        this.name = name;
+        this.priority = priority;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskIdentity // instanceof handles nulls
+                        && name.equals(((TaskIdentity) other).name)
+                        && priority.equals(((TaskIdentity) other).priority));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, priority);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (priority " + priority + ")";
+    }
+}
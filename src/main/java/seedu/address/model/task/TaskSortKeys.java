@@ -0,0 +1,32 @@
+package seedu.address.model.task;
+
+import java.time.ZoneOffset;
+import java.util.Locale;
+
+/**
+ * The values a {@code Task} is sorted by, worked out once from its fields so that comparing two
+ * tasks neither folds the case of their names nor converts their reminder times.
+ */
+class TaskSortKeys {
+
+    /** Reminder time of a task without a reminder, which sorts after every reminder. */
+    static final long NO_REMINDER = Long.MAX_VALUE;
+
+    final int priority;
+    final String name;
+    final boolean isDone;
+    final long reminderTime;
+
+    TaskSortKeys(Task task) {
+        priority = Integer.parseInt(task.getPriority().value);
+        name = task.getName().fullName.toLowerCase(Locale.ROOT);
+        isDone = task.getDone().isDone;
+        reminderTime =
+                task.getOptionalReminder()
+                        .map(
+                                reminder ->
+                                        reminder.getReminderDateTime()
+                                                .toEpochSecond(ZoneOffset.UTC))
+                        .orElse(NO_REMINDER);
+    }
+}
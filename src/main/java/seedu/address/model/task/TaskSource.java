@@ -0,0 +1,25 @@
+package seedu.address.model.task;
+
+/**
+ * A fixed sequence of tasks that are kept outside the model and only turned into {@code Task}
+ * objects when they are asked for.
+ *
+ * @see LazyTaskList
+ */
+public interface TaskSource {
+
+    /** Returns the number of tasks in this source. */
+    int size();
+
+    /** Returns the task at {@code index}. Repeated calls may return different but equal tasks. */
+    Task getTask(int index);
+
+    /** Returns the name of the task at {@code index} without building the whole task. */
+    Name getName(int index);
+
+    /** Returns the priority of the task at {@code index} without building the whole task. */
+    Priority getPriority(int index);
+
+    /** Returns true if the task at {@code index} has a reminder, without building the task. */
+    boolean hasReminder(int index);
+}
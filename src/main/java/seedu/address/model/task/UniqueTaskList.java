@@ -3,8 +3,13 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
@@ -18,20 +23,53 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
  * person uses Task#equals(Object) so as to ensure that the person with exactly the same fields will
  * be removed.
  *
+ * <p>Tasks are also indexed by their identity fields, mapping each identity to the task's position
+ * in the list, so that duplicate detection, replacement and removal do not need to scan the whole
+ * list. Their names are indexed by word in a {@link NameIndex}, so that tasks can be found by
+ * name without testing every task.
+ *
+ * <p>The tasks are held in a {@link LazyTaskList}, so a list set from a {@code LazyTaskList} keeps
+ * only the identity fields of its tasks in memory.
+ *
  * <p>Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final LazyTaskList internalList = new LazyTaskList();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<TaskIdentity, Integer> positionIndex = new HashMap<>();
+    private final NameIndex nameIndex = new NameIndex();
+
+    /**
+     * Positions at or after this index may be stale after a removal and are recomputed lazily by
+     * {@link #indexOfSameTask(Task)}. Positions before it are always accurate.
+     */
+    private int stalePositionsFrom = Integer.MAX_VALUE;
 
     /** Returns true if the list contains an equivalent person as the given argument. */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return positionIndex.containsKey(new TaskIdentity(toCheck));
+    }
+
+    /**
+     * Returns the task in the list with the same identity as {@code task}, as defined by {@link
+     * Task#isSameTask(Task)}, if there is one.
+     */
+    public Optional<Task> getSameTask(Task task) {
+        requireNonNull(task);
+        int index = indexOfSameTask(task);
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /** Returns the task in the list with {@code identity}, if there is one. */
+    public Optional<Task> getTask(TaskIdentity identity) {
+        requireNonNull(identity);
+        int index = indexOfIdentity(identity);
+        return index == -1 ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /** Adds a person to the list. The person must not already exist in the list. */
@@ -40,6 +78,8 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
+        positionIndex.put(new TaskIdentity(toAdd), internalList.size());
+        nameIndex.add(toAdd.getName());
         internalList.add(toAdd);
     }
 
@@ -51,7 +91,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
@@ -60,35 +100,111 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
+        positionIndex.remove(new TaskIdentity(target));
+        positionIndex.put(new TaskIdentity(editedTask), index);
+        if (!target.getName().equals(editedTask.getName())) {
+            nameIndex.remove(target.getName());
+            nameIndex.add(editedTask.getName());
+        }
         internalList.set(index, editedTask);
     }
 
     /** Removes the equivalent person from the list. The person must exist in the list. */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+
+        positionIndex.remove(new TaskIdentity(toRemove));
+        nameIndex.remove(toRemove.getName());
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        internalList.remove(index);
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
+        nameIndex.setAll(replacement.nameIndex);
+        stalePositionsFrom = replacement.stalePositionsFrom;
+        internalList.replaceWith(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}. {@code persons} must not contain
-     * duplicate persons.
+     * duplicate persons. If {@code tasks} is a {@link LazyTaskList}, its tasks are not decoded.
      */
     public void setTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        if (tasks instanceof LazyTaskList) {
+            setTasks((LazyTaskList) tasks);
+            return;
+        }
+
         requireAllNonNull(tasks);
-        if (!tasksAreUnique(tasks)) {
+        Map<TaskIdentity, Integer> newIndex = indexTasks(tasks);
+        if (newIndex == null) {
             throw new DuplicateTaskException();
         }
 
+        positionIndex.clear();
+        positionIndex.putAll(newIndex);
+        nameIndex.clear();
+        for (Task task : tasks) {
+            nameIndex.add(task.getName());
+        }
+        stalePositionsFrom = Integer.MAX_VALUE;
         internalList.setAll(tasks);
     }
 
+    private void setTasks(LazyTaskList tasks) {
+        Map<TaskIdentity, Integer> newIndex = new HashMap<>(tasks.size() * 2);
+        NameIndex newNameIndex = new NameIndex();
+        for (int i = 0; i < tasks.size(); i++) {
+            Name name = tasks.getName(i);
+            if (newIndex.putIfAbsent(new TaskIdentity(name, tasks.getPriority(i)), i) != null) {
+                throw new DuplicateTaskException();
+            }
+            newNameIndex.add(name);
+        }
+
+        positionIndex.clear();
+        positionIndex.putAll(newIndex);
+        nameIndex.setAll(newNameIndex);
+        stalePositionsFrom = Integer.MAX_VALUE;
+        internalList.replaceWith(tasks);
+    }
+
+    /** Returns the names in the list that contain any of {@code keywords} as a whole word. */
+    public Set<Name> getNamesContainingAnyWord(List<String> keywords) {
+        return nameIndex.getNamesContainingAnyWord(keywords);
+    }
+
+    /** Returns the names of the tasks in the list, in order, without decoding the tasks. */
+    public List<Name> getNames() {
+        List<Name> names = new ArrayList<>(internalList.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            names.add(internalList.getName(i));
+        }
+        return names;
+    }
+
+    /**
+     * Returns the tasks in the list that have a reminder, in order. Only those tasks are decoded
+     * from a lazily read list.
+     */
+    public List<Task> getTasksWithReminders() {
+        List<Task> tasksWithReminders = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.hasReminder(i)) {
+                tasksWithReminders.add(internalList.get(i));
+            }
+        }
+        return tasksWithReminders;
+    }
+
     /** Returns the backing list as an unmodifiable {@code ObservableList}. */
     public ObservableList<Task> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -111,15 +227,57 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalList.hashCode();
     }
 
-    /** Returns true if {@code persons} contains only unique persons. */
-    private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+    /**
+     * Returns the position of {@code task} in the list, or -1 if the list does not contain a task
+     * equal to {@code task} as defined by {@link Task#equals(Object)}.
+     */
+    private int indexOf(Task task) {
+        int index = indexOfSameTask(task);
+        return index != -1 && internalList.get(index).equals(task) ? index : -1;
+    }
+
+    /**
+     * Returns the position of the task with the same identity as {@code task}, or -1 if there is
+     * none.
+     */
+    private int indexOfSameTask(Task task) {
+        return indexOfIdentity(new TaskIdentity(task));
+    }
+
+    /** Returns the position of the task with {@code identity}, or -1 if there is none. */
+    private int indexOfIdentity(TaskIdentity identity) {
+        Integer index = positionIndex.get(identity);
+        if (index == null) {
+            return -1;
+        }
+
+        if (index >= stalePositionsFrom) {
+            refreshPositions();
+            index = positionIndex.get(identity);
+        }
+        return index;
+    }
+
+    /** Recomputes the positions of all tasks at or after {@code stalePositionsFrom}. */
+    private void refreshPositions() {
+        for (int i = stalePositionsFrom; i < internalList.size(); i++) {
+            positionIndex.put(
+                    new TaskIdentity(internalList.getName(i), internalList.getPriority(i)), i);
+        }
+        stalePositionsFrom = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the position index of {@code tasks}, or null if {@code tasks} contains two tasks with
+     * the same identity.
+     */
+    private static Map<TaskIdentity, Integer> indexTasks(List<Task> tasks) {
+        Map<TaskIdentity, Integer> index = new HashMap<>(tasks.size() * 2);
+        for (int i = 0; i < tasks.size(); i++) {
+            if (index.putIfAbsent(new TaskIdentity(tasks.get(i)), i) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
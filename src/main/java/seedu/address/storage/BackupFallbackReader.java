@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskList;
+
+/**
+ * Reads task list files saved through {@link FileUtil#replaceFileWithBackup}, falling back to the
+ * backup when the file itself is missing or cannot be read.
+ */
+class BackupFallbackReader {
+
+    private static final Logger logger = LogsCenter.getLogger(BackupFallbackReader.class);
+
+    /**
+     * Returns the task list read by {@code reader} from {@code filePath}, or from its backup if
+     * that fails.
+     *
+     * @throws DataConversionException if neither file can be read. The exception is the one
+     *     thrown for {@code filePath}.
+     */
+    static Optional<ReadOnlyTaskList> read(Path filePath, TaskListFileReader reader)
+            throws DataConversionException {
+        Path backupFilePath = FileUtil.getBackupFilePath(filePath);
+        if (!Files.exists(backupFilePath)) {
+            return reader.read(filePath);
+        }
+
+        try {
+            Optional<ReadOnlyTaskList> taskList = reader.read(filePath);
+            if (taskList.isPresent()) {
+                return taskList;
+            }
+        } catch (DataConversionException dce) {
+            logger.warning("Reading backup " + backupFilePath + " instead of " + filePath);
+            try {
+                return reader.read(backupFilePath);
+            } catch (DataConversionException backupDce) {
+                throw dce;
+            }
+        }
+
+        logger.warning("Reading backup " + backupFilePath + " instead of " + filePath);
+        return reader.read(backupFilePath);
+    }
+
+    /** Reads a single task list file. */
+    @FunctionalInterface
+    interface TaskListFileReader {
+        /** Returns the task list in {@code filePath}, or an empty optional if it is missing. */
+        Optional<ReadOnlyTaskList> read(Path filePath) throws DataConversionException;
+    }
+}
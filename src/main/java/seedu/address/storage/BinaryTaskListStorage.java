@@ -0,0 +1,393 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.Done;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.Reminder;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access TaskList data stored in a compact binary file on the hard disk.
+ *
+ * <p>The file starts with a magic number and a format version, followed by a table of every
+ * distinct tag name and then the tasks. Strings are stored as their length in bytes followed by
+ * their UTF-8 encoding. Each task is stored as its name, a priority byte, its description, a done
+ * byte, the positions of its tags in the tag table, and a byte telling whether it has a reminder,
+ * followed by the reminder's date and time in seconds since the epoch if it does. A reminder is
+ * followed by a byte telling how it repeats: not at all, every given number of days, which then
+ * follows, or on weekdays. Files of earlier versions, which have no reminders or no recurrences,
+ * can still be read.
+ */
+public class BinaryTaskListStorage implements TaskListStorage {
+
+    public static final int MAGIC_NUMBER = 0x544c5354; // "TLST"
+    public static final int FORMAT_VERSION = 3;
+
+    public static final String MESSAGE_NOT_TASK_LIST = "File is not a binary task list";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported task list version %d";
+    public static final String MESSAGE_INVALID_COUNT = "Invalid %s count %d";
+    public static final String MESSAGE_INVALID_TAG_INDEX = "Invalid tag index %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskListStorage.class);
+
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final int FIRST_FORMAT_VERSION = 1;
+    private static final int FIRST_FORMAT_VERSION_WITH_REMINDERS = 2;
+    private static final int FIRST_FORMAT_VERSION_WITH_RECURRENCES = 3;
+
+    // Recurrence bytes, telling how a reminder repeats
+    private static final int DOES_NOT_REPEAT = 0;
+    private static final int REPEATS_EVERY_N_DAYS = 1;
+    private static final int REPEATS_ON_WEEKDAYS = 2;
+
+    // Priorities and done states are immutable, so every task read shares these instances
+    private static final Priority[] PRIORITIES = {
+        new Priority("1"), new Priority("2"), new Priority("3")
+    };
+    private static final Done[] DONES = {new Done(Done.NOT_DONE), new Done(Done.DONE)};
+
+    private final Path filePath;
+
+    public BinaryTaskListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary file to keep next to the json file at {@code jsonFilePath},
+     * which is the json file name with its extension replaced.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getTaskListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException {
+        return readTaskList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskList()}.
+     *
+     * <p>If the file is missing or cannot be read, the backup kept by the previous save is read
+     * instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        return BackupFallbackReader.read(filePath, this::readTaskListFile);
+    }
+
+    private Optional<ReadOnlyTaskList> readTaskListFile(Path filePath)
+            throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readTaskList(in));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static TaskList readTaskList(DataInputStream in)
+            throws IOException, IllegalValueException {
+        Header header = readHeader(in);
+
+        TaskList taskList = new TaskList();
+        int taskCount = readCount(in, "task");
+        for (int i = 0; i < taskCount; i++) {
+            Task task = readTask(in, header);
+            if (taskList.hasTask(task)) {
+                throw new IllegalValueException(JsonSerializableTaskList.MESSAGE_DUPLICATE_TASK);
+            }
+            taskList.addTask(task);
+        }
+
+        readEnd(in);
+        return taskList;
+    }
+
+    /** Reads the magic number, the format version and the tag table at the start of a file. */
+    static Header readHeader(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_TASK_LIST);
+        }
+        int version = in.readUnsignedByte();
+        if (version < FIRST_FORMAT_VERSION || version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int tagCount = readCount(in, "tag");
+        List<Tag> tagTable = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tagTable.add(
+                    ModelValues.toModelValue(Tag::new, readString(in), Tag.MESSAGE_CONSTRAINTS));
+        }
+        return new Header(version, tagTable);
+    }
+
+    /** Checks that nothing follows the last task. */
+    static void readEnd(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.read() != -1) {
+            throw new IllegalValueException(MESSAGE_NOT_TASK_LIST);
+        }
+    }
+
+    /** Reads a task in the format of {@code header}, whose tags are positions in its tag table. */
+    static Task readTask(DataInputStream in, Header header)
+            throws IOException, IllegalValueException {
+        List<Tag> tagTable = header.tagTable;
+        Name name = ModelValues.toModelValue(Name::new, readString(in), Name.MESSAGE_CONSTRAINTS);
+
+        Priority priority = readPriority(in);
+
+        Description description =
+                ModelValues.toModelValue(
+                        Description::new, readString(in), Description.MESSAGE_CONSTRAINTS);
+
+        int done = in.readUnsignedByte();
+        if (done >= DONES.length) {
+            throw new IllegalValueException(Done.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = readCount(in, "tag");
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tagIndex = in.readInt();
+            if (tagIndex < 0 || tagIndex >= tagTable.size()) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_INVALID_TAG_INDEX, tagIndex));
+            }
+            tags.add(tagTable.get(tagIndex));
+        }
+
+        Optional<Reminder> reminder =
+                header.version >= FIRST_FORMAT_VERSION_WITH_REMINDERS
+                        ? readReminder(in, header)
+                        : Optional.empty();
+        return new Task(name, priority, description, DONES[done], tags, reminder);
+    }
+
+    /**
+     * Reads a reminder flag byte, followed by the reminder's time and, in the format of {@code
+     * header}, its recurrence if the flag is set.
+     */
+    private static Optional<Reminder> readReminder(DataInputStream in, Header header)
+            throws IOException, IllegalValueException {
+        int hasReminder = in.readUnsignedByte();
+        if (hasReminder == 0) {
+            return Optional.empty();
+        }
+        if (hasReminder != 1) {
+            throw new IllegalValueException(MESSAGE_NOT_TASK_LIST);
+        }
+
+        long epochSecond = in.readLong();
+        Optional<Recurrence> recurrence =
+                header.version >= FIRST_FORMAT_VERSION_WITH_RECURRENCES
+                        ? readRecurrence(in)
+                        : Optional.empty();
+        try {
+            // Saved reminders may have been missed, so unlike entered ones they may be in the past
+            return Optional.of(
+                    Reminder.of(
+                            LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC),
+                            recurrence));
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_NOT_TASK_LIST);
+        }
+    }
+
+    /** Reads a recurrence byte, followed by the number of days between occurrences if needed. */
+    private static Optional<Recurrence> readRecurrence(DataInputStream in)
+            throws IOException, IllegalValueException {
+        int recurrence = in.readUnsignedByte();
+        switch (recurrence) {
+            case DOES_NOT_REPEAT:
+                return Optional.empty();
+            case REPEATS_EVERY_N_DAYS:
+                int intervalDays = in.readUnsignedShort();
+                if (intervalDays < 1 || intervalDays > Recurrence.MAX_INTERVAL_DAYS) {
+                    throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+                }
+                return Optional.of(Recurrence.everyDays(intervalDays));
+            case REPEATS_ON_WEEKDAYS:
+                return Optional.of(Recurrence.WEEKDAYS);
+            default:
+                throw new IllegalValueException(MESSAGE_NOT_TASK_LIST);
+        }
+    }
+
+    /** Reads a priority byte. */
+    static Priority readPriority(DataInputStream in) throws IOException, IllegalValueException {
+        int priority = in.readUnsignedByte();
+        if (priority < 1 || priority > PRIORITIES.length) {
+            throw new IllegalValueException(Priority.MESSAGE_CONSTRAINTS);
+        }
+        return PRIORITIES[priority - 1];
+    }
+
+    static int readCount(DataInputStream in, String countOf)
+            throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_COUNT, countOf, count));
+        }
+        return count;
+    }
+
+    static String readString(DataInputStream in)
+            throws IOException, IllegalValueException {
+        int length = readCount(in, "byte");
+        // readNBytes grows its buffer as it reads, so a corrupt length cannot exhaust the heap
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskList(ReadOnlyTaskList)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+
+        List<Task> tasks = taskList.getTaskList();
+        Map<Tag, Integer> tagTable = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            for (Tag tag : task.getTags()) {
+                tagTable.putIfAbsent(tag, tagTable.size());
+            }
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.replaceFileWithBackup(
+                filePath,
+                out -> {
+                    try (DataOutputStream data =
+                            new DataOutputStream(new BufferedOutputStream(out))) {
+                        writeTaskList(data, tagTable, tasks);
+                    }
+                });
+    }
+
+    private static void writeTaskList(
+            DataOutputStream out, Map<Tag, Integer> tagTable, List<Task> tasks)
+            throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeByte(FORMAT_VERSION);
+
+        out.writeInt(tagTable.size());
+        for (Tag tag : tagTable.keySet()) {
+            writeString(out, tag.tagName);
+        }
+
+        out.writeInt(tasks.size());
+        for (Task task : tasks) {
+            writeString(out, task.getName().fullName);
+            out.writeByte(Integer.parseInt(task.getPriority().value));
+            writeString(out, task.getDescription().value);
+            out.writeByte(task.getDone().isDone ? 1 : 0);
+            out.writeInt(task.getTags().size());
+            for (Tag tag : task.getTags()) {
+                out.writeInt(tagTable.get(tag));
+            }
+            Optional<Reminder> reminder = task.getOptionalReminder();
+            out.writeByte(reminder.isPresent() ? 1 : 0);
+            if (reminder.isPresent()) {
+                out.writeLong(reminder.get().getReminderDateTime().toEpochSecond(ZoneOffset.UTC));
+                writeRecurrence(out, reminder.get().getRecurrence());
+            }
+        }
+    }
+
+    private static void writeRecurrence(DataOutputStream out, Optional<Recurrence> recurrence)
+            throws IOException {
+        if (!recurrence.isPresent()) {
+            out.writeByte(DOES_NOT_REPEAT);
+        } else if (recurrence.get().isWeekdaysOnly()) {
+            out.writeByte(REPEATS_ON_WEEKDAYS);
+        } else {
+            out.writeByte(REPEATS_EVERY_N_DAYS);
+            out.writeShort(recurrence.get().getIntervalDays());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /** The format version and tag table at the start of a file, needed to read its tasks. */
+    static class Header {
+        private final int version;
+        private final List<Tag> tagTable;
+
+        Header(int version, List<Tag> tagTable) {
+            this.version = version;
+            this.tagTable = tagTable;
+        }
+    }
+}
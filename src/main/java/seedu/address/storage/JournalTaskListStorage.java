@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.DuplicateTaskException;
+
+/**
+ * A class to access TaskList data stored as a json snapshot plus an append-only journal of the
+ * changes made since the snapshot was taken.
+ *
+ * <p>Each save appends one record per changed task to the journal, which sits next to the snapshot
+ * with a {@code .journal} suffix, and forces the records to the disk before returning. Once the
+ * journal holds {@code compactionThreshold} records, the next save writes a fresh snapshot and
+ * starts an empty journal. The snapshot has the same format as the file written by {@link
+ * JsonTaskListStorage}.
+ *
+ * <p>Every journal record carries a checksum, so a record that was only partially written when the
+ * app stopped is detected and ignored, together with anything after it. The journal also starts
+ * with the checksum of the snapshot it applies to, so a journal left behind by an interrupted
+ * compaction is never replayed on top of the newer snapshot.
+ *
+ * <p>Only the changed tasks are serialised and written, but each save still takes O(n) time in the
+ * number of tasks: the list is copied, and compared by reference with the list saved before to
+ * find the changed range. The write-behind snapshot taken by {@link StorageManager} copies the list
+ * as well, so recording each change as the model makes it would not make saving O(1) by itself.
+ */
+public class JournalTaskListStorage implements TaskListStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalTaskListStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String JOURNAL_HEADER_PREFIX = "snapshot ";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    // The tasks known to be in storage at journalledFilePath, or null if unknown
+    private Path journalledFilePath;
+    private List<Task> savedTasks;
+    private int recordsSinceSnapshot;
+
+    public JournalTaskListStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalTaskListStorage} that compacts its journal into a new snapshot once
+     * the journal holds {@code compactionThreshold} records.
+     */
+    public JournalTaskListStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getTaskListFilePath() {
+        return filePath;
+    }
+
+    /** Returns the path of the journal that accompanies the snapshot at {@code filePath}. */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException {
+        return readTaskList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskList()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            byte[] snapshot = Files.readAllBytes(filePath);
+            List<Task> tasks =
+                    new ArrayList<>(
+                            JsonUtil.fromJsonString(
+                                            new String(snapshot, StandardCharsets.UTF_8),
+                                            JsonSerializableTaskList.class)
+                                    .toModelType()
+                                    .getTaskList());
+            int replayedRecords =
+                    replayJournal(getJournalFilePath(filePath), checksum(snapshot), tasks);
+
+            TaskList taskList = new TaskList();
+            taskList.setTasks(tasks);
+
+            journalledFilePath = filePath;
+            savedTasks = tasks;
+            recordsSinceSnapshot = replayedRecords;
+            return Optional.of(taskList);
+        } catch (IOException | IllegalValueException | DuplicateTaskException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code tasks}, stopping at the
+     * first torn record. Returns the number of records read, or {@code compactionThreshold} if the
+     * journal has to be rewritten before anything can be appended to it again.
+     */
+    private int replayJournal(Path journalPath, long snapshotChecksum, List<Task> tasks)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return compactionThreshold;
+        }
+
+        String[] lines = FileUtil.readFromFile(journalPath).split(LINE_SEPARATOR, -1);
+        if (!lines[0].equals(journalHeader(snapshotChecksum))) {
+            logger.info("Journal " + journalPath + " does not belong to the snapshot, ignoring it");
+            return compactionThreshold;
+        }
+
+        // The last element is empty if the journal ends with a complete record
+        int lastRecord = lines.length - 2;
+        for (int i = 1; i <= lastRecord; i++) {
+            Optional<JsonAdaptedJournalRecord> record =
+                    parseRecord(lines[i], JsonAdaptedJournalRecord.class);
+            if (!record.isPresent()) {
+                logger.warning("Ignoring torn record at line " + (i + 1) + " of " + journalPath);
+                return compactionThreshold;
+            }
+            record.get().applyTo(tasks);
+        }
+
+        if (!lines[lines.length - 1].isEmpty()) {
+            logger.warning("Ignoring incomplete last record of " + journalPath);
+            return compactionThreshold;
+        }
+        return lastRecord;
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskList(ReadOnlyTaskList)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+
+        List<Task> tasks = new ArrayList<>(taskList.getTaskList());
+        if (savedTasks == null || !filePath.equals(journalledFilePath)) {
+            writeSnapshot(tasks, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = diff(savedTasks, tasks);
+        if (records.isEmpty()) {
+            return;
+        }
+
+        if (recordsSinceSnapshot + records.size() > compactionThreshold) {
+            writeSnapshot(tasks, filePath);
+            return;
+        }
+
+        StringBuilder toAppend = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            toAppend.append(formatRecord(record));
+        }
+        FileUtil.appendToFile(
+                getJournalFilePath(filePath), toAppend.toString().getBytes(StandardCharsets.UTF_8));
+
+        savedTasks = tasks;
+        recordsSinceSnapshot += records.size();
+    }
+
+    /** Replaces the snapshot at {@code filePath} with {@code tasks} and starts an empty journal. */
+    private void writeSnapshot(List<Task> tasks, Path filePath) throws IOException {
+        ObservableList<Task> snapshotTasks = FXCollections.observableArrayList(tasks);
+        byte[] snapshot =
+                JsonUtil.toJsonString(new JsonSerializableTaskList(() -> snapshotTasks))
+                        .getBytes(StandardCharsets.UTF_8);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.replaceFile(filePath, out -> out.write(snapshot));
+        String journalHeader = journalHeader(checksum(snapshot)) + LINE_SEPARATOR;
+        byte[] journal = journalHeader.getBytes(StandardCharsets.UTF_8);
+        FileUtil.replaceFile(getJournalFilePath(filePath), out -> out.write(journal));
+
+        journalledFilePath = filePath;
+        savedTasks = tasks;
+        recordsSinceSnapshot = 0;
+    }
+
+    /**
+     * Returns the records that turn {@code oldTasks} into {@code newTasks}. Tasks are immutable, so
+     * only the range between the longest common prefix and suffix, compared by reference, needs to
+     * be recorded.
+     */
+    private static List<JsonAdaptedJournalRecord> diff(List<Task> oldTasks, List<Task> newTasks) {
+        int prefix = 0;
+        int maxPrefix = Math.min(oldTasks.size(), newTasks.size());
+        while (prefix < maxPrefix && oldTasks.get(prefix) == newTasks.get(prefix)) {
+            prefix++;
+        }
+
+        int oldEnd = oldTasks.size();
+        int newEnd = newTasks.size();
+        while (oldEnd > prefix
+                && newEnd > prefix
+                && oldTasks.get(oldEnd - 1) == newTasks.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int replaced = Math.min(oldEnd, newEnd) - prefix;
+        for (int i = prefix; i < prefix + replaced; i++) {
+            records.add(JsonAdaptedJournalRecord.set(i, newTasks.get(i)));
+        }
+        for (int i = prefix + replaced; i < oldEnd; i++) {
+            records.add(JsonAdaptedJournalRecord.remove(prefix + replaced));
+        }
+        for (int i = prefix + replaced; i < newEnd; i++) {
+            records.add(JsonAdaptedJournalRecord.insert(i, newTasks.get(i)));
+        }
+        return records;
+    }
+
+    /**
+     * Returns {@code record} as a line of json that starts with its checksum, so that the line can
+     * be told apart from one that was only partially written.
+     */
+    static String formatRecord(Object record) throws IOException {
+        String json = JsonUtil.toCompactJsonString(record);
+        long recordChecksum = checksum(json.getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x %s%s", recordChecksum, json, LINE_SEPARATOR);
+    }
+
+    /**
+     * Returns the record on {@code line}, as written by {@link #formatRecord(Object)}, or an empty
+     * optional if the line is torn.
+     */
+    static <T> Optional<T> parseRecord(String line, Class<T> recordType) {
+        int separator = line.indexOf(' ');
+        if (separator == -1) {
+            return Optional.empty();
+        }
+
+        String json = line.substring(separator + 1);
+        try {
+            long expectedChecksum = Long.parseLong(line.substring(0, separator), 16);
+            if (expectedChecksum != checksum(json.getBytes(StandardCharsets.UTF_8))) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonUtil.fromJsonString(json, recordType));
+        } catch (NumberFormatException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String journalHeader(long snapshotChecksum) {
+        return JOURNAL_HEADER_PREFIX + Long.toHexString(snapshotChecksum);
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Task;
+
+/** Jackson-friendly version of a single change to a task list, as recorded in a journal. */
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_INSERT = "insert";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_REMOVE = "remove";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private final String op;
+    private final int index;
+    private final JsonAdaptedTask task;
+
+    /** Constructs a {@code JsonAdaptedJournalRecord} with the given details. */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(
+            @JsonProperty("op") String op,
+            @JsonProperty("index") int index,
+            @JsonProperty("task") JsonAdaptedTask task) {
+        this.op = op;
+        this.index = index;
+        this.task = task;
+    }
+
+    /** Returns a record that inserts {@code task} at {@code index}. */
+    public static JsonAdaptedJournalRecord insert(int index, Task task) {
+        return new JsonAdaptedJournalRecord(OPERATION_INSERT, index, new JsonAdaptedTask(task));
+    }
+
+    /** Returns a record that replaces the task at {@code index} with {@code task}. */
+    public static JsonAdaptedJournalRecord set(int index, Task task) {
+        return new JsonAdaptedJournalRecord(OPERATION_SET, index, new JsonAdaptedTask(task));
+    }
+
+    /** Returns a record that removes the task at {@code index}. */
+    public static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(OPERATION_REMOVE, index, null);
+    }
+
+    /**
+     * Applies this change to {@code tasks}.
+     *
+     * @throws IllegalValueException if this record is malformed or does not fit {@code tasks}.
+     */
+    public void applyTo(List<Task> tasks) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing op"));
+        }
+
+        int upperBound = op.equals(OPERATION_INSERT) ? tasks.size() : tasks.size() - 1;
+        if (index < 0 || index > upperBound) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_INVALID_RECORD, "index " + index + " out of range"));
+        }
+
+        switch (op) {
+            case OPERATION_INSERT:
+                tasks.add(index, toModelTask());
+                break;
+
+            case OPERATION_SET:
+                tasks.set(index, toModelTask());
+                break;
+
+            case OPERATION_REMOVE:
+                tasks.remove(index);
+                break;
+
+            default:
+                throw new IllegalValueException(
+                        String.format(MESSAGE_INVALID_RECORD, "unknown op " + op));
+        }
+    }
+
+    private Task toModelTask() throws IllegalValueException {
+        if (task == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing task"));
+        }
+        return task.toModelType();
+    }
+}
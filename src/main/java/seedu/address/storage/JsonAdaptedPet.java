@@ -10,6 +10,7 @@ import seedu.address.model.ReadOnlyPet;
 @JsonRootName(value = "pet")
 class JsonAdaptedPet {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Pet's %s field is missing!";
+    public static final String MESSAGE_INVALID_NUMBER = "Pet's %s should be a whole number";
 
     private final String name;
     private final String exp;
@@ -29,8 +30,8 @@ class JsonAdaptedPet {
     /** Converts a given {@code Task} into this class for Jackson use. */
     public JsonAdaptedPet(ReadOnlyPet source) {
         name = source.getName();
-        exp = source.getExp();
-        level = source.getLevel();
+        exp = String.valueOf(source.getExp());
+        level = String.valueOf(source.getLevel());
     }
 
     /**
@@ -68,6 +69,20 @@ class JsonAdaptedPet {
         // }
         // final level modellevel = new level(level);
 
-        return new Pet(name, exp, level);
+        return new Pet(name, toModelNumber(exp, "exp"), toModelNumber(level, "level"));
+    }
+
+    /**
+     * Returns {@code value} as a number. Numbers are stored as strings, as they were before the
+     * pet kept them as numbers.
+     *
+     * @throws IllegalValueException if {@code value} is not a whole number.
+     */
+    private static int toModelNumber(String value, String fieldName) throws IllegalValueException {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_NUMBER, fieldName));
+        }
     }
 }
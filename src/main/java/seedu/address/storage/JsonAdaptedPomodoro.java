@@ -14,22 +14,26 @@ class JsonAdaptedPomodoro {
     private String defaultTime;
     private String timeLeft;
     private JsonAdaptedTask runningTask;
+    private boolean paused;
 
     /** Constructs a {@code JsonAdaptedTask} with the given person details. */
     @JsonCreator
     public JsonAdaptedPomodoro(
             @JsonProperty("defaultTime") String defaultTime,
             @JsonProperty("timeLeft") String timeLeft,
-            @JsonProperty("runningTask") JsonAdaptedTask runningTask) {
+            @JsonProperty("runningTask") JsonAdaptedTask runningTask,
+            @JsonProperty("paused") boolean paused) {
         this.defaultTime = defaultTime;
         this.timeLeft = timeLeft;
         this.runningTask = runningTask;
+        this.paused = paused;
     }
 
     /** Converts a given {@code Task} into this class for Jackson use. */
     public JsonAdaptedPomodoro(ReadOnlyPomodoro source) {
         this.defaultTime = source.getDefaultTime();
-        this.timeLeft = source.getTimeLeft();
+        this.timeLeft = source.getTimeLeft(); // Read once, as it changes while running
+        this.paused = source.isPaused();
         if (source.getRunningTask() == null) {
             this.runningTask = null;
         } else {
@@ -44,7 +48,7 @@ class JsonAdaptedPomodoro {
      *     person.
      */
     public ReadOnlyPomodoro toModelType() throws IllegalValueException {
-        if (runningTask == null) return new Pomodoro(defaultTime, timeLeft, null);
-        return new Pomodoro(defaultTime, timeLeft, runningTask.toModelType());
+        if (runningTask == null) return new Pomodoro(defaultTime, timeLeft, null, paused);
+        return new Pomodoro(defaultTime, timeLeft, runningTask.toModelType(), paused);
     }
 }
@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.statistics.PomodoroSession;
+import seedu.address.model.statistics.PomodoroSession.Outcome;
+
+/** Jackson-friendly version of {@link PomodoroSession}. */
+class JsonAdaptedPomodoroSession {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Session's %s field is missing!";
+    public static final String MESSAGE_INVALID_START =
+            "Session's start should be a date and time such as 2020-11-04T10:30";
+    public static final String MESSAGE_INVALID_OUTCOME =
+            "Session's outcome should be COMPLETED or ABORTED";
+
+    private final String task;
+    private final String start;
+    private final long seconds;
+    private final String outcome;
+
+    /** Constructs a {@code JsonAdaptedPomodoroSession} with the given session details. */
+    @JsonCreator
+    public JsonAdaptedPomodoroSession(
+            @JsonProperty("task") String task,
+            @JsonProperty("start") String start,
+            @JsonProperty("seconds") long seconds,
+            @JsonProperty("outcome") String outcome) {
+        this.task = task;
+        this.start = start;
+        this.seconds = seconds;
+        this.outcome = outcome;
+    }
+
+    /** Converts a given {@code PomodoroSession} into this class for Jackson use. */
+    public JsonAdaptedPomodoroSession(PomodoroSession source) {
+        task = source.getTaskName();
+        start = source.getStart().toString();
+        seconds = source.getDuration().getSeconds();
+        outcome = source.getOutcome().name();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted session object into the model's {@code
+     * PomodoroSession} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted
+     *     session.
+     */
+    public PomodoroSession toModelType() throws IllegalValueException {
+        if (task == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "task"));
+        }
+        if (start == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "start"));
+        }
+        if (outcome == null) {
+            throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, "outcome"));
+        }
+        if (seconds < 0) {
+            throw new IllegalValueException(PomodoroSession.MESSAGE_CONSTRAINTS);
+        }
+
+        final LocalDateTime modelStart;
+        try {
+            modelStart = LocalDateTime.parse(start);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_START);
+        }
+
+        final Outcome modelOutcome;
+        try {
+            modelOutcome = Outcome.valueOf(outcome);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_OUTCOME);
+        }
+
+        return new PomodoroSession(task, modelStart, Duration.ofSeconds(seconds), modelOutcome);
+    }
+}
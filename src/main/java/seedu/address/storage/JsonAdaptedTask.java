@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -13,12 +17,18 @@ import seedu.address.model.task.Description;
 import seedu.address.model.task.Done;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Priority;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.Reminder;
 import seedu.address.model.task.Task;
 
 /** Jackson-friendly version of {@link Task}. */
 class JsonAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
+    public static final String MESSAGE_INVALID_REMINDER =
+            "Task's reminder should be a date and time such as 2020-11-04T10:30";
+    public static final String MESSAGE_RECURRENCE_WITHOUT_REMINDER =
+            "Task's recurrence should come with a reminder";
 
     private final String name;
     private final String priority;
@@ -26,6 +36,12 @@ class JsonAdaptedTask {
     private final String done;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String reminder; // null if the task has no reminder
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String recurrence; // null if the task's reminder does not repeat
+
     /** Constructs a {@code JsonAdaptedTask} with the given person details. */
     @JsonCreator
     public JsonAdaptedTask(
@@ -33,7 +49,9 @@ class JsonAdaptedTask {
             @JsonProperty("priority") String priority,
             @JsonProperty("description") String description,
             @JsonProperty("done") String done,
-            @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+            @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
+            @JsonProperty("reminder") String reminder,
+            @JsonProperty("recurrence") String recurrence) {
         this.name = name;
         this.priority = priority;
         this.description = description;
@@ -41,6 +59,8 @@ class JsonAdaptedTask {
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
+        this.reminder = reminder;
+        this.recurrence = recurrence;
     }
 
     /** Converts a given {@code Task} into this class for Jackson use. */
@@ -51,6 +71,11 @@ class JsonAdaptedTask {
         done = source.getDone().toString();
         tagged.addAll(
                 source.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()));
+        reminder =
+                source.getOptionalReminder()
+                        .map(sourceReminder -> sourceReminder.getReminderDateTime().toString())
+                        .orElse(null);
+        recurrence = source.getRecurrence().map(Recurrence::toString).orElse(null);
     }
 
     /**
@@ -69,35 +94,49 @@ class JsonAdaptedTask {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = ModelValues.toModelValue(Name::new, name, Name.MESSAGE_CONSTRAINTS);
 
         if (priority == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Priority.class.getSimpleName()));
         }
-        if (!Priority.isValidPriority(priority)) {
-            throw new IllegalValueException(Priority.MESSAGE_CONSTRAINTS);
-        }
-        final Priority modelPriority = new Priority(priority);
+        final Priority modelPriority =
+                ModelValues.toModelValue(Priority::new, priority, Priority.MESSAGE_CONSTRAINTS);
 
         if (description == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Description.class.getSimpleName()));
         }
-        if (!Description.isValidDescription(description)) {
-            throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
-        }
-        final Description modelDescription = new Description(description);
+        final Description modelDescription =
+                ModelValues.toModelValue(
+                        Description::new, description, Description.MESSAGE_CONSTRAINTS);
 
-        if (!Done.isValidDone(done)) {
-            throw new IllegalValueException(Done.MESSAGE_CONSTRAINTS);
-        }
-        final Done modelDone = new Done(done);
+        final Done modelDone = ModelValues.toModelValue(Done::new, done, Done.MESSAGE_CONSTRAINTS);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Task(modelName, modelPriority, modelDescription, modelDone, modelTags);
+
+        Optional<Recurrence> modelRecurrence = Optional.empty();
+        if (recurrence != null) {
+            if (reminder == null) {
+                throw new IllegalValueException(MESSAGE_RECURRENCE_WITHOUT_REMINDER);
+            }
+            modelRecurrence =
+                    Optional.of(
+                            ModelValues.toModelValue(
+                                    Recurrence::of, recurrence, Recurrence.MESSAGE_CONSTRAINTS));
+        }
+
+        // Saved reminders may have been missed, so unlike entered ones they may be in the past
+        Optional<Reminder> modelReminder = Optional.empty();
+        if (reminder != null) {
+            try {
+                modelReminder =
+                        Optional.of(Reminder.of(LocalDateTime.parse(reminder), modelRecurrence));
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(MESSAGE_INVALID_REMINDER);
+            }
+        }
+        return new Task(
+                modelName, modelPriority, modelDescription, modelDone, modelTags, modelReminder);
     }
 }
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.TreeMap;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.statistics.Granularity;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
+import seedu.address.model.statistics.SessionRollups;
+import seedu.address.model.statistics.SessionStatistics;
+
+/**
+ * The totals of a {@link ReadOnlySessionStatistics} that are serializable to JSON format, together
+ * with the size of the session log they were worked out from.
+ */
+@JsonRootName(value = "sessionrollups")
+class JsonSerializableSessionRollups {
+
+    public static final String MESSAGE_INVALID_BUCKET =
+            "Session rollups hold an invalid %s bucket";
+    public static final String MESSAGE_INVALID_TASK =
+            "Session rollups hold invalid time for a task";
+
+    private final long sessionLogSize;
+    private final Map<String, Long> days = new TreeMap<>();
+    private final Map<String, Long> weeks = new TreeMap<>();
+    private final Map<String, Long> months = new TreeMap<>();
+    private final Map<String, Long> tasks = new TreeMap<>();
+
+    /** Constructs a {@code JsonSerializableSessionRollups} with the given totals. */
+    @JsonCreator
+    public JsonSerializableSessionRollups(
+            @JsonProperty("sessionLogSize") long sessionLogSize,
+            @JsonProperty("days") Map<String, Long> days,
+            @JsonProperty("weeks") Map<String, Long> weeks,
+            @JsonProperty("months") Map<String, Long> months,
+            @JsonProperty("tasks") Map<String, Long> tasks) {
+        this.sessionLogSize = sessionLogSize;
+        putAllIfPresent(this.days, days);
+        putAllIfPresent(this.weeks, weeks);
+        putAllIfPresent(this.months, months);
+        putAllIfPresent(this.tasks, tasks);
+    }
+
+    /**
+     * Converts the totals of a given {@code ReadOnlySessionStatistics}, worked out from the first
+     * {@code sessionLogSize} bytes of the session log, into this class for Jackson use.
+     */
+    public JsonSerializableSessionRollups(
+            ReadOnlySessionStatistics source, long sessionLogSize) {
+        this.sessionLogSize = sessionLogSize;
+        SessionRollups rollups = source.getRollups();
+        rollups.getBuckets(Granularity.DAY).forEach((date, s) -> days.put(date.toString(), s));
+        rollups.getBuckets(Granularity.WEEK).forEach((date, s) -> weeks.put(date.toString(), s));
+        rollups.getBuckets(Granularity.MONTH).forEach((date, s) -> months.put(date.toString(), s));
+        tasks.putAll(source.getSecondsPerTask());
+    }
+
+    private static void putAllIfPresent(Map<String, Long> target, Map<String, Long> source) {
+        if (source != null) {
+            target.putAll(source);
+        }
+    }
+
+    public long getSessionLogSize() {
+        return sessionLogSize;
+    }
+
+    /**
+     * Converts these totals into the model's {@code SessionStatistics} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public SessionStatistics toModelType() throws IllegalValueException {
+        SessionRollups rollups = new SessionRollups();
+        setBuckets(rollups, Granularity.DAY, days);
+        setBuckets(rollups, Granularity.WEEK, weeks);
+        setBuckets(rollups, Granularity.MONTH, months);
+
+        for (Map.Entry<String, Long> task : tasks.entrySet()) {
+            if (task.getValue() == null || task.getValue() < 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_TASK);
+            }
+        }
+        return new SessionStatistics(rollups, tasks);
+    }
+
+    private static void setBuckets(
+            SessionRollups rollups, Granularity granularity, Map<String, Long> buckets)
+            throws IllegalValueException {
+        String message = String.format(MESSAGE_INVALID_BUCKET, granularity.name().toLowerCase());
+        for (Map.Entry<String, Long> bucket : buckets.entrySet()) {
+            final LocalDate bucketStart;
+            try {
+                bucketStart = LocalDate.parse(bucket.getKey());
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(message);
+            }
+
+            Long seconds = bucket.getValue();
+            if (seconds == null
+                    || !SessionRollups.isValidBucket(granularity, bucketStart, seconds)) {
+                throw new IllegalValueException(message);
+            }
+            rollups.setBucket(granularity, bucketStart, seconds);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.statistics.PomodoroSession;
+
+/**
+ * A class to access the log of pomodoro sessions stored on the hard disk. Each session is a line of
+ * json, and sessions are only ever appended, so saving a session costs the same however long the
+ * log grows.
+ *
+ * <p>Lines carry a checksum like the records of {@link JournalTaskListStorage}. A line that was
+ * only partially written when the app stopped is ignored, and the next session starts on a new
+ * line after it.
+ */
+public class JsonSessionLogStorage implements SessionLogStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSessionLogStorage.class);
+
+    private static final String SESSION_LOG_FILE_EXTENSION = ".sessions";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final Path filePath;
+
+    public JsonSessionLogStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /** Returns the path of the session log that sits next to the pomodoro at {@code filePath}. */
+    public static Path getSessionLogFilePath(Path pomodoroFilePath) {
+        String fileName = pomodoroFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return pomodoroFilePath.resolveSibling(baseName + SESSION_LOG_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getSessionLogFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<PomodoroSession> readSessionLog() throws DataConversionException, IOException {
+        return readSessionLog(0);
+    }
+
+    /**
+     * Returns the sessions in the log from byte {@code position} on, oldest first. The position
+     * must be the start of a line, such as a size returned by {@link #getSessionLogSize()}.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    public List<PomodoroSession> readSessionLog(long position)
+            throws DataConversionException, IOException {
+        List<PomodoroSession> sessions = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            logger.info("Session log " + filePath + " not found");
+            return sessions;
+        }
+
+        String[] lines = readFrom(position).split(LINE_SEPARATOR);
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isEmpty()) {
+                continue;
+            }
+
+            Optional<JsonAdaptedPomodoroSession> session =
+                    JournalTaskListStorage.parseRecord(
+                            lines[i], JsonAdaptedPomodoroSession.class);
+            if (!session.isPresent()) {
+                logger.warning("Ignoring torn session in " + filePath + ": " + lines[i]);
+                continue;
+            }
+
+            try {
+                sessions.add(session.get().toModelType());
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+        return sessions;
+    }
+
+    /** Returns the size of the log in bytes, or 0 if the log file is not found. */
+    public long getSessionLogSize() throws IOException {
+        return Files.exists(filePath) ? Files.size(filePath) : 0;
+    }
+
+    private String readFrom(long position) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath)) {
+            long size = channel.size();
+            ByteBuffer bytes = ByteBuffer.allocate((int) Math.max(0, size - position));
+            channel.position(position);
+            while (bytes.hasRemaining() && channel.read(bytes) > 0) {
+                // keep reading until the end of the log
+            }
+            return new String(bytes.array(), 0, bytes.position(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public void appendToSessionLog(PomodoroSession session) throws IOException {
+        requireNonNull(session);
+
+        String line =
+                JournalTaskListStorage.formatRecord(new JsonAdaptedPomodoroSession(session));
+        if (!endsWithCompleteLine()) {
+            line = LINE_SEPARATOR + line;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(
+                filePath,
+                line.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    /** Returns true if the log is missing, empty or ends with the end of a line. */
+    private boolean endsWithCompleteLine() throws IOException {
+        if (!Files.exists(filePath)) {
+            return true;
+        }
+
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath)) {
+            if (channel.size() == 0) {
+                return true;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.position(channel.size() - 1).read(lastByte);
+            return lastByte.get(0) == LINE_SEPARATOR.charAt(0);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.statistics.PomodoroSession;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
+import seedu.address.model.statistics.SessionStatistics;
+
+/**
+ * A class to access the totals of a {@link JsonSessionLogStorage} stored as a json file on the hard
+ * disk.
+ *
+ * <p>The totals record how many bytes of the log they cover. Reading them only reads the sessions
+ * appended to the log after that, so starting up costs the same however long the log grows. The
+ * log is read in full if the totals are missing or invalid, or if the log is shorter than they
+ * expect.
+ */
+public class JsonSessionRollupStorage implements SessionRollupStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSessionRollupStorage.class);
+
+    private static final String SESSION_ROLLUP_FILE_EXTENSION = ".rollups";
+
+    private final Path filePath;
+    private final JsonSessionLogStorage sessionLog;
+
+    public JsonSessionRollupStorage(Path filePath, JsonSessionLogStorage sessionLog) {
+        this.filePath = filePath;
+        this.sessionLog = sessionLog;
+    }
+
+    /** Returns the path of the totals that sit next to the pomodoro at {@code filePath}. */
+    public static Path getSessionRollupFilePath(Path pomodoroFilePath) {
+        String fileName = pomodoroFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return pomodoroFilePath.resolveSibling(baseName + SESSION_ROLLUP_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getSessionRollupFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public ReadOnlySessionStatistics readSessionStatistics()
+            throws DataConversionException, IOException {
+        Optional<JsonSerializableSessionRollups> rollups = readRollups();
+        long logSize = sessionLog.getSessionLogSize();
+        if (!rollups.isPresent() || rollups.get().getSessionLogSize() > logSize) {
+            logger.info("Working out session totals from " + sessionLog.getSessionLogFilePath());
+            return new SessionStatistics(sessionLog.readSessionLog());
+        }
+
+        SessionStatistics statistics;
+        try {
+            statistics = rollups.get().toModelType();
+        } catch (IllegalValueException ive) {
+            logger.warning("Illegal values found in " + filePath + ": " + ive.getMessage());
+            return new SessionStatistics(sessionLog.readSessionLog());
+        }
+
+        for (PomodoroSession session :
+                sessionLog.readSessionLog(rollups.get().getSessionLogSize())) {
+            statistics.addLoggedSession(session);
+        }
+        return statistics;
+    }
+
+    /** Returns the saved totals, or an empty {@code Optional} if they cannot be read. */
+    private Optional<JsonSerializableSessionRollups> readRollups() {
+        try {
+            return JsonUtil.readJsonFile(filePath, JsonSerializableSessionRollups.class);
+        } catch (DataConversionException e) {
+            logger.warning("Session totals in " + filePath + " are not in the correct format");
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveSessionRollups(ReadOnlySessionStatistics statistics) throws IOException {
+        requireNonNull(statistics);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(
+                new JsonSerializableSessionRollups(statistics, sessionLog.getSessionLogSize()),
+                filePath);
+    }
+}
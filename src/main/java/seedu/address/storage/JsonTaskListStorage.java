@@ -2,8 +2,15 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
@@ -12,12 +19,22 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.Task;
 
-/** A class to access TaskList data stored as a json file on the hard disk. */
+/**
+ * A class to access TaskList data stored as a json file on the hard disk.
+ *
+ * <p>The file is read and written as a stream of tokens, so each task is converted to or from its
+ * json form on its own and the whole file is never held in memory at once.
+ */
 public class JsonTaskListStorage implements TaskListStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTaskListStorage.class);
 
+    private static final String TASKS_FIELD = "tasks";
+    private static final String MESSAGE_UNEXPECTED_TOKEN = "Expected %s but found %s";
+
     private Path filePath;
 
     public JsonTaskListStorage(Path filePath) {
@@ -36,23 +53,75 @@ public class JsonTaskListStorage implements TaskListStorage {
     /**
      * Similar to {@link #readTaskList()}.
      *
+     * <p>If the file is missing or cannot be read, the backup kept by the previous save is read
+     * instead.
+     *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyTaskList> readTaskList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskList> jsonTaskList =
-                JsonUtil.readJsonFile(filePath, JsonSerializableTaskList.class);
-        if (!jsonTaskList.isPresent()) {
+        return BackupFallbackReader.read(filePath, this::readTaskListFile);
+    }
+
+    private Optional<ReadOnlyTaskList> readTaskListFile(Path filePath)
+            throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonTaskList.get().toModelType());
+        try (JsonParser parser =
+                JsonUtil.createParser(
+                        Channels.newInputStream(
+                                FileChannel.open(filePath, StandardOpenOption.READ)))) {
+            return Optional.of(readTaskList(parser));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads a task list object from {@code parser}, adding each task to the returned {@code
+     * TaskList} as soon as it is decoded. Fields other than the tasks are skipped.
+     */
+    private static TaskList readTaskList(JsonParser parser)
+            throws IOException, IllegalValueException {
+        TaskList taskList = new TaskList();
+        expectToken(parser.nextToken(), JsonToken.START_OBJECT);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!fieldName.equals(TASKS_FIELD)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            expectToken(valueToken, JsonToken.START_ARRAY);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Task task = parser.readValueAs(JsonAdaptedTask.class).toModelType();
+                if (taskList.hasTask(task)) {
+                    throw new IllegalValueException(
+                            JsonSerializableTaskList.MESSAGE_DUPLICATE_TASK);
+                }
+                taskList.addTask(task);
+            }
+            expectToken(parser.getCurrentToken(), JsonToken.END_ARRAY);
+        }
+
+        expectToken(parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return taskList;
+    }
+
+    private static void expectToken(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException(String.format(MESSAGE_UNEXPECTED_TOKEN, expected, actual));
         }
     }
 
@@ -70,7 +139,19 @@ public class JsonTaskListStorage implements TaskListStorage {
         requireNonNull(taskList);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskList(taskList), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.replaceFileWithBackup(
+                filePath,
+                out -> {
+                    try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                        generator.writeStartObject();
+                        generator.writeArrayFieldStart(TASKS_FIELD);
+                        for (Task task : taskList.getTaskList()) {
+                            generator.writeObject(new JsonAdaptedTask(task));
+                        }
+                        generator.writeEndArray();
+                        generator.writeEndObject();
+                    }
+                });
     }
 }
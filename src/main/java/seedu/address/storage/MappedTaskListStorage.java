@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.task.LazyTaskList;
+
+/**
+ * A class to access TaskList data stored in the binary format of {@link BinaryTaskListStorage},
+ * for task lists too large to keep in memory.
+ *
+ * <p>When the file is read, it is copied next to itself and the copy is memory-mapped. The task
+ * list returned is a {@link LazyTaskList} that decodes each task from the mapping only when it is
+ * needed. The file itself is never mapped, so saving can replace it on any platform while the task
+ * list read before is still in use. Saving rewrites the whole file in the same way as {@code
+ * BinaryTaskListStorage}. Copies are deleted when the app exits, or else by the next read.
+ *
+ * <p>Loading the task list and scheduling its reminders only decode the tasks with a reminder. The
+ * model keeps the identity fields of every task, its name and priority, but only keeps whole the
+ * tasks added or edited since, those with a reminder and the few most recently decoded. The tasks
+ * shown are decoded as they are drawn. These decode every task, but do not keep them:
+ *
+ * <ul>
+ *   <li>saving the task list, after any change
+ *   <li>the first {@code search} and the first {@code filter}, which build indexes that keep the
+ *       identities and the words of the tasks
+ *   <li>showing the result of any {@code list}, {@code find} or {@code filter}, including a find
+ *       previewed as it is typed, and adding a task, which test each task in turn
+ * </ul>
+ *
+ * <p>Only sorted tasks are kept. After a {@code sort}, the tasks shown are kept for the rest of
+ * the session, as they stay sorted. After a {@code search}, its results are kept until the tasks
+ * are next listed, found or filtered.
+ */
+public class MappedTaskListStorage implements TaskListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedTaskListStorage.class);
+
+    private static final String MAPPED_COPY_SUFFIX = ".mapped";
+
+    private final Path filePath;
+    private final BinaryTaskListStorage binaryTaskListStorage;
+
+    public MappedTaskListStorage(Path filePath) {
+        this.filePath = filePath;
+        this.binaryTaskListStorage = new BinaryTaskListStorage(filePath);
+    }
+
+    @Override
+    public Path getTaskListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException {
+        return readTaskList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskList()}.
+     *
+     * <p>If the file is missing or cannot be read, the backup kept by the previous save is read
+     * instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        return BackupFallbackReader.read(filePath, this::readTaskListFile);
+    }
+
+    private Optional<ReadOnlyTaskList> readTaskListFile(Path filePath)
+            throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            LazyTaskList tasks = new LazyTaskList(MappedTaskSource.open(copyForMapping(filePath)));
+            return Optional.of(() -> tasks);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns a new copy of the file at {@code filePath} that can be mapped, after deleting the
+     * copies made by earlier reads that are no longer mapped.
+     */
+    private static Path copyForMapping(Path filePath) throws IOException {
+        Path directory = filePath.toAbsolutePath().getParent();
+        String copyPrefix = filePath.getFileName() + ".";
+        try (DirectoryStream<Path> oldCopies =
+                Files.newDirectoryStream(directory, copyPrefix + "*" + MAPPED_COPY_SUFFIX)) {
+            for (Path oldCopy : oldCopies) {
+                try {
+                    Files.delete(oldCopy);
+                } catch (IOException e) {
+                    // Still mapped on a platform that does not allow deleting mapped files
+                }
+            }
+        }
+
+        Path copy = Files.createTempFile(directory, copyPrefix, MAPPED_COPY_SUFFIX);
+        copy.toFile().deleteOnExit();
+        Files.copy(filePath, copy, StandardCopyOption.REPLACE_EXISTING);
+        return copy;
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskList(ReadOnlyTaskList)}.
+     *
+     * <p>Task lists already read are not affected, as they are read from a copy of the file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException {
+        binaryTaskListStorage.saveTaskList(taskList, filePath);
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskSource;
+
+/**
+ * The tasks in a file written by {@link BinaryTaskListStorage}, read through a memory mapping of
+ * the file. Only the offset of each task, and whether it has a reminder, is kept; a task is decoded
+ * from the mapping when it is asked for, and the most recently used tasks are cached.
+ */
+class MappedTaskSource implements TaskSource {
+
+    public static final String MESSAGE_FILE_TOO_LARGE = "File is too large to be mapped";
+    public static final String MESSAGE_CHANGED_ON_DISK =
+            "Task list file was changed after it was opened";
+
+    private static final int CACHE_SIZE = 256;
+
+    private final ByteBuffer buffer;
+    private final BinaryTaskListStorage.Header header;
+    private final int[] offsets;
+    private final BitSet hasReminder;
+
+    // Guarded by this
+    private final Map<Integer, Task> cache =
+            new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Task> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            };
+
+    private MappedTaskSource(
+            ByteBuffer buffer,
+            BinaryTaskListStorage.Header header,
+            int[] offsets,
+            BitSet hasReminder) {
+        this.buffer = buffer;
+        this.header = header;
+        this.offsets = offsets;
+        this.hasReminder = hasReminder;
+    }
+
+    /**
+     * Maps the file at {@code filePath} and indexes the tasks in it. Every task is decoded once to
+     * check it and note whether it has a reminder, but none are kept.
+     *
+     * @throws IllegalValueException if the file is not a valid binary task list.
+     */
+    static MappedTaskSource open(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_FILE_TOO_LARGE);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        ByteBuffer view = buffer.duplicate();
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(view));
+        BinaryTaskListStorage.Header header = BinaryTaskListStorage.readHeader(in);
+
+        int taskCount = BinaryTaskListStorage.readCount(in, "task");
+        if (taskCount > view.remaining()) {
+            throw new IllegalValueException(BinaryTaskListStorage.MESSAGE_NOT_TASK_LIST);
+        }
+
+        int[] offsets = new int[taskCount];
+        BitSet hasReminder = new BitSet(taskCount);
+        // Priorities are a single character, so prefixing one to a name keeps identities distinct
+        Set<String> identities = new HashSet<>();
+        for (int i = 0; i < taskCount; i++) {
+            offsets[i] = view.position();
+            Task task = BinaryTaskListStorage.readTask(in, header);
+            if (!identities.add(task.getPriority().value + task.getName().fullName)) {
+                throw new IllegalValueException(JsonSerializableTaskList.MESSAGE_DUPLICATE_TASK);
+            }
+            hasReminder.set(i, task.getOptionalReminder().isPresent());
+        }
+        BinaryTaskListStorage.readEnd(in);
+
+        return new MappedTaskSource(buffer, header, offsets, hasReminder);
+    }
+
+    @Override
+    public int size() {
+        return offsets.length;
+    }
+
+    @Override
+    public synchronized Task getTask(int index) {
+        Task task = cache.get(index);
+        if (task == null) {
+            try {
+                task = BinaryTaskListStorage.readTask(streamAt(index), header);
+            } catch (IOException | IllegalValueException e) {
+                throw new IllegalStateException(MESSAGE_CHANGED_ON_DISK, e);
+            }
+            cache.put(index, task);
+        }
+        return task;
+    }
+
+    @Override
+    public Name getName(int index) {
+        try {
+            return ModelValues.toModelValue(
+                    Name::new,
+                    BinaryTaskListStorage.readString(streamAt(index)),
+                    Name.MESSAGE_CONSTRAINTS);
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException(MESSAGE_CHANGED_ON_DISK, e);
+        }
+    }
+
+    @Override
+    public Priority getPriority(int index) {
+        try {
+            DataInputStream in = streamAt(index);
+            in.skipBytes(in.readInt());
+            return BinaryTaskListStorage.readPriority(in);
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException(MESSAGE_CHANGED_ON_DISK, e);
+        }
+    }
+
+    @Override
+    public boolean hasReminder(int index) {
+        return hasReminder.get(index);
+    }
+
+    /** Returns a stream over the mapping that starts at the task at {@code index}. */
+    private DataInputStream streamAt(int index) {
+        // The shared buffer's position is never moved, so duplicating it is safe from any thread
+        ByteBuffer view = buffer.duplicate();
+        view.position(offsets[index]);
+        return new DataInputStream(new ByteBufferInputStream(view));
+    }
+
+    /** An {@code InputStream} that reads the remaining bytes of a {@code ByteBuffer}. */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
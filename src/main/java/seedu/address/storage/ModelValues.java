@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import java.util.function.Function;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Builds model values from stored strings. The model's constructors already check their
+ * arguments, so stored values are checked there once instead of also being checked beforehand.
+ */
+class ModelValues {
+
+    /**
+     * Returns {@code constructor} applied to {@code value}.
+     *
+     * @throws IllegalValueException with {@code constraintsMessage} if {@code constructor} rejects
+     *     {@code value}.
+     */
+    static <T> T toModelValue(
+            Function<String, T> constructor, String value, String constraintsMessage)
+            throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(constraintsMessage, iae);
+        }
+    }
+}
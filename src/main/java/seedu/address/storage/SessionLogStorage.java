@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.statistics.PomodoroSession;
+
+/** Represents a storage for the log of {@link PomodoroSession}s that have ended. */
+public interface SessionLogStorage {
+
+    /** Returns the file path of the log. */
+    Path getSessionLogFilePath();
+
+    /**
+     * Returns the sessions in the log, oldest first. Returns an empty list if the log file is not
+     * found.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<PomodoroSession> readSessionLog() throws DataConversionException, IOException;
+
+    /**
+     * Adds the given {@link PomodoroSession} to the end of the log, leaving the sessions already in
+     * it untouched.
+     *
+     * @param session cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToSessionLog(PomodoroSession session) throws IOException;
+}
@@ -0,0 +1,34 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
+
+/**
+ * Represents a storage for the totals of the time spent in the sessions of a session log, so that
+ * they can be read without reading every session.
+ */
+public interface SessionRollupStorage {
+
+    /** Returns the file path of the totals. */
+    Path getSessionRollupFilePath();
+
+    /**
+     * Returns the statistics of every session in the session log. Sessions that are not in the
+     * saved totals yet are read from the log, and all of them are if there are no saved totals.
+     *
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    ReadOnlySessionStatistics readSessionStatistics() throws DataConversionException, IOException;
+
+    /**
+     * Saves the totals of the given {@link ReadOnlySessionStatistics}, which must include every
+     * session in the session log.
+     *
+     * @param statistics cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveSessionRollups(ReadOnlySessionStatistics statistics) throws IOException;
+}
@@ -4,12 +4,19 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /** API of the Storage component */
-public interface Storage extends TaskListStorage, UserPrefsStorage, PetStorage, PomodoroStorage {
+public interface Storage
+        extends TaskListStorage,
+                UserPrefsStorage,
+                PetStorage,
+                PomodoroStorage,
+                SessionLogStorage,
+                SessionRollupStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -25,4 +32,21 @@ public interface Storage extends TaskListStorage, UserPrefsStorage, PetStorage,
 
     @Override
     void saveTaskList(ReadOnlyTaskList taskList) throws IOException;
+
+    /**
+     * Saves the task list, pet and pomodoro of {@code model}, skipping those that have not been
+     * modified since they were loaded or last saved through this method. The pomodoro sessions
+     * recorded since then are appended to the session log, and the session totals are saved after
+     * them.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void saveChanges(Model model) throws IOException;
+
+    /**
+     * Writes any saves that are still being held back to disk, and waits for them to complete.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void flush() throws IOException;
 }
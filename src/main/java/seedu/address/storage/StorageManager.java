@@ -2,15 +2,24 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Model;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
 import seedu.address.model.ReadOnlyPet;
 import seedu.address.model.ReadOnlyPomodoro;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.statistics.PomodoroSession;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
+import seedu.address.model.task.Task;
 
 /** Manages storage of TaskList data in local storage. */
 public class StorageManager implements Storage {
@@ -20,20 +29,125 @@ public class StorageManager implements Storage {
     private UserPrefsStorage userPrefsStorage;
     private PetStorage petStorage;
     private PomodoroStorage pomodoroStorage;
+    private SessionLogStorage sessionLogStorage;
+    private SessionRollupStorage sessionRollupStorage;
+    private WriteBehindWriter writeBehindWriter; // null if saves are written immediately
+
+    /** A saved version that no version of the model's data matches. */
+    private static final long UNSAVED_VERSION = -1;
+
+    // Versions of the model's data that are in storage, or queued to be written to it. A write
+    // that fails in the background resets its version, so the next saveChanges writes again.
+    private volatile long savedTaskListVersion;
+    private volatile long savedPetVersion;
+    private volatile long savedPomodoroVersion;
+    private int savedSessionCount; // Of the sessions recorded in the model's statistics
 
     // NOTE these storage objects all correspond to Json-storagename, i.e. JsonTaskListStorage, ...
     public StorageManager(
             TaskListStorage taskListStorage,
             PetStorage petStorage,
             PomodoroStorage pomodoroStorage,
+            SessionLogStorage sessionLogStorage,
+            SessionRollupStorage sessionRollupStorage,
             UserPrefsStorage userPrefsStorage) {
         super();
         this.taskListStorage = taskListStorage;
         this.petStorage = petStorage;
         this.pomodoroStorage = pomodoroStorage;
+        this.sessionLogStorage = sessionLogStorage;
+        this.sessionRollupStorage = sessionRollupStorage;
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} that holds back task list, pet and pomodoro saves for up to
+     * {@code writeBehindIntervalMillis} and writes them on a background thread. A non-positive
+     * interval writes every save immediately. Sessions are always appended to the session log,
+     * and their totals saved, immediately.
+     */
+    public StorageManager(
+            TaskListStorage taskListStorage,
+            PetStorage petStorage,
+            PomodoroStorage pomodoroStorage,
+            SessionLogStorage sessionLogStorage,
+            SessionRollupStorage sessionRollupStorage,
+            UserPrefsStorage userPrefsStorage,
+            long writeBehindIntervalMillis) {
+        this(
+                taskListStorage,
+                petStorage,
+                pomodoroStorage,
+                sessionLogStorage,
+                sessionRollupStorage,
+                userPrefsStorage);
+        if (writeBehindIntervalMillis > 0) {
+            this.writeBehindWriter = new WriteBehindWriter(writeBehindIntervalMillis);
+        }
+    }
+
+    @Override
+    public void saveChanges(Model model) throws IOException {
+        // Each version is recorded before its write is queued, so that a background failure,
+        // which may come at once, always resets it
+        long taskListVersion = model.getTaskListVersion();
+        if (taskListVersion != savedTaskListVersion) {
+            savedTaskListVersion = taskListVersion;
+            try {
+                saveTaskList(
+                        model.getTaskList(),
+                        taskListStorage.getTaskListFilePath(),
+                        () -> savedTaskListVersion = UNSAVED_VERSION);
+            } catch (IOException ioe) {
+                savedTaskListVersion = UNSAVED_VERSION;
+                throw ioe;
+            }
+        }
+
+        long petVersion = model.getPetVersion();
+        if (petVersion != savedPetVersion) {
+            savedPetVersion = petVersion;
+            try {
+                savePet(
+                        model.getPet(),
+                        petStorage.getPetFilePath(),
+                        () -> savedPetVersion = UNSAVED_VERSION);
+            } catch (IOException ioe) {
+                savedPetVersion = UNSAVED_VERSION;
+                throw ioe;
+            }
+        }
+
+        long pomodoroVersion = model.getPomodoroVersion();
+        if (pomodoroVersion != savedPomodoroVersion) {
+            savedPomodoroVersion = pomodoroVersion;
+            try {
+                savePomodoro(model.getPomodoro(), () -> savedPomodoroVersion = UNSAVED_VERSION);
+            } catch (IOException ioe) {
+                savedPomodoroVersion = UNSAVED_VERSION;
+                throw ioe;
+            }
+        }
+
+        ReadOnlySessionStatistics statistics = model.getPomodoroStatistics();
+        List<PomodoroSession> sessions = statistics.getRecordedSessions();
+        if (savedSessionCount == sessions.size()) {
+            return;
+        }
+        while (savedSessionCount < sessions.size()) {
+            appendToSessionLog(sessions.get(savedSessionCount));
+            savedSessionCount++;
+        }
+        saveSessionRollups(statistics);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (writeBehindWriter != null) {
+            writeBehindWriter.flush();
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -77,8 +191,27 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        taskListStorage.saveTaskList(taskList, filePath);
+        saveTaskList(taskList, filePath, () -> {});
+    }
+
+    /** Saves {@code taskList}, running {@code onFailure} if it is written behind and fails. */
+    private void saveTaskList(ReadOnlyTaskList taskList, Path filePath, Runnable onFailure)
+            throws IOException {
+        if (writeBehindWriter == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            taskListStorage.saveTaskList(taskList, filePath);
+            return;
+        }
+
+        // Tasks are immutable, so a shallow copy of the list is a consistent snapshot
+        ObservableList<Task> snapshot = FXCollections.observableArrayList(taskList.getTaskList());
+        writeBehindWriter.submit(
+                "tasklist:" + filePath,
+                () -> {
+                    logger.fine("Attempting to write to data file: " + filePath);
+                    taskListStorage.saveTaskList(() -> snapshot, filePath);
+                },
+                onFailure);
     }
     // ================ Pet methods ==============================
     @Override
@@ -105,8 +238,25 @@ public class StorageManager implements Storage {
 
     @Override
     public void savePet(ReadOnlyPet pet, Path filePath) throws IOException {
-        logger.fine("Attempting to write pet data: " + filePath);
-        petStorage.savePet(pet, filePath);
+        savePet(pet, filePath, () -> {});
+    }
+
+    /** Saves {@code pet}, running {@code onFailure} if it is written behind and fails. */
+    private void savePet(ReadOnlyPet pet, Path filePath, Runnable onFailure) throws IOException {
+        if (writeBehindWriter == null) {
+            logger.fine("Attempting to write pet data: " + filePath);
+            petStorage.savePet(pet, filePath);
+            return;
+        }
+
+        Pet snapshot = new Pet(pet);
+        writeBehindWriter.submit(
+                "pet:" + filePath,
+                () -> {
+                    logger.fine("Attempting to write pet data: " + filePath);
+                    petStorage.savePet(snapshot, filePath);
+                },
+                onFailure);
     }
 
     // ================ Pomodoro methods ==============================
@@ -117,7 +267,63 @@ public class StorageManager implements Storage {
 
     @Override
     public void savePomodoro(ReadOnlyPomodoro pomodoro) throws IOException {
-        logger.fine("Attempting to write pomodoro data: ");
-        pomodoroStorage.savePomodoro(pomodoro);
+        savePomodoro(pomodoro, () -> {});
+    }
+
+    /** Saves {@code pomodoro}, running {@code onFailure} if it is written behind and fails. */
+    private void savePomodoro(ReadOnlyPomodoro pomodoro, Runnable onFailure) throws IOException {
+        if (writeBehindWriter == null) {
+            logger.fine("Attempting to write pomodoro data: ");
+            pomodoroStorage.savePomodoro(pomodoro);
+            return;
+        }
+
+        Pomodoro snapshot = new Pomodoro(pomodoro);
+        writeBehindWriter.submit(
+                "pomodoro",
+                () -> {
+                    logger.fine("Attempting to write pomodoro data: ");
+                    pomodoroStorage.savePomodoro(snapshot);
+                },
+                onFailure);
+    }
+
+    // ================ Session log methods ==============================
+    @Override
+    public Path getSessionLogFilePath() {
+        return sessionLogStorage.getSessionLogFilePath();
+    }
+
+    @Override
+    public List<PomodoroSession> readSessionLog() throws DataConversionException, IOException {
+        logger.fine("Attempting to read session log: " + getSessionLogFilePath());
+        return sessionLogStorage.readSessionLog();
+    }
+
+    @Override
+    public void appendToSessionLog(PomodoroSession session) throws IOException {
+        // A session ends at most every few minutes, so appending it is never worth holding back
+        logger.fine("Attempting to append to session log: " + getSessionLogFilePath());
+        sessionLogStorage.appendToSessionLog(session);
+    }
+
+    // ================ Session rollup methods ==============================
+    @Override
+    public Path getSessionRollupFilePath() {
+        return sessionRollupStorage.getSessionRollupFilePath();
+    }
+
+    @Override
+    public ReadOnlySessionStatistics readSessionStatistics()
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read session totals: " + getSessionRollupFilePath());
+        return sessionRollupStorage.readSessionStatistics();
+    }
+
+    @Override
+    public void saveSessionRollups(ReadOnlySessionStatistics statistics) throws IOException {
+        // Saved with the sessions they total, so the two are never held back by different amounts
+        logger.fine("Attempting to write session totals: " + getSessionRollupFilePath());
+        sessionRollupStorage.saveSessionRollups(statistics);
     }
 }
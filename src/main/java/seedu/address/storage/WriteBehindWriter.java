@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Holds back writes to storage and performs them on a background thread. Writes submitted under
+ * the same key within one flush interval are coalesced so that only the latest one is performed.
+ *
+ * <p>A write that fails in the background runs the failure handler it was submitted with, and is
+ * reported by the next call to {@link #submit(String, Write, Runnable)} or {@link #flush()}.
+ */
+class WriteBehindWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindWriter.class);
+
+    private final ScheduledExecutorService executor;
+    private final long flushIntervalMillis;
+
+    // Guarded by this
+    private final Map<String, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private boolean isFlushScheduled;
+    private IOException failure;
+
+    /**
+     * Creates a {@code WriteBehindWriter} that performs pending writes {@code flushIntervalMillis}
+     * after the first of them is submitted.
+     */
+    WriteBehindWriter(long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "storage-write-behind");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /**
+     * Queues {@code write} to be performed in the background, replacing any pending write with the
+     * same {@code key}. If the write is performed and fails, {@code onFailure} is run on the
+     * background thread.
+     *
+     * @throws IOException if a previously queued write has failed.
+     */
+    synchronized void submit(String key, Write write, Runnable onFailure) throws IOException {
+        requireNonNull(key);
+        requireNonNull(write);
+        requireNonNull(onFailure);
+        throwPendingFailure();
+
+        pendingWrites.put(key, new PendingWrite(write, onFailure));
+        if (!isFlushScheduled) {
+            isFlushScheduled = true;
+            executor.schedule(
+                    this::performPendingWrites, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Performs all pending writes and waits for them to complete.
+     *
+     * @throws IOException if any write, including a previously queued one, has failed.
+     */
+    void flush() throws IOException {
+        try {
+            executor.submit(this::performPendingWrites).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while flushing pending writes", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        synchronized (this) {
+            throwPendingFailure();
+        }
+    }
+
+    /** Performs the pending writes. Only runs on the executor thread. */
+    private void performPendingWrites() {
+        List<PendingWrite> writes;
+        synchronized (this) {
+            writes = new ArrayList<>(pendingWrites.values());
+            pendingWrites.clear();
+            isFlushScheduled = false;
+        }
+
+        for (PendingWrite write : writes) {
+            try {
+                write.write.perform();
+            } catch (IOException ioe) {
+                logger.warning("Failed to write data in the background: " + ioe);
+                synchronized (this) {
+                    failure = ioe;
+                }
+                write.onFailure.run();
+            }
+        }
+    }
+
+    private void throwPendingFailure() throws IOException {
+        if (failure != null) {
+            IOException toThrow = failure;
+            failure = null;
+            throw toThrow;
+        }
+    }
+
+    /** A queued write and what to do if it fails. */
+    private static class PendingWrite {
+        private final Write write;
+        private final Runnable onFailure;
+
+        PendingWrite(Write write, Runnable onFailure) {
+            this.write = write;
+            this.onFailure = onFailure;
+        }
+    }
+
+    /** A write to storage. */
+    @FunctionalInterface
+    interface Write {
+        void perform() throws IOException;
+    }
+}
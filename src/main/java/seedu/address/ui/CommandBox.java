@@ -15,16 +15,22 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
 
     @FXML private TextField commandTextField;
 
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandPreviewer = commandPreviewer;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField
                 .textProperty()
                 .addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // previews the command as it is typed.
+        commandTextField
+                .textProperty()
+                .addListener((unused1, unused2, newText) -> commandPreviewer.preview(newText));
     }
 
     /** Handles the Enter button pressed event. */
@@ -64,4 +70,15 @@ public class CommandBox extends UiPart<Region> {
          */
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
+
+    /** Represents a function that can preview commands while they are typed. */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Shows the effect of the command typed so far. Must return without waiting for it.
+         *
+         * @see seedu.address.logic.Logic#previewCommand(String)
+         */
+        void preview(String commandText);
+    }
 }
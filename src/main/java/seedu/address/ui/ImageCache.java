@@ -0,0 +1,32 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javafx.scene.image.Image;
+
+/**
+ * Keeps the images shown by the UI, looked up by their path in the resources, so that each image
+ * file is only read and decoded once however often it is shown.
+ */
+public class ImageCache {
+
+    private static final Map<Path, Image> images = new ConcurrentHashMap<>();
+
+    private ImageCache() {}
+
+    /** Returns the image at {@code path}, loading it the first time it is asked for. */
+    public static Image getImage(Path path) {
+        requireNonNull(path);
+        return images.computeIfAbsent(path, unused -> new Image(String.valueOf(path)));
+    }
+
+    /** Loads the images at {@code paths} that are not loaded yet, so that showing them is quick. */
+    public static void preload(Collection<Path> paths) {
+        requireNonNull(paths);
+        paths.forEach(ImageCache::getImage);
+    }
+}
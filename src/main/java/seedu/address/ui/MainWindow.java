@@ -1,11 +1,11 @@
 package seedu.address.ui;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.logging.Logger;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import java.nio.file.Paths;
 import javafx.scene.control.Alert;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
@@ -13,7 +13,6 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
@@ -21,9 +20,11 @@ import seedu.address.logic.PomodoroManager;
 import seedu.address.logic.PomodoroManager.PROMPT_STATE;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.PomCommandResult;
+import seedu.address.logic.commands.StatsCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.task.Reminder;
+import seedu.address.model.reminder.ReminderHandler;
+import seedu.address.model.task.Task;
 
 /**
  * The Main Window. Provides the basic application layout containing a menu bar and space where
@@ -32,6 +33,9 @@ import seedu.address.model.task.Reminder;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_MISSED_REMINDERS = "You missed %1$d reminder(s)";
+    private static final DateTimeFormatter MISSED_REMINDER_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("dd/MM/yy HH:mm");
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -136,22 +140,31 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTaskListFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::previewCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
+        logic.setReminderHandler(
+                new ReminderHandler() {
+                    @Override
+                    public void remind(Task task) {
+                        showReminder(task.getName().fullName, task.getDescription().value);
+                    }
+
+                    @Override
+                    public void remindMissed(List<Task> tasks) {
+                        showMissedReminders(tasks);
+                    }
+                });
+
         pomodoroDisplay = new PomodoroDisplay("No task in progress.", "25:00");
         pomodoroPlaceholder.getChildren().add(pomodoroDisplay.getRoot());
         pomodoro.setTimerLabel(pomodoroDisplay.getTimerLabel());
         pomodoro.setResultDisplay(resultDisplay);
 
-        statisticsDisplay =
-                new StatisticsDisplay("Time spent on Pomodoro over the last 7 days",
-                        null,
-                        Paths.get("images", "statistics", "progressBarDaily50%.png"),
-                        "50 mins / 100 mins",
-                        "Medals earned: 0");
+        statisticsDisplay = new StatisticsDisplay(logic.getPomodoroStatistics());
         statisticsPlaceholder.getChildren().add(statisticsDisplay.getRoot());
-       
+
+        pomodoro.resumeInterrupted().ifPresent(pomodoroDisplay::setTaskInProgressText);
     }
 
     /** Sets the default size based on {@code guiSettings}. */
@@ -269,11 +282,11 @@ public class MainWindow extends UiPart<Stage> {
                     pomodoro.unpause();
                 } else {
                     pomodoroDisplay.setTaskInProgressText(pomCommandResult.getPommedTask());
-                    pomodoro.start(pomCommandResult.getTimerAmountInMin());
                     pomodoro.setDoneParams(
                             pomCommandResult.getModel(),
                             pomCommandResult.getOriginList(),
                             pomCommandResult.getTaskIndex());
+                    pomodoro.start(pomCommandResult.getTimerAmountInMin());
                 }
             } catch (ClassCastException ce) {
 
@@ -281,6 +294,10 @@ public class MainWindow extends UiPart<Stage> {
                 resultDisplay.setFeedbackToUser("Sorry, you've got no tasks being POMmed.");
             }
 
+            if (commandResult instanceof StatsCommandResult) {
+                statisticsDisplay.showRange(((StatsCommandResult) commandResult).getRange());
+            }
+
             if (commandResult.isShowHelp()) {
                 handleHelp();
             }
@@ -297,20 +314,6 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
-    @FXML
-    public static void triggerReminder(Reminder reminder, String name, String description) {
-        long delay = reminder.getDelay();
-        Timeline timeline =
-                new Timeline(
-                        new KeyFrame(
-                                Duration.seconds(delay),
-                                ae -> {
-                                    MainWindow.showReminder(name, description);
-                                    reminder.setHasFired();
-                                }));
-        timeline.play();
-    }
-
     @FXML
     /**
      * Is triggered at the delayed time in Duke itself.
@@ -324,6 +327,31 @@ public class MainWindow extends UiPart<Stage> {
         alert.show();
     }
 
+    /**
+     * Shows the reminders that fell due while the application was closed together, in one alert,
+     * however many there are.
+     */
+    private static void showMissedReminders(List<Task> tasks) {
+        StringBuilder content = new StringBuilder();
+        for (Task task : tasks) {
+            content.append(task.getName().fullName);
+            if (task.getOptionalReminder().isPresent()) {
+                LocalDateTime reminderTime =
+                        task.getOptionalReminder().get().getReminderDateTime();
+                content.append(" (")
+                        .append(reminderTime.format(MISSED_REMINDER_TIME_FORMAT))
+                        .append(")");
+            }
+            content.append("\n");
+        }
+
+        var alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("While you were away");
+        alert.setHeaderText(String.format(MESSAGE_MISSED_REMINDERS, tasks.size()));
+        alert.setContentText(content.toString());
+        alert.show();
+    }
+
     private PetDisplayHandler getPetDisplayHandler() {
         return logic.getPetDisplayHandler();
     }
@@ -34,30 +34,13 @@ public class PetDisplay extends UiPart<Region> {
             Path accessoryFilepath,
             String levelText) {
         super(FXML);
-        this.petFilepath = petFilepath;
-        this.expBarFilepath = expBarFilepath;
-        this.expBarText = expBarText;
-        this.accessoryFilepath = null;
-        this.levelText = levelText;
-
-        if (accessoryFilepath != null) {
-            this.accessoryFilepath = accessoryFilepath;
-            Image image = new Image(String.valueOf(accessoryFilepath));
-            accessoryPic.setImage(image);
-        }
-
-        expBarView.setText(expBarText);
-        levelView.setText(levelText);
-
-        // set up pet image
-        Image petImage = new Image(String.valueOf(petFilepath));
-        petPic.setImage(petImage);
-
-        // set up experience bar image
-        Image expBarImage = new Image(String.valueOf(expBarFilepath));
-        expBarPic.setImage(expBarImage);
+        update(petFilepath, expBarText, expBarFilepath, accessoryFilepath, levelText);
     }
 
+    /**
+     * Shows the given pet, experience and accessory. The images come from the {@link ImageCache},
+     * and an image already shown is not set again.
+     */
     public void update(
             Path petFilepath,
             String expBarText,
@@ -73,22 +56,25 @@ public class PetDisplay extends UiPart<Region> {
 
         if (accessoryFilepath != null) {
             this.accessoryFilepath = accessoryFilepath;
-            Image image = new Image(String.valueOf(accessoryFilepath));
-            accessoryPic.setImage(image);
+            showImage(accessoryPic, accessoryFilepath);
         }
 
         expBarView.setText(expBarText);
-        System.out.println("PetDisplay: setBarText");
         levelView.setText(levelText);
-        System.out.println("PetDisplay: levelText");
 
         // set up pet image
-        Image petImage = new Image(String.valueOf(petFilepath));
-        petPic.setImage(petImage);
+        showImage(petPic, petFilepath);
 
         // set up experience bar image
-        Image expBarImage = new Image(String.valueOf(expBarFilepath));
-        expBarPic.setImage(expBarImage);
+        showImage(expBarPic, expBarFilepath);
+    }
+
+    /** Shows the image at {@code imageFilepath} in {@code view}, unless it is shown already. */
+    private static void showImage(ImageView view, Path imageFilepath) {
+        Image image = ImageCache.getImage(imageFilepath);
+        if (view.getImage() != image) {
+            view.setImage(image);
+        }
     }
 
     @Override
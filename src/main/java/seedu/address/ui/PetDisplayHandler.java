@@ -2,9 +2,26 @@ package seedu.address.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import seedu.address.model.ReadOnlyPet;
 
+/**
+ * Works out how the pet is shown from its experience and level, and updates the {@link
+ * PetDisplay} once whenever they change.
+ */
 public class PetDisplayHandler {
+    private static final Path[] EXP_BAR_FILEPATHS = new Path[11];
+    private static final Path LEVEL_1_FILEPATH = Paths.get("images", "pet", "level1.png");
+    private static final Path LEVEL_2_FILEPATH = Paths.get("images", "pet", "level2.png");
+
+    static {
+        for (int i = 0; i < EXP_BAR_FILEPATHS.length; i++) {
+            EXP_BAR_FILEPATHS[i] = Paths.get("images", "pet", "ProgressBar" + i * 10 + "%.png");
+        }
+    }
+
     private ReadOnlyPet pet;
     private PetDisplay petDisplay;
     private Path petFilepath;
@@ -13,10 +30,14 @@ public class PetDisplayHandler {
     private String levelText;
     private String expBarText;
 
+    private int shownExp;
+    private int shownLevel;
+
     private Path DEFAULT_ACCESSORY_PLACEHOLDER = Paths.get("images", "pet", "medal.png");
 
     public PetDisplayHandler(ReadOnlyPet pet) {
         this.pet = pet;
+        ImageCache.preload(getImageFilepaths());
         updatePetDisplayHandler();
         petDisplay =
                 new PetDisplay(
@@ -25,75 +46,40 @@ public class PetDisplayHandler {
                         this.expBarFilepath,
                         this.accessoryFilepath,
                         this.levelText);
+        // The level only changes along with the exp, and is set first, so the exp is enough
+        pet.expProperty().addListener((observable, oldExp, newExp) -> updatePetDisplay());
+    }
+
+    /** Returns the paths of every image the pet may be shown with. */
+    private List<Path> getImageFilepaths() {
+        List<Path> imageFilepaths = new ArrayList<>(Arrays.asList(EXP_BAR_FILEPATHS));
+        imageFilepaths.add(LEVEL_1_FILEPATH);
+        imageFilepaths.add(LEVEL_2_FILEPATH);
+        imageFilepaths.add(DEFAULT_ACCESSORY_PLACEHOLDER);
+        return imageFilepaths;
     }
 
     public void updatePetDisplayHandler() {
+        shownExp = this.pet.getExp();
+        shownLevel = this.pet.getLevel();
 
-        int exp = Integer.parseInt(this.pet.getExp());
-        int expBarInt = exp % 100;
+        int expBarInt = shownExp % 100;
         this.expBarText = String.format("%d XP / 100 XP", expBarInt);
 
-        this.levelText = this.pet.getLevel();
-
-        if (pet.getLevel().equals("1")) {
-            this.petFilepath = Paths.get("images", "pet", "level1.png");
-        } else {
-            this.petFilepath = Paths.get("images", "pet", "level2.png");
-        }
-
-        int expBarPerc = expBarInt / 10;
-        System.out.println("PetDisplayHandler: expBarPerc:" + expBarPerc);
-
-        switch (expBarPerc) {
-            case 0:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar0%.png");
-                break;
-
-            case 1:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar10%.png");
-                break;
-
-            case 2:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar20%.png");
-                break;
-
-            case 3:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar30%.png");
-                break;
-
-            case 4:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar40%.png");
-                break;
-
-            case 5:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar50%.png");
-                break;
-
-            case 6:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar60%.png");
-                break;
-
-            case 7:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar70%.png");
-                break;
-
-            case 8:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar80%.png");
-                break;
-
-            case 9:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar90%.png");
-                break;
-
-            case 10:
-                this.expBarFilepath = Paths.get("images", "pet", "ProgressBar100%.png");
-                break;
-        }
-
+        this.levelText = String.valueOf(shownLevel);
+        this.petFilepath = shownLevel == 1 ? LEVEL_1_FILEPATH : LEVEL_2_FILEPATH;
+        this.expBarFilepath = EXP_BAR_FILEPATHS[expBarInt / 10];
         this.accessoryFilepath = DEFAULT_ACCESSORY_PLACEHOLDER;
     }
 
+    /**
+     * Updates the pet display to the pet's experience and level, unless it shows them already.
+     * Called whenever the experience changes.
+     */
     public void updatePetDisplay() {
+        if (pet.getExp() == shownExp && pet.getLevel() == shownLevel) {
+            return;
+        }
         updatePetDisplayHandler();
         petDisplay.update(
                 this.petFilepath,
@@ -1,74 +1,159 @@
 package seedu.address.ui;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import javafx.fxml.FXML;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.CategoryAxis;
-import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
-
-import java.nio.file.Path;
-
-/** An UI component that displays the Pomodoro {@code Pomodoro}. */
+import seedu.address.model.statistics.Granularity;
+import seedu.address.model.statistics.PomodoroSession;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
+import seedu.address.model.statistics.SessionStatistics;
+import seedu.address.model.statistics.StatisticsRange;
+
+/**
+ * An UI component that displays the time spent in pomodoro sessions: today's progress towards the
+ * daily goal, the medals earned and a chart of a recent range, a bar per day, week or month.
+ *
+ * <p>When a session ends, only the bar it is in is updated. The whole chart is only redrawn once
+ * the days shown have moved on, or another range is chosen.
+ */
 public class StatisticsDisplay extends UiPart<Region> {
 
     private static final String FXML = "StatisticsDisplay.fxml";
+    private static final String BAR_CHART_TITLE = "Time spent on Pomodoro over %s";
+    private static final String PROGRESS_DAILY_FORMAT = "%d mins / %d mins";
+    private static final String MEDALS_FORMAT = "Medals earned: %d";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("dd/MM");
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMM yy");
+
+    // Progress bars from 0% to 100%, in steps of 10%
+    private static final Path[] PROGRESS_BAR_FILEPATHS = new Path[11];
+
+    static {
+        for (int i = 0; i < PROGRESS_BAR_FILEPATHS.length; i++) {
+            PROGRESS_BAR_FILEPATHS[i] =
+                    Paths.get("images", "pet", "ProgressBar" + i * 10 + "%.png");
+        }
+    }
 
-    public String barChartTitleText; // mutable
-    public int[][] data; //
-    public Path progressBarDailyFilepath;
-    public String progressDailyText;
-    public String medalsText;
+    private final ReadOnlySessionStatistics statistics;
+    private final XYChart.Series<String, Integer> series = new XYChart.Series<>();
+    private final List<XYChart.Data<String, Integer>> bucketMinutes = new ArrayList<>();
+    private StatisticsRange range;
+    private LocalDate lastDayShown;
 
     @FXML private VBox statisticsPane;
     @FXML private Label barChartTitle;
     @FXML private BarChart<String, Integer> barChart;
+    @FXML private CategoryAxis bucketAxis;
 
     @FXML private Label progressDaily;
     @FXML private ImageView progressBarDaily;
     @FXML private Label medals;
 
-
-    public StatisticsDisplay(String barChartTitleText, int[][] data,
-                             Path progressBarDailyFilepath,
-                             String progressDailyText,
-                             String medalsText) {
+    /** Creates a display of {@code statistics}, which is kept up to date as sessions end. */
+    public StatisticsDisplay(ReadOnlySessionStatistics statistics) {
         super(FXML);
-        this.barChartTitleText = barChartTitleText;
-        this.data = data;
-        this.progressBarDailyFilepath = progressBarDailyFilepath;
-        this.progressDailyText = progressDailyText;
-        this.medalsText = medalsText;
+        this.statistics = statistics;
 
-        progressDaily.setText(progressDailyText);
-        Image progressBarDailyImage = new Image(String.valueOf(progressBarDailyFilepath));
-        progressBarDaily.setImage(progressBarDailyImage);
-        medals.setText(medalsText);
+        series.setName("You");
+        barChart.getData().add(series);
 
-        barChartTitle.setText(barChartTitleText);
+        showRange(StatisticsRange.WEEK);
+        statistics
+                .lastSessionProperty()
+                .addListener((observable, oldSession, newSession) -> showSession(newSession));
+    }
 
-        CategoryAxis xAxis = new CategoryAxis();
-        xAxis.setLabel("Day");
-        NumberAxis yAxis = new NumberAxis();
-        yAxis.setLabel("Total Pomodoro Runtime");
+    /** Shows the time spent over {@code range}, up to and including today, on the chart. */
+    public void showRange(StatisticsRange range) {
+        this.range = range;
+        barChartTitle.setText(String.format(BAR_CHART_TITLE, range.description));
+        bucketAxis.setLabel(getAxisLabel(range.granularity));
+
+        // Bars are reused across ranges, so only the difference in bar count is added or removed
+        while (bucketMinutes.size() < range.bucketCount) {
+            XYChart.Data<String, Integer> bucket = new XYChart.Data<>("", 0);
+            bucketMinutes.add(bucket);
+            series.getData().add(bucket);
+        }
+        while (bucketMinutes.size() > range.bucketCount) {
+            series.getData().remove(bucketMinutes.remove(bucketMinutes.size() - 1));
+        }
+        showBuckets(LocalDate.now());
+    }
 
-        XYChart.Series<String, Integer> dataSeries1 = new XYChart.Series<>();
-        dataSeries1.setName("You");
+    /** Shows the time spent in the buckets of the range up to and including {@code lastDay}. */
+    private void showBuckets(LocalDate lastDay) {
+        lastDayShown = lastDay;
+        Granularity granularity = range.granularity;
+        long[] seconds = statistics.getSeconds(granularity, lastDay, range.bucketCount);
+        for (int i = 0; i < range.bucketCount; i++) {
+            XYChart.Data<String, Integer> bucket = bucketMinutes.get(i);
+            LocalDate bucketStart = granularity.plusBuckets(lastDay, i - range.bucketCount + 1);
+            bucket.setXValue(bucketStart.format(getLabelFormat(granularity)));
+            bucket.setYValue(toMinutes(seconds[i]));
+        }
+        showTodayAndMedals();
+    }
 
-        dataSeries1.getData().add(new XYChart.Data<>("Day 1", 20));
-        dataSeries1.getData().add(new XYChart.Data<>("Day 2", 40));
-        dataSeries1.getData().add(new XYChart.Data<>("Day 3", 60));
-        dataSeries1.getData().add(new XYChart.Data<>("Day 4", 40));
-        dataSeries1.getData().add(new XYChart.Data<>("Day 5", 20));
-        dataSeries1.getData().add(new XYChart.Data<>("Day 6", 40));
-        dataSeries1.getData().add(new XYChart.Data<>("Day 7", 80));
+    /** Adds {@code session}, which has just ended, to what is shown. */
+    private void showSession(PomodoroSession session) {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(lastDayShown)) {
+            showBuckets(today);
+            return;
+        }
+
+        long bucketsAgo = range.granularity.bucketsBetween(session.getDate(), today);
+        if (bucketsAgo >= 0 && bucketsAgo < range.bucketCount) {
+            long seconds = statistics.getSeconds(range.granularity, session.getDate(), 1)[0];
+            bucketMinutes
+                    .get(range.bucketCount - 1 - (int) bucketsAgo)
+                    .setYValue(toMinutes(seconds));
+        }
+        showTodayAndMedals();
+    }
+
+    private static String getAxisLabel(Granularity granularity) {
+        switch (granularity) {
+            case WEEK:
+                return "Week starting";
+
+            case MONTH:
+                return "Month";
 
-        barChart.getData().add(dataSeries1);
+            case DAY:
+            default:
+                return "Day";
+        }
+    }
+
+    private static DateTimeFormatter getLabelFormat(Granularity granularity) {
+        return granularity == Granularity.MONTH ? MONTH_FORMAT : DAY_FORMAT;
+    }
+
+    private void showTodayAndMedals() {
+        int minutesToday = toMinutes(statistics.getSecondsOn(lastDayShown));
+        int goal = SessionStatistics.DAILY_GOAL_MINUTES;
+        progressDaily.setText(String.format(PROGRESS_DAILY_FORMAT, minutesToday, goal));
+        int tenths = Math.min(minutesToday, goal) * 10 / goal;
+        progressBarDaily.setImage(ImageCache.getImage(PROGRESS_BAR_FILEPATHS[tenths]));
+        medals.setText(String.format(MEDALS_FORMAT, statistics.getMedalCount()));
+    }
 
+    private static int toMinutes(long seconds) {
+        return (int) (seconds / 60);
     }
 
     @Override
@@ -1,14 +1,21 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
 
-/** An UI component that displays information of a {@code Task}. */
+/**
+ * An UI component that displays information of a {@code Task}. A card is loaded once and can then
+ * be given other tasks to display, so that a list cell can keep the same card while scrolling.
+ */
 public class TaskListCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
@@ -21,7 +28,12 @@ public class TaskListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on TaskList
      *     level 4</a>
      */
-    public final Task task;
+    private Task task;
+
+    private int displayedIndex;
+
+    // Tag labels made so far, reused for the tags of every task this card displays
+    private final List<Label> tagLabels = new ArrayList<>();
 
     @FXML private HBox cardPane;
     @FXML private Label name;
@@ -30,17 +42,46 @@ public class TaskListCard extends UiPart<Region> {
     @FXML private Label description;
     @FXML private FlowPane tags;
 
-    public TaskListCard(Task task, int displayedIndex) {
+    /** Creates a card that displays no task until it is given one. */
+    public TaskListCard() {
         super(FXML);
+    }
+
+    /** Displays {@code task}, numbered {@code displayedIndex}, instead of the current task. */
+    public void setTask(Task task, int displayedIndex) {
+        if (task == this.task && displayedIndex == this.displayedIndex) {
+            return;
+        }
+
         this.task = task;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
-        name.setText(String.format("[%s] %s", task.getDone().toString(), task.getName().fullName));
+        name.setText("[" + task.getDone() + "] " + task.getName().fullName);
         priority.setText(task.getPriority().value);
         description.setText(task.getDescription().value);
-        task.getTags()
-                .stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(task.getSortedTags());
+    }
+
+    /** Shows a label for each of {@code sortedTags}, making new labels only when there are few. */
+    private void setTags(List<Tag> sortedTags) {
+        while (tagLabels.size() < sortedTags.size()) {
+            tagLabels.add(new Label());
+        }
+        for (int i = 0; i < sortedTags.size(); i++) {
+            tagLabels.get(i).setText(sortedTags.get(i).tagName);
+        }
+
+        ObservableList<Node> shownLabels = tags.getChildren();
+        if (shownLabels.size() > sortedTags.size()) {
+            shownLabels.subList(sortedTags.size(), shownLabels.size()).clear();
+        }
+        for (int i = shownLabels.size(); i < sortedTags.size(); i++) {
+            shownLabels.add(tagLabels.get(i));
+        }
+    }
+
+    public Task getTask() {
+        return task;
     }
 
     @Override
@@ -24,9 +24,12 @@ public class TaskListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code
-     * TaskListCard}.
+     * TaskListCard}. The list view only makes enough cells to fill the panel and gives them other
+     * tasks as it scrolls, so each cell loads its card once and gives it the new task each time.
      */
     class TaskListViewCell extends ListCell<Task> {
+        private TaskListCard card; // Loaded when the cell first displays a task
+
         @Override
         protected void updateItem(Task task, boolean empty) {
             super.updateItem(task, empty);
@@ -35,7 +38,11 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskListCard(task, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new TaskListCard();
+                }
+                card.setTask(task, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,13 +1,20 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -19,4 +26,53 @@ public class FileUtilTest {
         // null path -> throws NullPointerException
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
+
+    @Test
+    public void writeToFile_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content that is longer");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void replaceFile_writerFails_originalFileKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(
+                IOException.class,
+                () ->
+                        FileUtil.replaceFile(
+                                file,
+                                out -> {
+                                    out.write(1);
+                                    throw new IOException();
+                                }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void replaceFileWithBackup_previousGenerationKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.replaceFileWithBackup(file, out -> out.write('a'));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.replaceFileWithBackup(file, out -> out.write('b'));
+        FileUtil.replaceFileWithBackup(file, out -> out.write('c'));
+        assertEquals("c", FileUtil.readFromFile(file));
+        assertEquals("b", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void appendToFile_missingThenExistingFile_contentAppended() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first\n".getBytes("UTF-8"));
+        FileUtil.appendToFile(file, "second\n".getBytes("UTF-8"));
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
 }
@@ -142,6 +142,22 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    // ---------------- Tests for isAsciiAlphanumeric ------------------------------
+
+    @Test
+    public void isAsciiAlphanumeric() {
+        assertTrue(StringUtil.isAsciiAlphanumeric('a'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('Z'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('0'));
+        assertTrue(StringUtil.isAsciiAlphanumeric('9'));
+
+        assertFalse(StringUtil.isAsciiAlphanumeric(' '));
+        assertFalse(StringUtil.isAsciiAlphanumeric('_'));
+        assertFalse(StringUtil.isAsciiAlphanumeric('@')); // just before 'A'
+        assertFalse(StringUtil.isAsciiAlphanumeric('`')); // just before 'a'
+        assertFalse(StringUtil.isAsciiAlphanumeric('\u00e9')); // non-ASCII letter
+    }
+
     // ---------------- Tests for getDetails --------------------------------------
 
     /*
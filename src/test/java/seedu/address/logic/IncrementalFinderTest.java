@@ -0,0 +1,145 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
+import static seedu.address.testutil.TypicalTasks.FEED_CAT;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.RUN;
+import static seedu.address.testutil.TypicalTasks.TUTORIAL_1;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class IncrementalFinderTest {
+
+    private final Model model =
+            new ModelManager(getTypicalTaskList(), new Pet(), new Pomodoro(), new UserPrefs());
+    private final ScheduledExecutorService matcher = Executors.newSingleThreadScheduledExecutor();
+    private final List<Runnable> published = new ArrayList<>();
+    private final IncrementalFinder finder =
+            new IncrementalFinder(model, matcher, published::add, 0);
+
+    @AfterEach
+    public void tearDown() {
+        matcher.shutdownNow();
+    }
+
+    @Test
+    public void update_findWithKeywords_showsTasksWithWordStartingWithKeyword() throws Exception {
+        finder.update("find t");
+        showMatches();
+        assertEquals(Arrays.asList(TUTORIAL_1, FEED_CAT, RUN), model.getFilteredTaskList());
+
+        // keyword narrowed
+        finder.update("find Tu");
+        showMatches();
+        assertEquals(Arrays.asList(TUTORIAL_1), model.getFilteredTaskList());
+
+        // keywords added
+        finder.update("find tu la  mil");
+        showMatches();
+        assertEquals(Arrays.asList(LAB_3, TUTORIAL_1, BUY_MILK), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void update_newerQueryBeforeMatching_onlyNewerQueryShown() throws Exception {
+        CountDownLatch isReleased = new CountDownLatch(1);
+        matcher.execute(
+                () -> {
+                    try {
+                        isReleased.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        finder.update("find mu");
+        finder.update("find lab");
+        isReleased.countDown();
+        matcher.submit(() -> {}).get();
+        assertEquals(1, published.size());
+
+        published.get(0).run();
+        assertEquals(Arrays.asList(LAB_3), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void update_notFindCommandAfterMatchesShown_showsAllTasks() throws Exception {
+        finder.update("find lab");
+        showMatches();
+
+        finder.update("find");
+        assertEquals(getTypicalTasks(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void update_afterCancel_filteredListUnchanged() throws Exception {
+        finder.update("find lab");
+        showMatches();
+
+        finder.cancel();
+        finder.update("");
+        assertEquals(Arrays.asList(LAB_3), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void update_cancelledBeforeMatching_nothingShown() throws Exception {
+        finder.update("find lab");
+        finder.cancel();
+        showMatches();
+        assertEquals(getTypicalTasks(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void update_taskAddedAfterMatchesShown_newTaskMatched() throws Exception {
+        finder.update("find lab");
+        showMatches();
+
+        Task lab4 = new TaskBuilder().withName("Lab 4").build();
+        model.addTask(lab4);
+        finder.update("find labs 4");
+        showMatches();
+        assertEquals(Arrays.asList(lab4), model.getFilteredTaskList());
+
+        finder.update("find lab");
+        showMatches();
+        assertEquals(Arrays.asList(LAB_3, lab4), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void update_tasksEditedRemovedAndReplaced_namesKeptUpToDate() throws Exception {
+        Task renamedLab = new TaskBuilder(LAB_3).withName("Tutorial 3").build();
+        model.setTask(LAB_3, renamedLab);
+        model.deleteTask(TUTORIAL_1);
+        finder.update("find tu");
+        showMatches();
+        assertEquals(Arrays.asList(renamedLab), model.getFilteredTaskList());
+
+        model.setTaskList(getTypicalTaskList());
+        finder.update("find lab");
+        showMatches();
+        assertEquals(Arrays.asList(LAB_3), model.getFilteredTaskList());
+    }
+
+    /** Waits for the pending queries to be matched, then shows their matches. */
+    private void showMatches() throws Exception {
+        matcher.submit(() -> {}).get();
+        published.forEach(Runnable::run);
+        published.clear();
+    }
+}
@@ -7,10 +7,12 @@ import static seedu.address.logic.commands.CommandTestUtil.DESCRIPTION_DESC_TASK
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_TASK1;
 import static seedu.address.logic.commands.CommandTestUtil.PRIORITY_DESC_TASK1;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPomodoroSessions.COMPLETED_SESSION;
 import static seedu.address.testutil.TypicalTasks.TASK1;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -26,6 +28,8 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.task.Task;
 import seedu.address.storage.JsonPetStorage;
 import seedu.address.storage.JsonPomodoroStorage;
+import seedu.address.storage.JsonSessionLogStorage;
+import seedu.address.storage.JsonSessionRollupStorage;
 import seedu.address.storage.JsonTaskListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -46,10 +50,21 @@ public class LogicManagerTest {
         JsonPetStorage petStorage = new JsonPetStorage(temporaryFolder.resolve("pet.json"));
         JsonPomodoroStorage pomodoroStorage =
                 new JsonPomodoroStorage(temporaryFolder.resolve("pomodoro.json"));
+        JsonSessionLogStorage sessionLogStorage =
+                new JsonSessionLogStorage(temporaryFolder.resolve("pomodoro.sessions"));
+        JsonSessionRollupStorage sessionRollupStorage =
+                new JsonSessionRollupStorage(
+                        temporaryFolder.resolve("pomodoro.rollups"), sessionLogStorage);
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage =
-                new StorageManager(taskListStorage, petStorage, pomodoroStorage, userPrefsStorage);
+                new StorageManager(
+                        taskListStorage,
+                        petStorage,
+                        pomodoroStorage,
+                        sessionLogStorage,
+                        sessionRollupStorage,
+                        userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -79,10 +94,21 @@ public class LogicManagerTest {
         JsonPetStorage petStorage = new JsonPetStorage(temporaryFolder.resolve("pet.json"));
         JsonPomodoroStorage pomodoroStorage =
                 new JsonPomodoroStorage(temporaryFolder.resolve("pomodoro.json"));
+        JsonSessionLogStorage sessionLogStorage =
+                new JsonSessionLogStorage(temporaryFolder.resolve("pomodoro.sessions"));
+        JsonSessionRollupStorage sessionRollupStorage =
+                new JsonSessionRollupStorage(
+                        temporaryFolder.resolve("pomodoro.rollups"), sessionLogStorage);
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage =
-                new StorageManager(taskListStorage, petStorage, pomodoroStorage, userPrefsStorage);
+                new StorageManager(
+                        taskListStorage,
+                        petStorage,
+                        pomodoroStorage,
+                        sessionLogStorage,
+                        sessionRollupStorage,
+                        userPrefsStorage);
         logic = new LogicManager(model, storage);
 
         // Execute add command
@@ -104,6 +130,15 @@ public class LogicManagerTest {
                 UnsupportedOperationException.class, () -> logic.getFilteredTaskList().remove(0));
     }
 
+    @Test
+    public void addPomodoroSession_sessionSavedWithoutCommand() throws Exception {
+        model.addPomodoroSession(COMPLETED_SESSION);
+        assertEquals(
+                Arrays.asList(COMPLETED_SESSION),
+                new JsonSessionLogStorage(temporaryFolder.resolve("pomodoro.sessions"))
+                        .readSessionLog());
+    }
+
     /**
      * Executes the command and confirms that - no exceptions are thrown <br>
      * - the feedback message is equal to {@code expectedMessage} <br>
@@ -7,8 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,12 @@ import seedu.address.model.ReadOnlyPomodoro;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TaskList;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.reminder.ReminderHandler;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.statistics.PomodoroSession;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
+import seedu.address.model.task.NameContainsKeywordsPredicate;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.TaskBuilder;
 import seedu.address.ui.PetDisplayHandler;
@@ -152,6 +161,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredTaskList(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredTaskList(TaskFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void searchTasks(SearchQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredTaskList(Comparator<Task> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setReminderHandler(ReminderHandler handler) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> dismissReminders(List<Task> tasks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyPet getPet() {
             throw new AssertionError("This method should not be called.");
@@ -173,17 +212,62 @@ public class AddCommandTest {
         }
 
         @Override
-        public void updatePetDisplayHandler() {
+        public ReadOnlyPomodoro getPomodoro() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ReadOnlyPomodoro getPomodoro() {
+        public void setPomodoroTask(Task task) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void setPomodoroTask(Task task) {
+        public void startPomodoro(Task task, Duration length) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void pausePomodoro() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void resumePomodoro() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void recordPomodoroTimeLeft() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void stopPomodoro() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addPomodoroSession(PomodoroSession session) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlySessionStatistics getPomodoroStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTaskListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getPetVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getPomodoroVersion() {
             throw new AssertionError("This method should not be called.");
         }
     }
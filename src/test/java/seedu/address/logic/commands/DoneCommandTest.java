@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -10,6 +11,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
 
+import java.time.LocalDateTime;
 import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -18,6 +20,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.Pet;
 import seedu.address.model.Pomodoro;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.TaskBuilder;
 
@@ -77,6 +80,22 @@ public class DoneCommandTest {
         assertCommandSuccess(doneCommand, model, expectedMessage.toString(), expectedModel);
     }
 
+    @Test
+    public void execute_taskWithRepeatingReminder_reminderKept() throws Exception {
+        Task taskToDone = model.getFilteredTaskList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Task taskWithReminder =
+                new TaskBuilder(taskToDone)
+                        .withReminder(LocalDateTime.of(2030, 1, 1, 9, 0), Recurrence.DAILY)
+                        .build();
+        model.setTask(taskToDone, taskWithReminder);
+
+        new DoneCommand(new Index[] {INDEX_FIRST_PERSON}).execute(model);
+
+        Task doneTask = model.getFilteredTaskList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertTrue(doneTask.getDone().isDone);
+        assertEquals(taskWithReminder.getOptionalReminder(), doneTask.getOptionalReminder());
+    }
+
     @Test
     public void execute_invalidIndexFilteredList_throwsCommandException() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -90,6 +109,16 @@ public class DoneCommandTest {
         assertCommandFailure(doneCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_repeatedIndex_throwsCommandException() {
+        DoneCommand doneCommand =
+                new DoneCommand(
+                        new Index[] {INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, INDEX_FIRST_PERSON});
+
+        assertCommandFailure(doneCommand, model, Messages.MESSAGE_INVALID_TASK_TO_BE_DONED);
+        assertEquals(0, model.getPet().getExp());
+    }
+
     @Test
     public void equals() {
         DoneCommand doneFirstCommand = new DoneCommand(new Index[] {INDEX_FIRST_PERSON});
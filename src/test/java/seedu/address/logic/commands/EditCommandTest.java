@@ -14,6 +14,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
 
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -24,6 +25,7 @@ import seedu.address.model.Pet;
 import seedu.address.model.Pomodoro;
 import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.EditTaskDescriptorBuilder;
 import seedu.address.testutil.TaskBuilder;
@@ -155,6 +157,15 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_recurrenceWithoutReminder_failure() {
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setRecurrence(Optional.of(Recurrence.DAILY));
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON, descriptor);
+
+        assertCommandFailure(editCommand, model, Recurrence.MESSAGE_REMINDER_REQUIRED);
+    }
+
     @Test
     public void execute_invalidPersonIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredTaskList().size() + 1);
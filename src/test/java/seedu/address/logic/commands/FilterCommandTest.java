@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
+import static seedu.address.testutil.TypicalTasks.FEED_CAT;
+import static seedu.address.testutil.TypicalTasks.GYM;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.TUTORIAL_1;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.DoneFilter;
+import seedu.address.model.filter.OrFilter;
+import seedu.address.model.filter.PriorityFilter;
+import seedu.address.model.filter.TagFilter;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Priority;
+
+/** Contains integration tests (interaction with the Model) for {@code FilterCommand}. */
+public class FilterCommandTest {
+    private Model model =
+            new ModelManager(getTypicalTaskList(), new Pet(), new Pomodoro(), new UserPrefs());
+    private Model expectedModel =
+            new ModelManager(getTypicalTaskList(), new Pet(), new Pomodoro(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand firstCommand = new FilterCommand(new DoneFilter(true));
+        FilterCommand secondCommand = new FilterCommand(new DoneFilter(false));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FilterCommand(new DoneFilter(true))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingTask_noTaskFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FilterCommand command = new FilterCommand(new DoneFilter(true));
+        expectedModel.updateFilteredTaskList(new DoneFilter(true));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_compositeFilter_matchingTasksFound() {
+        // (p/2 or p/3) and not done and not t/MA1521
+        TaskFilter filter =
+                new AndFilter(
+                        Arrays.asList(
+                                new OrFilter(
+                                        Arrays.asList(
+                                                new PriorityFilter(new Priority("2")),
+                                                new PriorityFilter(new Priority("3")))),
+                                new DoneFilter(false),
+                                new TagFilter(new Tag("MA1521")).negate()));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        FilterCommand command = new FilterCommand(filter);
+        expectedModel.updateFilteredTaskList(filter);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(LAB_3, BUY_MILK, FEED_CAT, GYM), model.getFilteredTaskList());
+        assertFalse(model.getFilteredTaskList().contains(TUTORIAL_1));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.FEED_CAT;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.TUTORIAL_1;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.search.SearchQuery;
+
+/** Contains integration tests (interaction with the Model) for {@code SearchCommand}. */
+public class SearchCommandTest {
+    private Model model =
+            new ModelManager(getTypicalTaskList(), new Pet(), new Pomodoro(), new UserPrefs());
+    private Model expectedModel =
+            new ModelManager(getTypicalTaskList(), new Pet(), new Pomodoro(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand(new SearchQuery("first"));
+        SearchCommand searchSecondCommand = new SearchCommand(new SearchQuery("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand(new SearchQuery("FIRST"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatches_noTaskFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        SearchQuery query = new SearchQuery("xylophone");
+        expectedModel.searchTasks(query);
+        assertCommandSuccess(new SearchCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_tasksFoundInRankOrder() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        SearchQuery query = new SearchQuery("introduction calculus cat");
+        expectedModel.searchTasks(query);
+        assertCommandSuccess(new SearchCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FEED_CAT, TUTORIAL_1, LAB_3), model.getFilteredTaskList());
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
+import static seedu.address.testutil.TypicalTasks.FEED_CAT;
+import static seedu.address.testutil.TypicalTasks.GYM;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.RUN;
+import static seedu.address.testutil.TypicalTasks.TUTORIAL_1;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.filter.DoneFilter;
+import seedu.address.model.task.SortKey;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+/** Contains integration tests (interaction with the Model) for {@code SortCommand}. */
+public class SortCommandTest {
+    private Model model =
+            new ModelManager(getTypicalTaskList(), new Pet(), new Pomodoro(), new UserPrefs());
+    private Model expectedModel =
+            new ModelManager(getTypicalTaskList(), new Pet(), new Pomodoro(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SortCommand firstCommand = new SortCommand(Arrays.asList(SortKey.PRIORITY, SortKey.NAME));
+        SortCommand secondCommand = new SortCommand(Arrays.asList(SortKey.NAME, SortKey.PRIORITY));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(
+                firstCommand.equals(
+                        new SortCommand(Arrays.asList(SortKey.PRIORITY, SortKey.NAME))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different order of keys -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_priorityThenName_tasksSorted() {
+        SortCommand command = new SortCommand(Arrays.asList(SortKey.PRIORITY, SortKey.NAME));
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "priority, name");
+        expectedModel.sortFilteredTaskList(
+                SortKey.comparing(Arrays.asList(SortKey.PRIORITY, SortKey.NAME)));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(
+                Arrays.asList(GYM, TUTORIAL_1, FEED_CAT, BUY_MILK, LAB_3, HOMEWORK10, RUN),
+                model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_thenFilter_orderKept() throws Exception {
+        new SortCommand(Collections.singletonList(SortKey.NAME)).execute(model);
+        model.updateFilteredTaskList(new DoneFilter(false));
+        assertEquals(
+                Arrays.asList(BUY_MILK, GYM, HOMEWORK10, LAB_3, TUTORIAL_1, FEED_CAT, RUN),
+                model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_thenEdit_editedTaskRepositioned() throws Exception {
+        new SortCommand(Collections.singletonList(SortKey.PRIORITY)).execute(model);
+        Task lowered = new TaskBuilder(TUTORIAL_1).withPriority("1").build();
+        model.setTask(TUTORIAL_1, lowered);
+        assertEquals(
+                Arrays.asList(GYM, FEED_CAT, BUY_MILK, LAB_3, HOMEWORK10, lowered, RUN),
+                model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_thenDone_indicesResolvedAgainstDisplayedOrder() throws Exception {
+        new SortCommand(Arrays.asList(SortKey.DONE, SortKey.NAME)).execute(model);
+        new DoneCommand(new Index[] {INDEX_FIRST_PERSON, INDEX_SECOND_PERSON}).execute(model);
+
+        // Buy milk and Gym were displayed first, and move last once done
+        Task doneBuyMilk = new TaskBuilder(BUY_MILK).withDone("Y").build();
+        Task doneGym = new TaskBuilder(GYM).withDone("Y").build();
+        assertEquals(
+                Arrays.asList(HOMEWORK10, LAB_3, TUTORIAL_1, FEED_CAT, RUN, doneBuyMilk, doneGym),
+                model.getFilteredTaskList());
+        assertTrue(model.getFilteredTaskList().get(5).getDone().isDone);
+        assertTrue(model.getFilteredTaskList().get(6).getDone().isDone);
+    }
+
+    @Test
+    public void execute_thenDelete_displayedTaskDeleted() throws Exception {
+        new SortCommand(Collections.singletonList(SortKey.NAME)).execute(model);
+        new DeleteCommand(new Index[] {INDEX_FIRST_PERSON}).execute(model);
+        assertFalse(model.hasTask(BUY_MILK));
+        assertTrue(model.hasTask(HOMEWORK10));
+    }
+}
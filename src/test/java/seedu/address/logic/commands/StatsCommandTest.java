@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPomodoroSessions.ABORTED_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.COMPLETED_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.NEXT_DAY_SESSION;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.statistics.StatisticsRange;
+
+/** Contains integration tests (interaction with the Model) for {@code StatsCommand}. */
+public class StatsCommandTest {
+
+    private static final LocalDate DAY = COMPLETED_SESSION.getDate();
+
+    private Model model = new ModelManager();
+
+    @BeforeEach
+    public void setUp() {
+        model.addPomodoroSession(COMPLETED_SESSION);
+        model.addPomodoroSession(ABORTED_SESSION);
+        model.addPomodoroSession(NEXT_DAY_SESSION);
+    }
+
+    private static Clock clockOn(LocalDate date) {
+        ZoneId zone = ZoneId.systemDefault();
+        return Clock.fixed(date.atStartOfDay(zone).toInstant(), zone);
+    }
+
+    @Test
+    public void execute_range_timeOverRangeShown() {
+        CommandResult result =
+                new StatsCommand(StatisticsRange.WEEK, clockOn(DAY.plusDays(6))).execute(model);
+        String expectedMessage =
+                String.format(
+                        StatsCommand.MESSAGE_SUCCESS_RANGE,
+                        StatisticsRange.WEEK.description,
+                        (25 * 60 + 754 + 90 * 60) / 60);
+        assertEquals(new StatsCommandResult(expectedMessage, StatisticsRange.WEEK), result);
+
+        // the first day is no longer in the last 7 days
+        result = new StatsCommand(StatisticsRange.WEEK, clockOn(DAY.plusDays(7))).execute(model);
+        expectedMessage =
+                String.format(
+                        StatsCommand.MESSAGE_SUCCESS_RANGE, StatisticsRange.WEEK.description, 90);
+        assertEquals(new StatsCommandResult(expectedMessage, StatisticsRange.WEEK), result);
+    }
+
+    @Test
+    public void execute_dates_timeBetweenDatesShown() {
+        CommandResult result = new StatsCommand(DAY, DAY).execute(model);
+        String expectedMessage =
+                String.format(
+                        StatsCommand.MESSAGE_SUCCESS_DATES,
+                        "04/11/20",
+                        "04/11/20",
+                        (25 * 60 + 754) / 60);
+        assertEquals(new CommandResult(expectedMessage), result);
+        assertFalse(result instanceof StatsCommandResult);
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand weekCommand = new StatsCommand(StatisticsRange.WEEK);
+        StatsCommand datesCommand = new StatsCommand(DAY, DAY.plusDays(1));
+
+        // same object -> returns true
+        assertTrue(weekCommand.equals(weekCommand));
+
+        // same values -> returns true
+        assertTrue(weekCommand.equals(new StatsCommand(StatisticsRange.WEEK)));
+        assertTrue(datesCommand.equals(new StatsCommand(DAY, DAY.plusDays(1))));
+
+        // different types -> returns false
+        assertFalse(weekCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(weekCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(weekCommand.equals(new StatsCommand(StatisticsRange.YEAR)));
+        assertFalse(weekCommand.equals(datesCommand));
+        assertFalse(datesCommand.equals(new StatsCommand(DAY, DAY)));
+    }
+}
@@ -17,6 +17,8 @@ import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_MA1521;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_TASK2;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HELP;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MA1521;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMINDER;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalTasks.TASK1;
@@ -27,6 +29,7 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Priority;
+import seedu.address.model.task.Recurrence;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.TaskBuilder;
 
@@ -106,6 +109,27 @@ public class AddCommandParserTest {
                 new AddCommand(expectedTask));
     }
 
+    @Test
+    public void parse_recurrenceWithoutReminder_failure() {
+        assertParseFailure(
+                parser,
+                NAME_DESC_TASK1 + " " + PREFIX_RECURRENCE + "daily",
+                Recurrence.MESSAGE_REMINDER_REQUIRED);
+    }
+
+    @Test
+    public void parse_invalidRecurrence_failure() {
+        assertParseFailure(
+                parser,
+                NAME_DESC_TASK1
+                        + " "
+                        + PREFIX_REMINDER
+                        + "04/11/29@10:30 "
+                        + PREFIX_RECURRENCE
+                        + "monthly",
+                Recurrence.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage =
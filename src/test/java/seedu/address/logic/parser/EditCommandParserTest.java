@@ -18,6 +18,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PRIORITY_TASK1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PRIORITY_TASK2;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HELP;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MA1521;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -25,6 +26,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.EditCommand;
@@ -32,6 +34,7 @@ import seedu.address.logic.commands.EditCommand.EditTaskDescriptor;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Priority;
+import seedu.address.model.task.Recurrence;
 import seedu.address.testutil.EditTaskDescriptorBuilder;
 
 public class EditCommandParserTest {
@@ -176,6 +179,29 @@ public class EditCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_recurrenceSpecified_success() {
+        Index targetIndex = INDEX_FIRST_PERSON;
+        EditTaskDescriptor descriptor = new EditTaskDescriptor();
+        descriptor.setRecurrence(Optional.of(Recurrence.WEEKLY));
+        assertParseSuccess(
+                parser,
+                targetIndex.getOneBased() + " " + PREFIX_RECURRENCE + "weekly",
+                new EditCommand(targetIndex, descriptor));
+
+        // empty recurrence stops the task from repeating
+        descriptor.setRecurrence(Optional.empty());
+        assertParseSuccess(
+                parser,
+                targetIndex.getOneBased() + " " + PREFIX_RECURRENCE,
+                new EditCommand(targetIndex, descriptor));
+
+        assertParseFailure(
+                parser,
+                targetIndex.getOneBased() + " " + PREFIX_RECURRENCE + "monthly",
+                Recurrence.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_multipleRepeatedFields_acceptsLast() {
         Index targetIndex = INDEX_FIRST_PERSON;
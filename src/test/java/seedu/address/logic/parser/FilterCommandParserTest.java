@@ -0,0 +1,102 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.DoneFilter;
+import seedu.address.model.filter.NotFilter;
+import seedu.address.model.filter.OrFilter;
+import seedu.address.model.filter.PriorityFilter;
+import seedu.address.model.filter.ReminderFilter;
+import seedu.address.model.filter.TagFilter;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Priority;
+
+public class FilterCommandParserTest {
+
+    private static final TaskFilter PRIORITY_1 = new PriorityFilter(new Priority("1"));
+    private static final TaskFilter PRIORITY_2 = new PriorityFilter(new Priority("2"));
+    private static final TaskFilter TAG_WORK = new TagFilter(new Tag("work"));
+    private static final TaskFilter NOT_DONE = new DoneFilter(false);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_singleCondition_returnsFilterCommand() {
+        assertParseSuccess(parser, " p/1 ", new FilterCommand(PRIORITY_1));
+        assertParseSuccess(parser, "T/work", new FilterCommand(TAG_WORK));
+        assertParseSuccess(parser, "DONE", new FilterCommand(new DoneFilter(true)));
+        assertParseSuccess(parser, "reminder", new FilterCommand(new ReminderFilter()));
+    }
+
+    @Test
+    public void parse_conditionsNextToEachOther_returnsAndFilter() {
+        FilterCommand expectedCommand =
+                new FilterCommand(new AndFilter(Arrays.asList(PRIORITY_1, NOT_DONE, TAG_WORK)));
+        assertParseSuccess(parser, "p/1 not done t/work", expectedCommand);
+        assertParseSuccess(parser, "p/1 and not done AND t/work", expectedCommand);
+
+        // conditions are ordered from the cheapest to test
+        assertParseSuccess(parser, "t/work p/1 not done", expectedCommand);
+    }
+
+    @Test
+    public void parse_notDone_returnsDoneFilter() {
+        assertParseSuccess(parser, "not done", new FilterCommand(NOT_DONE));
+        assertParseSuccess(parser, "not not done", new FilterCommand(new DoneFilter(true)));
+        assertParseSuccess(parser, "not t/work", new FilterCommand(new NotFilter(TAG_WORK)));
+    }
+
+    @Test
+    public void parse_orAndParentheses_returnsFilterTree() {
+        // and binds tighter than or
+        assertParseSuccess(
+                parser,
+                "p/1 or p/2 t/work",
+                new FilterCommand(
+                        new OrFilter(
+                                Arrays.asList(
+                                        PRIORITY_1,
+                                        new AndFilter(Arrays.asList(PRIORITY_2, TAG_WORK))))));
+
+        assertParseSuccess(
+                parser,
+                "(p/1 or p/2)t/work",
+                new FilterCommand(
+                        new AndFilter(
+                                Arrays.asList(
+                                        new OrFilter(Arrays.asList(PRIORITY_1, PRIORITY_2)),
+                                        TAG_WORK))));
+
+        assertParseSuccess(
+                parser,
+                "not (p/1 or t/work)",
+                new FilterCommand(
+                        new NotFilter(new OrFilter(Arrays.asList(PRIORITY_1, TAG_WORK)))));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        String expectedMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, "urgent", expectedMessage);
+        assertParseFailure(parser, "p/1 or", expectedMessage);
+        assertParseFailure(parser, "not", expectedMessage);
+        assertParseFailure(parser, "(p/1 or p/2", expectedMessage);
+        assertParseFailure(parser, "p/1)", expectedMessage);
+        assertParseFailure(parser, "()", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, "p/4", Priority.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "done t/", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
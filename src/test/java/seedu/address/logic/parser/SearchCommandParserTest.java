@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.search.SearchQuery;
+
+public class SearchCommandParserTest {
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_noKeywords_throwsParseException() {
+        String expectedMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " - / ", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCommand() {
+        SearchCommand expectedSearchCommand = new SearchCommand(new SearchQuery("lab report"));
+        assertParseSuccess(parser, "Lab report", expectedSearchCommand);
+
+        // punctuation and repeated keywords
+        assertParseSuccess(parser, " \n LAB, \t report-lab  \t", expectedSearchCommand);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.task.SortKey;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(
+                parser,
+                "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unknownKey_throwsParseException() {
+        assertParseFailure(
+                parser,
+                "priority size",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(
+                parser,
+                "reminder",
+                new SortCommand(Collections.singletonList(SortKey.REMINDER)));
+
+        // multiple whitespaces and mixed case
+        assertParseSuccess(
+                parser,
+                " \n Done \t PRIORITY  name ",
+                new SortCommand(Arrays.asList(SortKey.DONE, SortKey.PRIORITY, SortKey.NAME)));
+
+        // repeated keys are only counted once
+        assertParseSuccess(
+                parser,
+                "name priority name",
+                new SortCommand(Arrays.asList(SortKey.NAME, SortKey.PRIORITY)));
+    }
+}
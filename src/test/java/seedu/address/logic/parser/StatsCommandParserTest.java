@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.statistics.StatisticsRange;
+
+public class StatsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsLastWeek() {
+        assertParseSuccess(parser, "   ", new StatsCommand(StatisticsRange.WEEK));
+    }
+
+    @Test
+    public void parse_range_returnsStatsCommand() {
+        assertParseSuccess(parser, "month", new StatsCommand(StatisticsRange.MONTH));
+
+        // whitespace and mixed case
+        assertParseSuccess(parser, " \t YEAR ", new StatsCommand(StatisticsRange.YEAR));
+    }
+
+    @Test
+    public void parse_dates_returnsStatsCommand() {
+        assertParseSuccess(
+                parser,
+                "01/10/20  31/10/20",
+                new StatsCommand(LocalDate.of(2020, 10, 1), LocalDate.of(2020, 10, 31)));
+
+        // same start and end
+        assertParseSuccess(
+                parser,
+                "29/02/20 29/02/20",
+                new StatsCommand(LocalDate.of(2020, 2, 29), LocalDate.of(2020, 2, 29)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "day", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "week month", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "01/10/20", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "01/10/20 31/10/20 week", MESSAGE_INVALID_FORMAT);
+
+        // dates that do not exist
+        assertParseFailure(parser, "29/02/21 01/03/21", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "01/10/20 31/11/20", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_startAfterEnd_throwsParseException() {
+        assertParseFailure(
+                parser, "31/10/20 01/10/20", StatsCommandParser.MESSAGE_START_AFTER_END);
+    }
+}
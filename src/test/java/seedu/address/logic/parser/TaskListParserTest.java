@@ -18,11 +18,22 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditTaskDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.DoneFilter;
+import seedu.address.model.filter.PriorityFilter;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.statistics.StatisticsRange;
 import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.SortKey;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.EditTaskDescriptorBuilder;
 import seedu.address.testutil.TaskBuilder;
@@ -89,6 +100,43 @@ public class TaskListParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command =
+                (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " foo bar");
+        assertEquals(new SearchCommand(new SearchQuery("foo bar")), command);
+    }
+
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command =
+                (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " p/1 done");
+        assertEquals(
+                new FilterCommand(
+                        new AndFilter(
+                                Arrays.asList(
+                                        new PriorityFilter(new Priority("1")),
+                                        new DoneFilter(true)))),
+                command);
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        SortCommand command =
+                (SortCommand) parser.parseCommand(SortCommand.COMMAND_WORD + " priority name");
+        assertEquals(new SortCommand(Arrays.asList(SortKey.PRIORITY, SortKey.NAME)), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(
+                new StatsCommand(StatisticsRange.WEEK),
+                parser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(
+                new StatsCommand(StatisticsRange.YEAR),
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " year"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -5,15 +5,27 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
 import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
 import static seedu.address.testutil.TypicalTasks.LAB_3;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.search.SearchQuery;
+import seedu.address.model.task.LazyTaskList;
 import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.Reminder;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.CountingTaskSource;
+import seedu.address.testutil.TaskBuilder;
 import seedu.address.testutil.TaskListBuilder;
 
 public class ModelManagerTest {
@@ -70,6 +82,66 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getTaskListFilePath());
     }
 
+    @Test
+    public void dismissReminders_reminderUnchanged_reminderRemoved() {
+        Task withReminder =
+                new TaskBuilder(HOMEWORK10)
+                        .withReminder(LocalDateTime.of(2020, 11, 4, 10, 30))
+                        .build();
+        modelManager.addTask(withReminder);
+        long version = modelManager.getTaskListVersion();
+
+        assertEquals(
+                Collections.singletonList(withReminder),
+                modelManager.dismissReminders(Collections.singletonList(withReminder)));
+        assertEquals(
+                Optional.empty(), modelManager.getFilteredTaskList().get(0).getOptionalReminder());
+        assertTrue(modelManager.getTaskListVersion() > version);
+    }
+
+    @Test
+    public void dismissReminders_repeatingReminder_movedToNextOccurrence() {
+        Task withReminder =
+                new TaskBuilder(HOMEWORK10)
+                        .withReminder(LocalDateTime.of(2020, 11, 4, 10, 30), Recurrence.DAILY)
+                        .build();
+        modelManager.addTask(withReminder);
+
+        LocalDateTime before = LocalDateTime.now();
+        modelManager.dismissReminders(Collections.singletonList(withReminder));
+        Reminder nextReminder =
+                modelManager.getFilteredTaskList().get(0).getOptionalReminder().get();
+        assertEquals(Optional.of(Recurrence.DAILY), nextReminder.getRecurrence());
+        assertEquals(LocalTime.of(10, 30), nextReminder.getReminderDateTime().toLocalTime());
+        // missed occurrences are skipped
+        assertTrue(nextReminder.getReminderDateTime().isAfter(before));
+        assertTrue(nextReminder.getReminderDateTime().isBefore(before.plusDays(1).plusMinutes(1)));
+    }
+
+    @Test
+    public void dismissReminders_reminderChangedOrTaskDeleted_taskUnchanged() {
+        Task fired =
+                new TaskBuilder(HOMEWORK10)
+                        .withReminder(LocalDateTime.of(2020, 11, 4, 10, 30))
+                        .build();
+        Task rescheduled =
+                new TaskBuilder(HOMEWORK10)
+                        .withReminder(LocalDateTime.of(2099, 11, 4, 10, 30))
+                        .build();
+        modelManager.addTask(rescheduled);
+        Task deleted =
+                new TaskBuilder(LAB_3)
+                        .withReminder(LocalDateTime.of(2020, 11, 4, 10, 30))
+                        .build();
+
+        assertEquals(
+                Collections.emptyList(),
+                modelManager.dismissReminders(Arrays.asList(fired, deleted)));
+        assertEquals(
+                rescheduled.getOptionalReminder(),
+                modelManager.getFilteredTaskList().get(0).getOptionalReminder());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasTask(null));
@@ -86,6 +158,56 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasTask(HOMEWORK10));
     }
 
+    @Test
+    public void updateFilteredTaskList_taskRenamedAfterFind_filteredByNewName() {
+        modelManager.addTask(HOMEWORK10);
+        modelManager.addTask(LAB_3);
+        modelManager.updateFilteredTaskList(
+                new NameContainsKeywordsPredicate(Arrays.asList("lab")));
+
+        Task renamedHomework = new TaskBuilder(HOMEWORK10).withName("Homework Lab").build();
+        modelManager.setTask(HOMEWORK10, renamedHomework);
+        assertEquals(Arrays.asList(renamedHomework, LAB_3), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void searchTasks_tasksEditedAfterSearch_filteredAndRankedByNewValues() {
+        modelManager.addTask(HOMEWORK10);
+        modelManager.addTask(LAB_3);
+        modelManager.searchTasks(new SearchQuery("lab"));
+        assertEquals(Arrays.asList(LAB_3), modelManager.getFilteredTaskList());
+
+        // Matches in tags rank below matches in names
+        Task taggedHomework = new TaskBuilder(HOMEWORK10).withTags("lab").build();
+        modelManager.setTask(HOMEWORK10, taggedHomework);
+        assertEquals(Arrays.asList(LAB_3, taggedHomework), modelManager.getFilteredTaskList());
+
+        modelManager.setTask(LAB_3, new TaskBuilder(LAB_3).withName("Quiz 3").build());
+        assertEquals(Arrays.asList(taggedHomework), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void constructor_lazyTaskList_noTaskDecodedOrKept() {
+        CountingTaskSource source =
+                new CountingTaskSource(Arrays.asList(HOMEWORK10, LAB_3, BUY_MILK));
+        LazyTaskList tasks = new LazyTaskList(source);
+        modelManager = new ModelManager(() -> tasks, new Pet(), new Pomodoro(), new UserPrefs());
+        assertEquals(3, modelManager.getFilteredTaskList().size());
+        assertEquals(0, source.getTasksDecoded());
+
+        // shown tasks are decoded each time they are read rather than kept
+        assertEquals(LAB_3, modelManager.getFilteredTaskList().get(1));
+        assertEquals(LAB_3, modelManager.getFilteredTaskList().get(1));
+        assertEquals(2, source.getTasksDecoded());
+
+        // ranked results are kept only until the tasks are listed again
+        modelManager.searchTasks(new SearchQuery("lab"));
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_PERSONS);
+        int tasksDecoded = source.getTasksDecoded();
+        assertEquals(HOMEWORK10, modelManager.getFilteredTaskList().get(0));
+        assertEquals(tasksDecoded + 1, source.getTasksDecoded());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(
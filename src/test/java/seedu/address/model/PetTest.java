@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class PetTest {
+
+    @Test
+    public void incrementExp_expAndLevelObserved() {
+        Pet pet = new Pet("Pet", 95, 1);
+        List<Number> exps = new ArrayList<>();
+        List<Number> levels = new ArrayList<>();
+        pet.expProperty().addListener((observable, oldExp, newExp) -> exps.add(newExp));
+        pet.levelProperty().addListener((observable, oldLevel, newLevel) -> levels.add(newLevel));
+        long version = pet.getVersion();
+
+        pet.incrementExp();
+        assertEquals(100, pet.getExp());
+        assertEquals(2, pet.getLevel());
+        assertEquals(List.of(100), exps);
+        assertEquals(List.of(2), levels);
+        assertTrue(pet.getVersion() > version);
+
+        // level unchanged -> only the experience is observed to change
+        pet.incrementExp();
+        assertEquals(List.of(100, 105), exps);
+        assertEquals(List.of(2), levels);
+    }
+
+    @Test
+    public void incrementExp_levelUp_expObservedWithNewLevel() {
+        Pet pet = new Pet("Pet", 95, 1);
+        List<Integer> levelsWithExp = new ArrayList<>();
+        pet.expProperty()
+                .addListener((observable, oldExp, newExp) -> levelsWithExp.add(pet.getLevel()));
+
+        pet.incrementExp();
+        assertEquals(List.of(2), levelsWithExp);
+    }
+
+    @Test
+    public void constructor_copy_sameExpAndLevel() {
+        Pet copy = new Pet(new Pet("Pet", 42, 1));
+        assertEquals("Pet", copy.getName());
+        assertEquals(42, copy.getExp());
+        assertEquals(1, copy.getLevel());
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class PomodoroTest {
+
+    private long now = 5_000_000_000L;
+
+    private Pomodoro createPomodoro() {
+        return new Pomodoro("25.0", "25.0", null, false, () -> now);
+    }
+
+    private void advance(Duration duration) {
+        now += duration.toNanos();
+    }
+
+    @Test
+    public void getRemainingTime_running_countsDownByClock() {
+        Pomodoro pomodoro = createPomodoro();
+        pomodoro.start(HOMEWORK10, Duration.ofMinutes(25));
+        assertEquals(Duration.ofMinutes(25), pomodoro.getRemainingTime());
+
+        advance(Duration.ofMillis(90_500));
+        assertEquals(Duration.ofMillis(1_409_500), pomodoro.getRemainingTime());
+        assertEquals("23.491666667", pomodoro.getTimeLeft());
+
+        // no time left is below zero
+        advance(Duration.ofHours(1));
+        assertEquals(Duration.ZERO, pomodoro.getRemainingTime());
+    }
+
+    @Test
+    public void pauseAndResume_timeWhilePausedNotCounted() {
+        Pomodoro pomodoro = createPomodoro();
+        pomodoro.start(HOMEWORK10, Duration.ofMinutes(10));
+        advance(Duration.ofMinutes(4));
+        long version = pomodoro.getVersion();
+
+        pomodoro.pause();
+        assertTrue(pomodoro.isPaused());
+        assertTrue(pomodoro.getVersion() > version);
+        advance(Duration.ofHours(2));
+        assertEquals("6", pomodoro.getTimeLeft());
+
+        pomodoro.resume();
+        advance(Duration.ofMinutes(1));
+        assertEquals(Duration.ofMinutes(5), pomodoro.getRemainingTime());
+    }
+
+    @Test
+    public void recordTimeLeft_running_timeLeftKeptAndStillRunning() {
+        Pomodoro pomodoro = createPomodoro();
+        pomodoro.start(HOMEWORK10, Duration.ofMinutes(10));
+        advance(Duration.ofMinutes(3));
+        long version = pomodoro.getVersion();
+
+        pomodoro.recordTimeLeft();
+        assertTrue(pomodoro.getVersion() > version);
+        assertEquals("7", pomodoro.timeLeft);
+        assertTrue(pomodoro.isRunning());
+        advance(Duration.ofMinutes(2));
+        assertEquals(Duration.ofMinutes(5), pomodoro.getRemainingTime());
+
+        // nothing to record while paused
+        pomodoro.pause();
+        version = pomodoro.getVersion();
+        pomodoro.recordTimeLeft();
+        assertEquals(version, pomodoro.getVersion());
+    }
+
+    @Test
+    public void constructor_copy_continuesFromTimeLeft() {
+        Pomodoro pomodoro = createPomodoro();
+        pomodoro.start(HOMEWORK10, Duration.ofMinutes(25));
+        advance(Duration.ofSeconds(61));
+
+        // a copy of a pomodoro read back after a restart has exactly the same time left
+        Pomodoro restored =
+                new Pomodoro(
+                        pomodoro.getDefaultTime(),
+                        pomodoro.getTimeLeft(),
+                        pomodoro.getRunningTask(),
+                        pomodoro.isPaused(),
+                        () -> now);
+        assertEquals(pomodoro.getRemainingTime(), restored.getRemainingTime());
+        assertFalse(restored.isPaused());
+
+        advance(Duration.ofSeconds(30));
+        assertEquals(Duration.ofSeconds(25 * 60 - 91), restored.getRemainingTime());
+    }
+
+    @Test
+    public void stop_runningTaskCleared() {
+        Pomodoro pomodoro = createPomodoro();
+        pomodoro.start(HOMEWORK10, Duration.ofMinutes(5));
+        pomodoro.pause();
+        pomodoro.stop();
+        assertNull(pomodoro.getRunningTask());
+        assertFalse(pomodoro.isPaused());
+        assertFalse(pomodoro.isRunning());
+        assertEquals(pomodoro.getDefaultTime(), pomodoro.getTimeLeft());
+
+        // resuming without a running task does nothing
+        pomodoro.resume();
+        assertFalse(pomodoro.isRunning());
+    }
+}
@@ -7,15 +7,23 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_TAS
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MA1521;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import org.junit.jupiter.api.Test;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.DoneFilter;
+import seedu.address.model.filter.PriorityFilter;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.Priority;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.testutil.TaskBuilder;
@@ -87,6 +95,47 @@ public class TaskListTest {
         assertThrows(UnsupportedOperationException.class, () -> taskList.getTaskList().remove(0));
     }
 
+    @Test
+    public void getIndexedPredicate_taskListModified_sameAsPredicate() {
+        taskList.resetData(getTypicalTaskList());
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(Arrays.asList("mum", "LAB"));
+        Predicate<Task> indexedPredicate = taskList.getIndexedPredicate(predicate);
+        for (Task task : taskList.getTaskList()) {
+            assertEquals(predicate.test(task), indexedPredicate.test(task));
+        }
+
+        // A task added after the lookup is still matched
+        Task lab = new TaskBuilder().withName("Lab 4").build();
+        taskList.addTask(lab);
+        assertTrue(indexedPredicate.test(lab));
+    }
+
+    @Test
+    public void getIndexedPredicate_taskFilterAndTaskListModified_sameAsFilter() {
+        taskList.resetData(getTypicalTaskList());
+        TaskFilter filter =
+                new AndFilter(
+                        Arrays.asList(
+                                new PriorityFilter(new Priority("2")), new DoneFilter(false)));
+        Predicate<Task> indexedPredicate = taskList.getIndexedPredicate(filter);
+        for (Task task : taskList.getTaskList()) {
+            assertEquals(filter.test(task), indexedPredicate.test(task));
+        }
+
+        // A task marked done after the lookup is no longer matched
+        Task doneLab = new TaskBuilder(LAB_3).withDone("Y").build();
+        taskList.setTask(LAB_3, doneLab);
+        assertFalse(indexedPredicate.test(doneLab));
+
+        // The indexes are kept up to date
+        indexedPredicate = taskList.getIndexedPredicate(filter.negate());
+        for (Task task : taskList.getTaskList()) {
+            assertEquals(!filter.test(task), indexedPredicate.test(task));
+        }
+        assertTrue(taskList.getIndexedPredicate(new DoneFilter(true)).test(doneLab));
+    }
+
     /** A stub ReadOnlyTaskList whose persons list can violate interface constraints. */
     private static class TaskListStub implements ReadOnlyTaskList {
         private final ObservableList<Task> tasks = FXCollections.observableArrayList();
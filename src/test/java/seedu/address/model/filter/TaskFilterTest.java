@@ -0,0 +1,143 @@
+package seedu.address.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.RUN;
+import static seedu.address.testutil.TypicalTasks.TUTORIAL_1;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdentity;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskFilterTest {
+
+    private static final TaskFilter PRIORITY_1 = new PriorityFilter(new Priority("1"));
+    private static final TaskFilter PRIORITY_3 = new PriorityFilter(new Priority("3"));
+    private static final TaskFilter TAG_MA1521 = new TagFilter(new Tag("MA1521"));
+
+    private final TaskFieldIndex index = new TaskFieldIndex();
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalTasks().forEach(index::add);
+    }
+
+    @Test
+    public void andFilter_cheapestFilterTestedFirst() {
+        ExpensiveFilter expensiveFilter = new ExpensiveFilter();
+        AndFilter filter = new AndFilter(Arrays.asList(expensiveFilter, TAG_MA1521, PRIORITY_1));
+        assertEquals("(p/1 and t/MA1521 and expensive)", filter.toString());
+
+        // the cheaper filters reject the task, so the expensive filter is not tested
+        assertFalse(filter.test(LAB_3));
+        assertFalse(expensiveFilter.isTested);
+
+        assertTrue(filter.test(HOMEWORK10));
+        assertTrue(expensiveFilter.isTested);
+    }
+
+    @Test
+    public void orFilter_cheapestFilterTestedFirst() {
+        ExpensiveFilter expensiveFilter = new ExpensiveFilter();
+        OrFilter filter = new OrFilter(Arrays.asList(expensiveFilter, PRIORITY_1));
+
+        // the cheaper filter accepts the task, so the expensive filter is not tested
+        assertTrue(filter.test(RUN));
+        assertFalse(expensiveFilter.isTested);
+    }
+
+    @Test
+    public void getCandidates_leafFilters() {
+        assertEquals(set(HOMEWORK10, RUN), PRIORITY_1.getCandidates(index).get());
+        assertEquals(set(HOMEWORK10, TUTORIAL_1), TAG_MA1521.getCandidates(index).get());
+        assertEquals(set(getTypicalTasks().toArray(new Task[0])), doneCandidates(false));
+        assertEquals(set(), doneCandidates(true));
+
+        // not indexed
+        assertEquals(Optional.empty(), new ReminderFilter().getCandidates(index));
+        assertEquals(Optional.empty(), TAG_MA1521.negate().getCandidates(index));
+    }
+
+    @Test
+    public void getCandidates_andFilter_fewestCandidates() {
+        TaskFilter filter = new AndFilter(Arrays.asList(new DoneFilter(false), PRIORITY_1));
+        assertEquals(set(HOMEWORK10, RUN), filter.getCandidates(index).get());
+
+        filter = new AndFilter(Arrays.asList(new ReminderFilter(), TAG_MA1521.negate()));
+        assertEquals(Optional.empty(), filter.getCandidates(index));
+    }
+
+    @Test
+    public void getCandidates_orFilter_allCandidates() {
+        TaskFilter filter = new OrFilter(Arrays.asList(PRIORITY_1, TAG_MA1521));
+        assertEquals(set(HOMEWORK10, RUN, TUTORIAL_1), filter.getCandidates(index).get());
+
+        filter = new OrFilter(Arrays.asList(PRIORITY_1, new ReminderFilter()));
+        assertEquals(Optional.empty(), filter.getCandidates(index));
+    }
+
+    @Test
+    public void taskFieldIndex_taskDoneAndRemoved() {
+        Task doneLab = new TaskBuilder(LAB_3).withDone("Y").build();
+        index.remove(LAB_3);
+        index.add(doneLab);
+        assertEquals(set(doneLab), doneCandidates(true));
+
+        index.remove(doneLab);
+        assertEquals(set(), doneCandidates(true));
+        assertFalse(index.getTasksWithTag(new Tag("help")).contains(new TaskIdentity(LAB_3)));
+    }
+
+    @Test
+    public void negate() {
+        assertEquals(new DoneFilter(false), new DoneFilter(true).negate());
+        assertEquals(new NotFilter(PRIORITY_3), PRIORITY_3.negate());
+        assertEquals(PRIORITY_3, PRIORITY_3.negate().negate());
+    }
+
+    private Set<TaskIdentity> doneCandidates(boolean isDone) {
+        return new DoneFilter(isDone).getCandidates(index).get();
+    }
+
+    private static Set<TaskIdentity> set(Task... tasks) {
+        return Arrays.stream(tasks).map(TaskIdentity::new).collect(Collectors.toSet());
+    }
+
+    /** A filter that accepts every task, at a high cost, and records whether it tested any. */
+    private static class ExpensiveFilter extends TaskFilter {
+        private boolean isTested;
+
+        @Override
+        public boolean test(Task task) {
+            isTested = true;
+            return true;
+        }
+
+        @Override
+        public int getCost() {
+            return 100;
+        }
+
+        @Override
+        public Optional<Set<TaskIdentity>> getCandidates(TaskFieldIndex index) {
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return "expensive";
+        }
+    }
+}
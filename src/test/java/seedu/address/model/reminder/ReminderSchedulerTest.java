@@ -0,0 +1,198 @@
+package seedu.address.model.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
+import static seedu.address.testutil.TypicalTasks.GYM;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.task.Reminder;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.InvalidReminderException;
+
+public class ReminderSchedulerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.now());
+    private final ReminderScheduler scheduler = new ReminderScheduler(clock, null);
+
+    @Test
+    public void schedule_taskWithoutReminder_nothingScheduled() {
+        scheduler.schedule(GYM);
+        assertEquals(0, scheduler.size());
+        assertEquals(Optional.empty(), scheduler.getNextFireTime());
+    }
+
+    @Test
+    public void fireDueReminders_someDue_dueRemindersFiredInOrder() throws Exception {
+        Task inOneHour = withReminderIn(GYM, Duration.ofHours(1));
+        Task inTwoHours = withReminderIn(LAB_3, Duration.ofHours(2));
+        Task inThreeHours = withReminderIn(BUY_MILK, Duration.ofHours(3));
+        scheduler.schedule(inThreeHours);
+        scheduler.schedule(inOneHour);
+        scheduler.schedule(inTwoHours);
+        RecordingHandler handler = new RecordingHandler();
+        scheduler.setHandler(handler);
+
+        // nothing due yet
+        assertEquals(Collections.emptyList(), scheduler.fireDueReminders());
+
+        clock.advance(Duration.ofHours(2));
+        assertEquals(Arrays.asList(inOneHour, inTwoHours), scheduler.fireDueReminders());
+        assertEquals(Arrays.asList(inOneHour, inTwoHours), handler.reminded);
+        assertEquals(Collections.emptyList(), handler.missed);
+        assertEquals(1, scheduler.size());
+        assertEquals(Optional.of(fireTime(inThreeHours)), scheduler.getNextFireTime());
+    }
+
+    @Test
+    public void cancel_scheduledTask_notFired() throws Exception {
+        Task inOneHour = withReminderIn(GYM, Duration.ofHours(1));
+        scheduler.schedule(inOneHour);
+        scheduler.cancel(inOneHour);
+        clock.advance(Duration.ofHours(2));
+        assertEquals(Collections.emptyList(), scheduler.fireDueReminders());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void reschedule_editedTask_onlyEditedReminderScheduled() throws Exception {
+        Task task = withReminderIn(GYM, Duration.ofHours(1));
+        for (int hours = 2; hours <= 100; hours++) {
+            Task editedTask = withReminderIn(GYM, Duration.ofHours(hours));
+            scheduler.reschedule(task, editedTask);
+            task = editedTask;
+        }
+        assertEquals(1, scheduler.size());
+        assertEquals(Optional.of(fireTime(task)), scheduler.getNextFireTime());
+
+        // edited to have no reminder
+        scheduler.reschedule(task, GYM);
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void cancelAll_manyScheduled_noneLeft() throws Exception {
+        scheduler.schedule(withReminderIn(GYM, Duration.ofHours(1)));
+        scheduler.schedule(withReminderIn(LAB_3, Duration.ofHours(1)));
+        scheduler.cancelAll();
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void setHandler_reminderAlreadyDue_firedByTimer() throws Exception {
+        ReminderScheduler timedScheduler = new ReminderScheduler(clock, null);
+        Task inOneHour = withReminderIn(GYM, Duration.ofHours(1));
+        timedScheduler.schedule(inOneHour);
+        clock.advance(Duration.ofHours(1));
+
+        CountDownLatch fired = new CountDownLatch(1);
+        timedScheduler.setHandler(
+                new RecordingHandler() {
+                    @Override
+                    public void remind(Task task) {
+                        fired.countDown();
+                    }
+                });
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertEquals(0, timedScheduler.size());
+    }
+
+    @Test
+    public void fireDueReminders_dueBeforeStart_handedOverTogether() throws Exception {
+        Task inOneHour = withReminderIn(GYM, Duration.ofHours(1));
+        Task inTwoHours = withReminderIn(LAB_3, Duration.ofHours(2));
+        Task inFourHours = withReminderIn(BUY_MILK, Duration.ofHours(4));
+
+        // the application is started three hours later
+        clock.advance(Duration.ofHours(3));
+        ReminderScheduler startedScheduler = new ReminderScheduler(clock, null);
+        startedScheduler.schedule(inTwoHours);
+        startedScheduler.schedule(inOneHour);
+        startedScheduler.schedule(inFourHours);
+        RecordingHandler handler = new RecordingHandler();
+        startedScheduler.setHandler(handler);
+
+        clock.advance(Duration.ofHours(1));
+        assertEquals(
+                Arrays.asList(inOneHour, inTwoHours, inFourHours),
+                startedScheduler.fireDueReminders());
+        assertEquals(
+                Collections.singletonList(Arrays.asList(inOneHour, inTwoHours)), handler.missed);
+        assertEquals(Collections.singletonList(inFourHours), handler.reminded);
+    }
+
+    private Task withReminderIn(Task task, Duration delay) throws InvalidReminderException {
+        LocalDateTime dateTime = LocalDateTime.ofInstant(clock.instant().plus(delay), clock.zone);
+        return new Task(
+                task.getName(),
+                task.getPriority(),
+                task.getDescription(),
+                task.getDone(),
+                task.getTags(),
+                Optional.of(new Reminder(dateTime)));
+    }
+
+    private Instant fireTime(Task task) {
+        LocalDateTime dateTime = task.getOptionalReminder().get().getReminderDateTime();
+        return dateTime.atZone(clock.zone).toInstant();
+    }
+
+    /** A handler that records the tasks it is handed. */
+    private static class RecordingHandler implements ReminderHandler {
+        private final List<Task> reminded = new ArrayList<>();
+        private final List<List<Task>> missed = new ArrayList<>();
+
+        @Override
+        public void remind(Task task) {
+            reminded.add(task);
+        }
+
+        @Override
+        public void remindMissed(List<Task> tasks) {
+            missed.add(tasks);
+        }
+    }
+
+    /** A clock that only moves when told to. */
+    private static class MutableClock extends Clock {
+        // Reminders must not be in the past of the system clock when they are created
+        private final ZoneId zone = ZoneId.systemDefault();
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
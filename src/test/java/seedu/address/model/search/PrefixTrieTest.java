@@ -0,0 +1,78 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie<Integer> trie = new PrefixTrie<>();
+
+    @BeforeEach
+    public void setUp() {
+        String[] keys = {"lab", "labs", "label", "lap", "tab", "l"};
+        for (int i = 0; i < keys.length; i++) {
+            int value = i;
+            trie.computeIfAbsent(keys[i], () -> value);
+        }
+    }
+
+    @Test
+    public void get_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.get(null));
+    }
+
+    @Test
+    public void computeIfAbsent_existingKey_valueKept() {
+        assertEquals(Integer.valueOf(0), trie.computeIfAbsent("lab", () -> 100));
+        assertEquals(6, trie.size());
+        assertNull(trie.get("la"));
+        assertNull(trie.get("labels"));
+    }
+
+    @Test
+    public void remove_keys_onlyThoseKeysRemoved() {
+        trie.remove("lab");
+        trie.remove("la"); // not a key
+        trie.remove("labels"); // not in the trie
+
+        assertEquals(5, trie.size());
+        assertNull(trie.get("lab"));
+        assertEquals(Integer.valueOf(1), trie.get("labs"));
+        assertEquals(Map.of("labs", 1, "label", 2), withPrefix("lab"));
+    }
+
+    @Test
+    public void forEachWithPrefix_prefixes_keysStartingWithPrefix() {
+        assertEquals(Map.of("lab", 0, "labs", 1, "label", 2), withPrefix("lab"));
+        assertEquals(Map.of("lab", 0, "labs", 1, "label", 2, "lap", 3, "l", 5), withPrefix("l"));
+        assertEquals(6, withPrefix("").size());
+        assertEquals(Map.of(), withPrefix("lax"));
+    }
+
+    @Test
+    public void forEachWithinEdits_oneEdit_keysOneEditAway() {
+        // Substitutions, insertions and deletions
+        assertEquals(Map.of("lab", 0, "labs", 1, "lap", 3, "tab", 4), withinOneEdit("lab"));
+        assertEquals(Map.of("lab", 0, "labs", 1), withinOneEdit("labz"));
+        assertEquals(Map.of("label", 2), withinOneEdit("lbel"));
+        assertEquals(Map.of(), withinOneEdit("xyz"));
+    }
+
+    private Map<String, Integer> withPrefix(String prefix) {
+        Map<String, Integer> found = new TreeMap<>();
+        trie.forEachWithPrefix(prefix, found::put);
+        return found;
+    }
+
+    private Map<String, Integer> withinOneEdit(String term) {
+        Map<String, Integer> found = new TreeMap<>();
+        trie.forEachWithinEdits(term, 1, found::put);
+        return found;
+    }
+}
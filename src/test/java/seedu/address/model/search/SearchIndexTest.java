@@ -0,0 +1,126 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.GYM;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.RUN;
+import static seedu.address.testutil.TypicalTasks.TUTORIAL_1;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class SearchIndexTest {
+
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final List<Task> tasks = getTypicalTasks();
+    private boolean isUnchanged = true;
+
+    @BeforeEach
+    public void setUp() {
+        tasks.forEach(searchIndex::add);
+    }
+
+    @Test
+    public void search_exactPrefixAndFuzzyMatches_tasksFound() {
+        // Description, exactly
+        assertEquals(Arrays.asList(RUN, GYM), search("COMPLETE"));
+
+        // Description, by prefix
+        assertEquals(Arrays.asList(LAB_3, TUTORIAL_1), search("intro"));
+
+        // Name, one letter wrong
+        assertEquals(Arrays.asList(TUTORIAL_1), search("tutorual"));
+
+        // Too short to be misspelt
+        assertEquals(Arrays.asList(), search("gum"));
+    }
+
+    @Test
+    public void search_tasksMatchingBetter_rankedFirst() {
+        Task labTag = new TaskBuilder().withName("Report").withTags("lab").build();
+        Task labsName = new TaskBuilder().withName("Labs").build();
+        add(labTag);
+        add(labsName);
+
+        // Exact matches before prefix matches, and names before tags
+        assertEquals(Arrays.asList(LAB_3, labsName, labTag), search("lab"));
+
+        // Tasks matching more terms first
+        assertEquals(Arrays.asList(TUTORIAL_1, LAB_3), search("introduction calculus"));
+    }
+
+    @Test
+    public void score_anyTask_sameAsSearch() {
+        for (String text : Arrays.asList("lab", "intro", "tutorual 1", "mum cat", "ma1521 pages")) {
+            SearchQuery query = new SearchQuery(text);
+            SearchResults results = searchIndex.search(query, () -> true);
+            for (Task task : tasks) {
+                assertEquals(searchIndex.score(query, task), results.getScore(task), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void searchResults_tasksChangedAfterSearch_changedTasksScored() {
+        SearchResults results = searchIndex.search(new SearchQuery("lab"), () -> isUnchanged);
+        Task newLab = new TaskBuilder().withName("Lab 4").build();
+        searchIndex.add(newLab);
+        assertFalse(results.test(newLab));
+
+        isUnchanged = false;
+        assertTrue(results.test(newLab));
+        assertTrue(results.test(LAB_3));
+    }
+
+    @Test
+    public void searchResults_taskEditedKeepingIdentity_scoredByNewValues() {
+        SearchResults results = searchIndex.search(new SearchQuery("intro"), () -> isUnchanged);
+        Task editedLab = new TaskBuilder(LAB_3).withDescription("Revise").build();
+        searchIndex.remove(LAB_3);
+        searchIndex.add(editedLab);
+        assertTrue(results.test(editedLab));
+
+        isUnchanged = false;
+        assertFalse(results.test(editedLab));
+        assertTrue(results.test(TUTORIAL_1));
+    }
+
+    @Test
+    public void remove_task_noLongerFound() {
+        searchIndex.remove(LAB_3);
+        searchIndex.remove(TUTORIAL_1);
+        assertEquals(Arrays.asList(), search("introduction"));
+    }
+
+    @Test
+    public void isWithinEdits() {
+        assertTrue(SearchIndex.isWithinEdits("lab", "lab", 0));
+        assertTrue(SearchIndex.isWithinEdits("lab", "lap", 1));
+        assertTrue(SearchIndex.isWithinEdits("lab", "labs", 1));
+        assertTrue(SearchIndex.isWithinEdits("labs", "lab", 1));
+        assertFalse(SearchIndex.isWithinEdits("lab", "bal", 1));
+        assertFalse(SearchIndex.isWithinEdits("lab", "label", 1));
+    }
+
+    private void add(Task task) {
+        tasks.add(task);
+        searchIndex.add(task);
+    }
+
+    /** Returns the indexed tasks matching {@code text}, from the best match to the worst. */
+    private List<Task> search(String text) {
+        SearchResults results = searchIndex.search(new SearchQuery(text), () -> isUnchanged);
+        return tasks.stream()
+                .filter(results)
+                .sorted(results.getRankComparator())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+public class SessionRollupsTest {
+
+    // A Wednesday
+    private static final LocalDate DAY = LocalDate.of(2020, 11, 4);
+
+    @Test
+    public void add_date_addedToEveryGranularity() {
+        SessionRollups rollups = new SessionRollups();
+        rollups.add(DAY, 60);
+        rollups.add(DAY.plusDays(1), 30);
+
+        assertEquals(60, rollups.getSeconds(Granularity.DAY, DAY));
+        assertEquals(90, rollups.getSeconds(Granularity.WEEK, LocalDate.of(2020, 11, 8)));
+        assertEquals(90, rollups.getSeconds(Granularity.MONTH, LocalDate.of(2020, 11, 30)));
+        assertEquals(0, rollups.getSeconds(Granularity.MONTH, LocalDate.of(2020, 12, 1)));
+        assertEquals(LocalDate.of(2020, 11, 2), Granularity.WEEK.getBucketStart(DAY));
+    }
+
+    @Test
+    public void getSeconds_range_sameAsSumOfDays() {
+        SessionRollups rollups = new SessionRollups();
+        LocalDate first = LocalDate.of(2019, 12, 20);
+        for (int i = 0; i < 120; i++) {
+            rollups.add(first.plusDays(i), i + 1);
+        }
+
+        LocalDate[][] ranges = {
+            {first, first.plusDays(119)},
+            {LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31)},
+            {LocalDate.of(2020, 1, 29), LocalDate.of(2020, 3, 3)},
+            {LocalDate.of(2020, 2, 10), LocalDate.of(2020, 2, 10)},
+            {LocalDate.of(2018, 1, 1), LocalDate.of(2021, 1, 1)}
+        };
+        for (LocalDate[] range : ranges) {
+            long expected = 0;
+            for (LocalDate date = range[0]; !date.isAfter(range[1]); date = date.plusDays(1)) {
+                expected += rollups.getSeconds(Granularity.DAY, date);
+            }
+            assertEquals(expected, rollups.getSeconds(range[0], range[1]));
+        }
+    }
+
+    @Test
+    public void setBucket_notBucketStart_throwsIllegalArgumentException() {
+        SessionRollups rollups = new SessionRollups();
+        assertThrows(
+                IllegalArgumentException.class, () -> rollups.setBucket(Granularity.WEEK, DAY, 1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> rollups.setBucket(Granularity.DAY, DAY, -1));
+    }
+
+    @Test
+    public void isValidBucket() {
+        assertTrue(SessionRollups.isValidBucket(Granularity.DAY, DAY, 0));
+        assertTrue(SessionRollups.isValidBucket(Granularity.WEEK, DAY.minusDays(2), 10));
+        assertTrue(SessionRollups.isValidBucket(Granularity.MONTH, DAY.withDayOfMonth(1), 10));
+        assertFalse(SessionRollups.isValidBucket(Granularity.MONTH, DAY, 10));
+        assertFalse(SessionRollups.isValidBucket(Granularity.DAY, DAY, -1));
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPomodoroSessions.ABORTED_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.COMPLETED_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.NEXT_DAY_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.getTypicalPomodoroSessions;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.statistics.PomodoroSession.Outcome;
+
+public class SessionStatisticsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2020, 11, 4);
+
+    @Test
+    public void constructor_history_totalledPerDayAndTask() {
+        SessionStatistics statistics = new SessionStatistics(getTypicalPomodoroSessions());
+        assertEquals(25 * 60 + 754, statistics.getSecondsOn(DAY));
+        assertEquals(90 * 60, statistics.getSecondsOn(DAY.plusDays(1)));
+        assertEquals(0, statistics.getSecondsOn(DAY.minusDays(1)));
+        assertEquals(115 * 60, statistics.getSecondsFor("Homework 1"));
+        assertEquals(754, statistics.getSecondsFor("Lab 2"));
+        assertEquals(0, statistics.getSecondsFor("Unknown"));
+
+        // sessions read from history are not recorded again
+        assertTrue(statistics.getRecordedSessions().isEmpty());
+    }
+
+    @Test
+    public void getSeconds_buckets_oldestFirst() {
+        SessionStatistics statistics = new SessionStatistics(getTypicalPomodoroSessions());
+        assertArrayEquals(
+                new long[] {0, 25 * 60 + 754, 90 * 60},
+                statistics.getSeconds(Granularity.DAY, DAY.plusDays(1), 3));
+        assertArrayEquals(
+                new long[] {0, 25 * 60 + 754 + 90 * 60},
+                statistics.getSeconds(Granularity.WEEK, DAY, 2));
+        assertArrayEquals(
+                new long[] {0, 0}, statistics.getSeconds(Granularity.MONTH, DAY.plusYears(1), 2));
+    }
+
+    @Test
+    public void getSeconds_range_inclusive() {
+        SessionStatistics statistics = new SessionStatistics(getTypicalPomodoroSessions());
+        assertEquals(25 * 60 + 754, statistics.getSeconds(DAY, DAY));
+        assertEquals(90 * 60, statistics.getSeconds(DAY.plusDays(1), DAY.plusYears(1)));
+        assertEquals(
+                25 * 60 + 754 + 90 * 60,
+                statistics.getSeconds(DAY.minusYears(1), DAY.plusYears(1)));
+    }
+
+    @Test
+    public void constructor_rollups_sameTotalsAndMedals() {
+        SessionStatistics original = new SessionStatistics();
+        original.record(
+                new PomodoroSession(
+                        "Homework 1",
+                        COMPLETED_SESSION.getStart(),
+                        Duration.ofMinutes(SessionStatistics.DAILY_GOAL_MINUTES),
+                        Outcome.COMPLETED));
+        original.record(NEXT_DAY_SESSION);
+
+        SessionStatistics copy = new SessionStatistics(original);
+        assertEquals(1, copy.getMedalCount());
+        assertEquals(original.getSecondsPerTask(), copy.getSecondsPerTask());
+        assertEquals(
+                original.getSeconds(DAY, DAY.plusDays(1)), copy.getSeconds(DAY, DAY.plusDays(1)));
+        assertTrue(copy.getRecordedSessions().isEmpty());
+    }
+
+    @Test
+    public void record_dailyGoalReached_oneMedalPerDay() {
+        SessionStatistics statistics = new SessionStatistics();
+        statistics.record(COMPLETED_SESSION);
+        assertEquals(0, statistics.getMedalCount());
+
+        // reaches exactly the daily goal
+        LocalDateTime later = COMPLETED_SESSION.getStart().plusHours(1);
+        statistics.record(
+                new PomodoroSession(
+                        "Homework 1",
+                        later,
+                        Duration.ofMinutes(SessionStatistics.DAILY_GOAL_MINUTES - 25),
+                        Outcome.COMPLETED));
+        assertEquals(1, statistics.getMedalCount());
+
+        // more time on the same day earns no more medals
+        statistics.record(ABORTED_SESSION);
+        assertEquals(1, statistics.getMedalCount());
+
+        statistics.record(NEXT_DAY_SESSION);
+        assertEquals(1, statistics.getMedalCount());
+    }
+
+    @Test
+    public void record_session_recordedAndObserved() {
+        SessionStatistics statistics = new SessionStatistics(Arrays.asList(COMPLETED_SESSION));
+        List<PomodoroSession> observed = new ArrayList<>();
+        statistics
+                .lastSessionProperty()
+                .addListener((observable, oldSession, newSession) -> observed.add(newSession));
+
+        statistics.record(ABORTED_SESSION);
+        statistics.record(NEXT_DAY_SESSION);
+        assertEquals(Arrays.asList(ABORTED_SESSION, NEXT_DAY_SESSION), observed);
+        assertEquals(
+                Arrays.asList(ABORTED_SESSION, NEXT_DAY_SESSION),
+                statistics.getRecordedSessions());
+        assertEquals(25 * 60 + 754, statistics.getSecondsOn(DAY));
+    }
+
+    @Test
+    public void constructor_negativeDuration_throwsIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new PomodoroSession(
+                                "Homework 1",
+                                COMPLETED_SESSION.getStart(),
+                                Duration.ofSeconds(-1),
+                                Outcome.ABORTED));
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -21,5 +23,14 @@ public class TagTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag name
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName("cs 2103")); // contains a space
+        assertFalse(Tag.isValidTagName("cs-2103")); // contains non-alphanumeric characters
+
+        // valid tag name
+        assertTrue(Tag.isValidTagName("cs2103"));
+        assertTrue(Tag.isValidTagName("CS"));
     }
 }
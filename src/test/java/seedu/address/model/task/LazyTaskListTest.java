@@ -0,0 +1,103 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
+import static seedu.address.testutil.TypicalTasks.TUTORIAL_1;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.task.exceptions.DuplicateTaskException;
+import seedu.address.testutil.CountingTaskSource;
+import seedu.address.testutil.TaskBuilder;
+
+public class LazyTaskListTest {
+
+    private final CountingTaskSource source =
+            new CountingTaskSource(Arrays.asList(HOMEWORK10, LAB_3, TUTORIAL_1));
+
+    @Test
+    public void constructor_source_nothingDecoded() {
+        LazyTaskList lazyTaskList = new LazyTaskList(source);
+        assertEquals(3, lazyTaskList.size());
+        assertEquals(0, source.getTasksDecoded());
+    }
+
+    @Test
+    public void get_elementFromSource_decodedEachTime() {
+        LazyTaskList lazyTaskList = new LazyTaskList(source);
+        assertEquals(LAB_3, lazyTaskList.get(1));
+        assertEquals(LAB_3, lazyTaskList.get(1));
+        assertEquals(2, source.getTasksDecoded());
+        assertThrows(IndexOutOfBoundsException.class, () -> lazyTaskList.get(3));
+    }
+
+    @Test
+    public void modifications_mixedElements_sameAsArrayList() {
+        LazyTaskList lazyTaskList = new LazyTaskList(source);
+        lazyTaskList.add(1, BUY_MILK);
+        lazyTaskList.set(0, OPTIONAL_LAB);
+        lazyTaskList.remove(2);
+        lazyTaskList.add(TUTORIAL_1);
+
+        assertEquals(Arrays.asList(OPTIONAL_LAB, BUY_MILK, TUTORIAL_1, TUTORIAL_1), lazyTaskList);
+        assertEquals(OPTIONAL_LAB.getName(), lazyTaskList.getName(0));
+        assertEquals(TUTORIAL_1.getPriority(), lazyTaskList.getPriority(2));
+
+        lazyTaskList.subList(1, 3).clear();
+        assertEquals(Arrays.asList(OPTIONAL_LAB, TUTORIAL_1), lazyTaskList);
+    }
+
+    @Test
+    public void add_beyondInitialCapacity_success() {
+        LazyTaskList lazyTaskList = new LazyTaskList();
+        for (int i = 0; i < 100; i++) {
+            lazyTaskList.add(i % 2 == 0 ? BUY_MILK : LAB_3);
+        }
+        assertEquals(100, lazyTaskList.size());
+        assertEquals(LAB_3, lazyTaskList.get(99));
+    }
+
+    @Test
+    public void uniqueTaskListSetTasks_lazyTaskList_nothingDecoded() {
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.setTasks(new LazyTaskList(source));
+
+        assertEquals(0, source.getTasksDecoded());
+        assertEquals(3, uniqueTaskList.asUnmodifiableObservableList().size());
+        assertEquals(true, uniqueTaskList.contains(TUTORIAL_1));
+
+        uniqueTaskList.remove(HOMEWORK10);
+        uniqueTaskList.setTask(TUTORIAL_1, BUY_MILK);
+        assertEquals(Arrays.asList(LAB_3, BUY_MILK), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void uniqueTaskListGetTasksWithReminders_lazyTaskList_onlyThoseDecoded() {
+        Task labWithReminder =
+                new TaskBuilder(LAB_3).withReminder(LocalDateTime.of(2030, 1, 1, 9, 0)).build();
+        CountingTaskSource withReminder =
+                new CountingTaskSource(Arrays.asList(HOMEWORK10, labWithReminder, TUTORIAL_1));
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        uniqueTaskList.setTasks(new LazyTaskList(withReminder));
+        uniqueTaskList.add(BUY_MILK);
+
+        assertEquals(
+                Collections.singletonList(labWithReminder),
+                uniqueTaskList.getTasksWithReminders());
+        assertEquals(1, withReminder.getTasksDecoded());
+    }
+
+    @Test
+    public void uniqueTaskListSetTasks_lazyTaskListWithDuplicates_throwsDuplicateTaskException() {
+        CountingTaskSource duplicates = new CountingTaskSource(Arrays.asList(LAB_3, LAB_3));
+        assertThrows(
+                DuplicateTaskException.class,
+                () -> new UniqueTaskList().setTasks(new LazyTaskList(duplicates)));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import seedu.address.testutil.TaskBuilder;
+
+public class NameIndexTest {
+
+    private static final Name LAB = new Name("Lab 3");
+    private static final Name BONUS_LAB = new Name("Bonus  Lab");
+    private static final Name HOMEWORK = new Name("Homework 3");
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void getNamesContainingAnyWord_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.getNamesContainingAnyWord(null));
+    }
+
+    @Test
+    public void getNamesContainingAnyWord_wholeWordsIgnoringCase_namesFound() {
+        nameIndex.add(LAB);
+        nameIndex.add(BONUS_LAB);
+        nameIndex.add(HOMEWORK);
+
+        assertEquals(Set.of(LAB, BONUS_LAB), nameIndex.getNamesContainingAnyWord(list("lAB")));
+        assertEquals(Set.of(LAB, HOMEWORK), nameIndex.getNamesContainingAnyWord(list("3")));
+        assertEquals(
+                Set.of(BONUS_LAB, HOMEWORK),
+                nameIndex.getNamesContainingAnyWord(list("bonus", " homework ")));
+
+        // Parts of words do not match
+        assertEquals(Set.of(), nameIndex.getNamesContainingAnyWord(list("La", "Labs")));
+        assertEquals(Set.of(), nameIndex.getNamesContainingAnyWord(Collections.emptyList()));
+    }
+
+    @Test
+    public void remove_nameOfSeveralTasks_keptUntilLastTaskRemoved() {
+        nameIndex.add(LAB);
+        nameIndex.add(LAB);
+
+        nameIndex.remove(LAB);
+        assertEquals(Set.of(LAB), nameIndex.getNamesContainingAnyWord(list("lab")));
+
+        nameIndex.remove(LAB);
+        assertEquals(Set.of(), nameIndex.getNamesContainingAnyWord(list("lab")));
+    }
+
+    @Test
+    public void setAll_modifyReplacement_indexUnchanged() {
+        NameIndex replacement = new NameIndex();
+        replacement.add(LAB);
+        nameIndex.add(HOMEWORK);
+
+        nameIndex.setAll(replacement);
+        replacement.remove(LAB);
+
+        assertEquals(Set.of(LAB), nameIndex.getNamesContainingAnyWord(list("3")));
+    }
+
+    @Test
+    public void uniqueTaskList_modifications_indexUpToDate() {
+        UniqueTaskList uniqueTaskList = new UniqueTaskList();
+        Task lab = new TaskBuilder().withName(LAB.fullName).build();
+        Task homework = new TaskBuilder().withName(HOMEWORK.fullName).build();
+        Task bonusLab = new TaskBuilder().withName(BONUS_LAB.fullName).build();
+
+        uniqueTaskList.add(lab);
+        uniqueTaskList.add(homework);
+        uniqueTaskList.setTask(lab, bonusLab);
+        assertEquals(Set.of(BONUS_LAB), uniqueTaskList.getNamesContainingAnyWord(list("lab")));
+
+        uniqueTaskList.remove(bonusLab);
+        assertEquals(Set.of(), uniqueTaskList.getNamesContainingAnyWord(list("lab")));
+
+        uniqueTaskList.setTasks(Arrays.asList(lab, bonusLab));
+        assertEquals(Set.of(), uniqueTaskList.getNamesContainingAnyWord(list("homework")));
+        assertEquals(
+                Set.of(LAB, BONUS_LAB), uniqueTaskList.getNamesContainingAnyWord(list("lab")));
+    }
+
+    private static List<String> list(String... keywords) {
+        return Arrays.asList(keywords);
+    }
+}
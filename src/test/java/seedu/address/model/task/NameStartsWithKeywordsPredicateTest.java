@@ -0,0 +1,91 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import seedu.address.testutil.TaskBuilder;
+
+public class NameStartsWithKeywordsPredicateTest {
+
+    private static final Task ALICE_CONSULTATION =
+            new TaskBuilder().withName("Alice  consultation").build();
+
+    @Test
+    public void equals() {
+        NameStartsWithKeywordsPredicate firstPredicate = predicate("first");
+        NameStartsWithKeywordsPredicate secondPredicate = predicate("first", "second");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(predicate("first")));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameHasWordStartingWithKeyword_returnsTrue() {
+        // Whole word
+        assertTrue(predicate("Alice").test(ALICE_CONSULTATION));
+
+        // Start of a word
+        assertTrue(predicate("consult").test(ALICE_CONSULTATION));
+
+        // Only one matching keyword
+        assertTrue(predicate("Bob", "con").test(ALICE_CONSULTATION));
+
+        // Mixed-case keywords
+        assertTrue(predicate("aLI").test(ALICE_CONSULTATION));
+    }
+
+    @Test
+    public void test_nameHasNoWordStartingWithKeyword_returnsFalse() {
+        // Zero keywords
+        assertFalse(
+                new NameStartsWithKeywordsPredicate(Collections.emptyList())
+                        .test(ALICE_CONSULTATION));
+
+        // Middle of a word
+        assertFalse(predicate("lice").test(ALICE_CONSULTATION));
+
+        // Longer than the word
+        assertFalse(predicate("Alicea").test(ALICE_CONSULTATION));
+
+        // Spans two words
+        assertFalse(predicate("Alice consultation").test(ALICE_CONSULTATION));
+    }
+
+    @Test
+    public void isRefinedBy() {
+        NameStartsWithKeywordsPredicate predicate = predicate("lab", "Tut");
+
+        // keywords extended -> returns true
+        assertTrue(predicate.isRefinedBy(predicate("labs", "tutorial")));
+
+        // keyword removed -> returns true
+        assertTrue(predicate.isRefinedBy(predicate("LAB")));
+
+        // keyword added -> returns false
+        assertFalse(predicate.isRefinedBy(predicate("lab", "tut", "quiz")));
+
+        // keyword shortened -> returns false
+        assertFalse(predicate.isRefinedBy(predicate("la")));
+    }
+
+    private static NameStartsWithKeywordsPredicate predicate(String... keywords) {
+        List<String> keywordList = Arrays.asList(keywords);
+        return new NameStartsWithKeywordsPredicate(keywordList);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -37,4 +38,12 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void isValidName_sameAsValidationRegex() {
+        String[] names = {"", " ", "a", "a ", " a", "a  b", "peter*", "\u00e9clair", "Lab 3", "_"};
+        for (String name : names) {
+            assertEquals(name.matches(Name.VALIDATION_REGEX), Name.isValidName(name), name);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_TASK2;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_TASK2;
@@ -11,7 +13,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
 import static seedu.address.testutil.TypicalTasks.TASK2;
 
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.TaskBuilder;
 
 public class PersonTest {
@@ -22,6 +26,15 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> task.getTags().remove(0));
     }
 
+    @Test
+    public void getSortedTags_tagsInNameOrder() {
+        Task task = new TaskBuilder().withTags("c", "a", "b").build();
+        assertEquals(
+                Arrays.asList(new Tag("a"), new Tag("b"), new Tag("c")), task.getSortedTags());
+        assertSame(task.getSortedTags(), task.getSortedTags());
+        assertThrows(UnsupportedOperationException.class, () -> task.getSortedTags().remove(0));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -0,0 +1,119 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+public class RecurrenceTest {
+
+    // A Wednesday
+    private static final LocalDateTime FIRST = LocalDateTime.of(2020, 11, 4, 10, 30);
+
+    @Test
+    public void of_invalidRecurrence_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.of("monthly"));
+        assertThrows(IllegalArgumentException.class, () -> Recurrence.everyDays(0));
+    }
+
+    @Test
+    public void isValidRecurrence() {
+        // null recurrence
+        assertThrows(NullPointerException.class, () -> Recurrence.isValidRecurrence(null));
+
+        // invalid recurrences
+        assertFalse(Recurrence.isValidRecurrence("")); // empty string
+        assertFalse(Recurrence.isValidRecurrence("monthly")); // unknown keyword
+        assertFalse(Recurrence.isValidRecurrence("every 0 days")); // no days between
+        assertFalse(Recurrence.isValidRecurrence("every 10000 days")); // too many days between
+        assertFalse(Recurrence.isValidRecurrence("every -1 days")); // negative days
+
+        // valid recurrences
+        assertTrue(Recurrence.isValidRecurrence("daily"));
+        assertTrue(Recurrence.isValidRecurrence("Weekly")); // any case
+        assertTrue(Recurrence.isValidRecurrence("weekdays"));
+        assertTrue(Recurrence.isValidRecurrence("every 1 day"));
+        assertTrue(Recurrence.isValidRecurrence("every 9999 days"));
+    }
+
+    @Test
+    public void of_validRecurrence_sameAsToString() {
+        assertEquals(Recurrence.DAILY, Recurrence.of("every 1 day"));
+        assertEquals(Recurrence.WEEKLY, Recurrence.of("every 7 days"));
+        for (String recurrence : Arrays.asList("daily", "weekly", "weekdays", "every 3 days")) {
+            assertEquals(recurrence, Recurrence.of(recurrence).toString());
+        }
+    }
+
+    @Test
+    public void getFirstOnOrAfter_everyNDays_keepsTimeOfDayAndSpacing() {
+        Recurrence everyThreeDays = Recurrence.everyDays(3);
+        assertEquals(FIRST, everyThreeDays.getFirstOnOrAfter(FIRST, FIRST.minusYears(1)));
+        assertEquals(FIRST, everyThreeDays.getFirstOnOrAfter(FIRST, FIRST));
+        assertEquals(
+                FIRST.plusDays(3), everyThreeDays.getFirstOnOrAfter(FIRST, FIRST.plusSeconds(1)));
+        assertEquals(FIRST.plusDays(3), everyThreeDays.getFirstAfter(FIRST, FIRST));
+
+        // years ahead, without stepping through every occurrence
+        assertEquals(
+                FIRST.plusDays(3 * 4000),
+                everyThreeDays.getFirstOnOrAfter(FIRST, FIRST.plusDays(3 * 4000 - 1)));
+    }
+
+    @Test
+    public void getFirstAfter_subSecondAfterOccurrence_nextOccurrence() {
+        Recurrence everyThreeDays = Recurrence.everyDays(3);
+        LocalDateTime justAfter = FIRST.plusDays(3).plusNanos(300_000_000);
+        assertEquals(FIRST.plusDays(6), everyThreeDays.getFirstOnOrAfter(FIRST, justAfter));
+        assertEquals(FIRST.plusDays(6), everyThreeDays.getFirstAfter(FIRST, justAfter));
+        assertEquals(
+                FIRST.plusDays(1), Recurrence.DAILY.getFirstAfter(FIRST, FIRST.plusNanos(1)));
+    }
+
+    @Test
+    public void getFirstOnOrAfter_weekdays_skipsWeekends() {
+        LocalDateTime saturday = FIRST.plusDays(3);
+        LocalDateTime monday = FIRST.plusDays(5);
+        assertEquals(monday, Recurrence.WEEKDAYS.getFirstOnOrAfter(saturday, saturday));
+        assertEquals(monday, Recurrence.WEEKDAYS.getFirstOnOrAfter(FIRST, saturday));
+        assertEquals(
+                FIRST.plusDays(2), Recurrence.WEEKDAYS.getFirstAfter(FIRST, FIRST.plusDays(1)));
+        assertEquals(monday, Recurrence.WEEKDAYS.getNext(FIRST.plusDays(2)));
+    }
+
+    @Test
+    public void getOccurrences_window_occurrencesInOrder() {
+        Iterator<LocalDateTime> occurrences =
+                Recurrence.WEEKDAYS.getOccurrences(FIRST, FIRST.plusDays(1), FIRST.plusDays(8));
+        List<LocalDateTime> expected =
+                Arrays.asList(
+                        FIRST.plusDays(1),
+                        FIRST.plusDays(2),
+                        FIRST.plusDays(5),
+                        FIRST.plusDays(6),
+                        FIRST.plusDays(7));
+        List<LocalDateTime> actual = new ArrayList<>();
+        occurrences.forEachRemaining(actual::add);
+        assertEquals(expected, actual);
+        assertThrows(NoSuchElementException.class, occurrences::next);
+    }
+
+    @Test
+    public void getOccurrences_windowYearsAway_firstOccurrenceInWindow() {
+        LocalDateTime from = FIRST.plusYears(50);
+        Iterator<LocalDateTime> occurrences =
+                Recurrence.WEEKLY.getOccurrences(FIRST, from, LocalDateTime.MAX);
+        LocalDateTime first = occurrences.next();
+        assertFalse(first.isBefore(from));
+        assertTrue(first.isBefore(from.plusDays(7)));
+        assertEquals(first.plusDays(7), occurrences.next());
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
+import static seedu.address.testutil.TypicalTasks.GYM;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import seedu.address.testutil.TaskBuilder;
+
+public class SortKeyTest {
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(SortKey.PRIORITY), SortKey.fromKeyword("priority"));
+        assertEquals(Optional.of(SortKey.REMINDER), SortKey.fromKeyword("ReMiNdEr"));
+        assertEquals(Optional.empty(), SortKey.fromKeyword("prio"));
+        assertEquals(Optional.empty(), SortKey.fromKeyword(""));
+    }
+
+    @Test
+    public void getComparator() {
+        // highest priority first
+        assertTrue(SortKey.PRIORITY.getComparator().compare(GYM, HOMEWORK10) < 0);
+
+        // names compared ignoring case
+        Task lowerCaseGym = new TaskBuilder(GYM).withName("gym").build();
+        assertEquals(0, SortKey.NAME.getComparator().compare(GYM, lowerCaseGym));
+        assertTrue(SortKey.NAME.getComparator().compare(BUY_MILK, lowerCaseGym) < 0);
+
+        // tasks not done first
+        Task doneGym = new TaskBuilder(GYM).withDone("Y").build();
+        assertTrue(SortKey.DONE.getComparator().compare(doneGym, BUY_MILK) > 0);
+
+        // tasks without reminders are tied
+        assertEquals(0, SortKey.REMINDER.getComparator().compare(GYM, BUY_MILK));
+    }
+
+    @Test
+    public void getComparator_turkishLocale_namesComparedIndependentlyOfLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            // in Turkish, "I" lower-cases to a dotless i, which sorts after "j"
+            Task ink = new TaskBuilder(GYM).withName("Ink").build();
+            Task joy = new TaskBuilder(GYM).withName("Joy").build();
+            assertTrue(SortKey.NAME.getComparator().compare(ink, joy) < 0);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void comparing() {
+        Comparator<Task> comparator =
+                SortKey.comparing(Arrays.asList(SortKey.PRIORITY, SortKey.NAME));
+        // tied on priority, broken by name
+        assertTrue(comparator.compare(BUY_MILK, LAB_3) < 0);
+        assertTrue(comparator.compare(LAB_3, BUY_MILK) > 0);
+        // not tied on priority
+        assertTrue(comparator.compare(HOMEWORK10, BUY_MILK) > 0);
+
+        // no keys -> ordered by name, then priority
+        Comparator<Task> identityComparator = SortKey.comparing(Collections.emptyList());
+        assertTrue(identityComparator.compare(GYM, LAB_3) < 0);
+        assertEquals(0, identityComparator.compare(GYM, new TaskBuilder(GYM).build()));
+        Task lowPriorityGym = new TaskBuilder(GYM).withPriority("1").build();
+        assertTrue(identityComparator.compare(lowPriorityGym, GYM) < 0);
+    }
+}
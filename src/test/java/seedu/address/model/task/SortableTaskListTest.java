@@ -0,0 +1,97 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
+import static seedu.address.testutil.TypicalTasks.GYM;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.address.testutil.CountingTaskSource;
+
+public class SortableTaskListTest {
+
+    private final ObservableList<Task> source =
+            FXCollections.observableArrayList(HOMEWORK10, LAB_3, BUY_MILK);
+    private final SortableTaskList sortableTaskList = new SortableTaskList(source);
+    private final List<Task> mirror = new ArrayList<>(sortableTaskList);
+
+    @BeforeEach
+    public void setUp() {
+        sortableTaskList.addListener(
+                (ListChangeListener<Task>) change -> applyChange(change, mirror));
+    }
+
+    @Test
+    public void get_notSorted_onlyTasksReadDecoded() {
+        CountingTaskSource taskSource =
+                new CountingTaskSource(Arrays.asList(HOMEWORK10, LAB_3, BUY_MILK));
+        SortableTaskList tasks = new SortableTaskList(new LazyTaskList(taskSource));
+        assertEquals(3, tasks.size());
+        assertEquals(0, taskSource.getTasksDecoded());
+
+        assertEquals(LAB_3, tasks.get(1));
+        assertEquals(1, taskSource.getTasksDecoded());
+    }
+
+    @Test
+    public void sourceChanged_notSorted_changesPassedOn() {
+        source.add(1, GYM);
+        source.remove(HOMEWORK10);
+        source.set(0, HOMEWORK10);
+
+        assertEquals(Arrays.asList(HOMEWORK10, LAB_3, BUY_MILK), sortableTaskList);
+        assertEquals(sortableTaskList, mirror);
+        assertEquals(2, sortableTaskList.getSourceIndex(2));
+        assertEquals(2, sortableTaskList.getViewIndex(2));
+    }
+
+    @Test
+    public void setComparator_sortedThenNotSorted_orderFollowsComparator() {
+        sortableTaskList.setComparator(SortKey.NAME.getComparator());
+        assertEquals(Arrays.asList(BUY_MILK, HOMEWORK10, LAB_3), sortableTaskList);
+        assertEquals(sortableTaskList, mirror);
+        assertEquals(2, sortableTaskList.getSourceIndex(0));
+        assertEquals(0, sortableTaskList.getViewIndex(2));
+
+        source.add(GYM);
+        source.remove(LAB_3);
+        assertEquals(Arrays.asList(BUY_MILK, GYM, HOMEWORK10), sortableTaskList);
+        assertEquals(sortableTaskList, mirror);
+
+        sortableTaskList.setComparator(SortKey.PRIORITY.getComparator());
+        assertEquals(Arrays.asList(GYM, BUY_MILK, HOMEWORK10), sortableTaskList);
+        assertEquals(sortableTaskList, mirror);
+
+        sortableTaskList.setComparator(null);
+        assertNull(sortableTaskList.getComparator());
+        assertEquals(source, sortableTaskList);
+        assertEquals(sortableTaskList, mirror);
+    }
+
+    /** Applies {@code change} to {@code list}, a copy of the list before the change. */
+    private static void applyChange(
+            ListChangeListener.Change<? extends Task> change, List<Task> list) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Task> permuted = new ArrayList<>(list);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), list.get(i));
+                }
+                list.clear();
+                list.addAll(permuted);
+            } else if (!change.wasUpdated()) {
+                list.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                list.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
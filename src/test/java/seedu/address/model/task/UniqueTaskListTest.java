@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_TASK2;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MA1521;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
 import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
 import static seedu.address.testutil.TypicalTasks.TASK2;
 
 import java.util.Arrays;
@@ -114,6 +116,16 @@ public class UniqueTaskListTest {
         assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.setTask(HOMEWORK10, TASK2));
     }
 
+    @Test
+    public void setTask_editedTaskHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniqueTaskList.add(HOMEWORK10);
+        uniqueTaskList.setTask(HOMEWORK10, TASK2);
+        assertFalse(uniqueTaskList.contains(HOMEWORK10));
+        assertTrue(uniqueTaskList.contains(TASK2));
+        uniqueTaskList.add(HOMEWORK10);
+        assertTrue(uniqueTaskList.contains(HOMEWORK10));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.remove(null));
@@ -132,6 +144,36 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void remove_existingTask_identityNoLongerContained() {
+        uniqueTaskList.add(HOMEWORK10);
+        uniqueTaskList.remove(HOMEWORK10);
+        assertFalse(uniqueTaskList.contains(HOMEWORK10));
+        uniqueTaskList.add(HOMEWORK10);
+        assertTrue(uniqueTaskList.contains(HOMEWORK10));
+    }
+
+    @Test
+    public void remove_taskBeforeOtherTasks_laterTasksStillEditableAndRemovable() {
+        uniqueTaskList.add(HOMEWORK10);
+        uniqueTaskList.add(LAB_3);
+        uniqueTaskList.add(BUY_MILK);
+        uniqueTaskList.remove(HOMEWORK10);
+        uniqueTaskList.setTask(BUY_MILK, TASK2);
+        uniqueTaskList.remove(LAB_3);
+        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
+        expectedUniqueTaskList.add(TASK2);
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+    }
+
+    @Test
+    public void remove_taskWithSameIdentityButDifferentFields_throwsTaskNotFoundException() {
+        uniqueTaskList.add(HOMEWORK10);
+        Task editedHomework =
+                new TaskBuilder(HOMEWORK10).withDescription(VALID_DESCRIPTION_TASK2).build();
+        assertThrows(TaskNotFoundException.class, () -> uniqueTaskList.remove(editedHomework));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(
@@ -169,6 +211,18 @@ public class UniqueTaskListTest {
                 DuplicateTaskException.class, () -> uniqueTaskList.setTasks(listWithDuplicateTask));
     }
 
+    @Test
+    public void setTasks_listWithDuplicateTasks_ownListUnchanged() {
+        uniqueTaskList.add(TASK2);
+        Task editedHomework =
+                new TaskBuilder(HOMEWORK10).withDescription(VALID_DESCRIPTION_TASK2).build();
+        List<Task> listWithDuplicateTask = Arrays.asList(HOMEWORK10, TASK2, editedHomework);
+        assertThrows(
+                DuplicateTaskException.class, () -> uniqueTaskList.setTasks(listWithDuplicateTask));
+        assertTrue(uniqueTaskList.contains(TASK2));
+        assertFalse(uniqueTaskList.contains(HOMEWORK10));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(
@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_HOMEWORK;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class BinaryTaskListStorageTest {
+
+    @TempDir public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(
+                Paths.get("data", "tasklist.bin"),
+                BinaryTaskListStorage.getBinaryFilePath(Paths.get("data", "tasklist.json")));
+        assertEquals(
+                Paths.get("tasklist.bin"),
+                BinaryTaskListStorage.getBinaryFilePath(Paths.get("tasklist")));
+    }
+
+    @Test
+    public void readTaskList_nullFilePath_throwsNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new BinaryTaskListStorage(testFolder.resolve("a.bin")).readTaskList(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryTaskListStorage(filePath).readTaskList().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.json");
+        new JsonTaskListStorage(filePath).saveTaskList(getTypicalTaskList());
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new BinaryTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        new BinaryTaskListStorage(filePath).saveTaskList(getTypicalTaskList());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new BinaryTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void read_invalidPriority_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        TaskList taskList = new TaskList();
+        taskList.addTask(new TaskBuilder().withName("A").withPriority("2").build());
+        new BinaryTaskListStorage(filePath).saveTaskList(taskList);
+
+        // magic number, version, tag count, task count, name length and name, then the priority
+        byte[] bytes = Files.readAllBytes(filePath);
+        int priorityOffset = 4 + 1 + 4 + 4 + 4 + 1;
+        assertEquals(2, bytes[priorityOffset]);
+        bytes[priorityOffset] = 4;
+        Files.write(filePath, bytes);
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new BinaryTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void readAndSaveTaskList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        TaskList original = getTypicalTaskList();
+        BinaryTaskListStorage binaryTaskListStorage = new BinaryTaskListStorage(filePath);
+
+        // Save in new file and read back
+        binaryTaskListStorage.saveTaskList(original, filePath);
+        assertEquals(original, new TaskList(binaryTaskListStorage.readTaskList(filePath).get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addTask(OPTIONAL_LAB);
+        original.removeTask(HOMEWORK10);
+        original.setTask(OPTIONAL_LAB, new TaskBuilder(OPTIONAL_LAB).withDone("Y").build());
+        binaryTaskListStorage.saveTaskList(original, filePath);
+        TaskList readBack = new TaskList(binaryTaskListStorage.readTaskList(filePath).get());
+        assertEquals(original, readBack);
+        assertTrue(
+                readBack.getTaskList().stream()
+                        .filter(task -> task.isSameTask(OPTIONAL_LAB))
+                        .allMatch(task -> task.getDone().isDone));
+
+        // Save and read without specifying file path
+        original.addTask(OPTIONAL_HOMEWORK);
+        binaryTaskListStorage.saveTaskList(original);
+        assertEquals(original, new TaskList(binaryTaskListStorage.readTaskList().get()));
+    }
+
+    @Test
+    public void readAndSaveTaskList_tasksWithReminders_remindersKept() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        Task pastReminder =
+                new TaskBuilder()
+                        .withName("A")
+                        .withReminder(LocalDateTime.of(2020, 11, 4, 10, 30))
+                        .build();
+        Task futureReminder =
+                new TaskBuilder()
+                        .withName("B")
+                        .withReminder(LocalDateTime.of(2099, 1, 2, 3, 4))
+                        .build();
+        Task noReminder = new TaskBuilder().withName("C").build();
+        TaskList original = new TaskList();
+        original.addTask(pastReminder);
+        original.addTask(futureReminder);
+        original.addTask(noReminder);
+
+        new BinaryTaskListStorage(filePath).saveTaskList(original);
+        List<Task> readBack =
+                new BinaryTaskListStorage(filePath).readTaskList().get().getTaskList();
+        assertEquals(original.getTaskList(), readBack);
+        assertEquals(pastReminder.getOptionalReminder(), readBack.get(0).getOptionalReminder());
+        assertEquals(futureReminder.getOptionalReminder(), readBack.get(1).getOptionalReminder());
+        assertEquals(Optional.empty(), readBack.get(2).getOptionalReminder());
+    }
+
+    @Test
+    public void readAndSaveTaskList_tasksWithRecurrences_recurrencesKept() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        LocalDateTime reminderTime = LocalDateTime.of(2020, 11, 4, 10, 30);
+        TaskList original = new TaskList();
+        original.addTask(
+                new TaskBuilder()
+                        .withName("A")
+                        .withReminder(reminderTime, Recurrence.DAILY)
+                        .build());
+        original.addTask(
+                new TaskBuilder()
+                        .withName("B")
+                        .withReminder(reminderTime, Recurrence.everyDays(300))
+                        .build());
+        original.addTask(
+                new TaskBuilder()
+                        .withName("C")
+                        .withReminder(reminderTime, Recurrence.WEEKDAYS)
+                        .build());
+        original.addTask(new TaskBuilder().withName("D").withReminder(reminderTime).build());
+
+        new BinaryTaskListStorage(filePath).saveTaskList(original);
+        List<Task> readBack =
+                new BinaryTaskListStorage(filePath).readTaskList().get().getTaskList();
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            assertEquals(
+                    original.getTaskList().get(i).getOptionalReminder(),
+                    readBack.get(i).getOptionalReminder());
+        }
+        assertEquals(Optional.of(Recurrence.everyDays(300)), readBack.get(1).getRecurrence());
+        assertEquals(Optional.empty(), readBack.get(3).getRecurrence());
+    }
+
+    @Test
+    public void read_firstVersionFile_tasksWithoutReminders() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryTaskListStorage.MAGIC_NUMBER);
+            out.writeByte(1); // version
+            out.writeInt(0); // tag count
+            out.writeInt(1); // task count
+            out.writeInt(1); // name
+            out.writeBytes("A");
+            out.writeByte(2); // priority
+            out.writeInt(1); // description
+            out.writeBytes("B");
+            out.writeByte(1); // done
+            out.writeInt(0); // tag count
+        }
+
+        List<Task> readBack =
+                new BinaryTaskListStorage(filePath).readTaskList().get().getTaskList();
+        Task expectedTask =
+                new TaskBuilder()
+                        .withName("A")
+                        .withPriority("2")
+                        .withDescription("B")
+                        .withDone("Y")
+                        .build();
+        assertEquals(Collections.singletonList(expectedTask), readBack);
+        assertTrue(readBack.get(0).getDone().isDone);
+        assertEquals(Optional.empty(), readBack.get(0).getOptionalReminder());
+    }
+
+    @Test
+    public void saveTaskList_convertedFromJson_sameTasksInSmallerFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempTaskList.json");
+        Path binaryFilePath = BinaryTaskListStorage.getBinaryFilePath(jsonFilePath);
+        new JsonTaskListStorage(jsonFilePath).saveTaskList(getTypicalTaskList());
+
+        TaskList fromJson =
+                new TaskList(new JsonTaskListStorage(jsonFilePath).readTaskList().get());
+        new BinaryTaskListStorage(binaryFilePath).saveTaskList(fromJson);
+        assertEquals(
+                getTypicalTaskList(),
+                new TaskList(new BinaryTaskListStorage(binaryFilePath).readTaskList().get()));
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath) / 2);
+    }
+}
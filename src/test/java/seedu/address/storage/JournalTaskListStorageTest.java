@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_HOMEWORK;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+
+public class JournalTaskListStorageTest {
+
+    @TempDir public Path testFolder;
+
+    @Test
+    public void readTaskList_nullFilePath_throwsNullPointerException() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new JournalTaskListStorage(testFolder.resolve("a.json")).readTaskList(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalTaskListStorage(filePath).readTaskList().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.json");
+        TaskList original = getTypicalTaskList();
+        JournalTaskListStorage storage = new JournalTaskListStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveTaskList(original);
+        assertEquals(original, new TaskList(readWithNewStorage(filePath)));
+
+        // Modify data, append to the journal, and read back
+        original.addTask(OPTIONAL_LAB);
+        original.removeTask(HOMEWORK10);
+        storage.saveTaskList(original);
+        original.setTask(OPTIONAL_LAB, OPTIONAL_HOMEWORK);
+        storage.saveTaskList(original);
+        assertEquals(original, new TaskList(readWithNewStorage(filePath)));
+
+        // The snapshot alone is still readable as plain json
+        assertEquals(
+                getTypicalTaskList(),
+                new TaskList(new JsonTaskListStorage(filePath).readTaskList().get()));
+    }
+
+    @Test
+    public void readTaskList_tornLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.json");
+        TaskList original = getTypicalTaskList();
+        JournalTaskListStorage storage = new JournalTaskListStorage(filePath);
+        storage.saveTaskList(original);
+        original.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(original);
+        TaskList expected = new TaskList(original);
+
+        Files.write(
+                JournalTaskListStorage.getJournalFilePath(filePath),
+                "1234abcd {\"op\":\"ins".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(expected, new TaskList(readWithNewStorage(filePath)));
+    }
+
+    @Test
+    public void readTaskList_corruptedRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.json");
+        TaskList original = getTypicalTaskList();
+        JournalTaskListStorage storage = new JournalTaskListStorage(filePath);
+        storage.saveTaskList(original);
+        original.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(original);
+
+        Path journalPath = JournalTaskListStorage.getJournalFilePath(filePath);
+        String journal = new String(Files.readAllBytes(journalPath), StandardCharsets.UTF_8);
+        Files.write(
+                journalPath,
+                journal.replace("Bonus Lab", "Bonus Lax").getBytes(StandardCharsets.UTF_8));
+        assertEquals(getTypicalTaskList(), new TaskList(readWithNewStorage(filePath)));
+    }
+
+    @Test
+    public void readTaskList_invalidRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.json");
+        new JournalTaskListStorage(filePath).saveTaskList(getTypicalTaskList());
+
+        String record = "{\"op\":\"remove\",\"index\":100,\"task\":null}";
+        CRC32 crc = new CRC32();
+        crc.update(record.getBytes(StandardCharsets.UTF_8));
+        Files.write(
+                JournalTaskListStorage.getJournalFilePath(filePath),
+                String.format("%08x %s\n", crc.getValue(), record)
+                        .getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () -> readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveTaskList_thresholdReached_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.json");
+        TaskList original = getTypicalTaskList();
+        JournalTaskListStorage storage = new JournalTaskListStorage(filePath, 1);
+        storage.saveTaskList(original);
+
+        original.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(original);
+        original.addTask(OPTIONAL_HOMEWORK);
+        storage.saveTaskList(original);
+
+        // The second change no longer fits in the journal, so it is folded into the snapshot
+        Path journalPath = JournalTaskListStorage.getJournalFilePath(filePath);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(
+                original, new TaskList(new JsonTaskListStorage(filePath).readTaskList().get()));
+        assertEquals(original, new TaskList(readWithNewStorage(filePath)));
+    }
+
+    private ReadOnlyTaskList readWithNewStorage(Path filePath) throws Exception {
+        return new JournalTaskListStorage(filePath).readTaskList().get();
+    }
+}
@@ -6,14 +6,18 @@ import static seedu.address.storage.JsonAdaptedTask.MISSING_FIELD_MESSAGE_FORMAT
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.LAB_3;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.task.Description;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Priority;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.Reminder;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -27,6 +31,8 @@ public class JsonAdaptedPersonTest {
     private static final String VALID_DONE = DONE;
     private static final List<JsonAdaptedTag> VALID_TAGS =
             LAB_3.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList());
+    private static final String VALID_REMINDER = "2020-11-04T10:30";
+    private static final String VALID_RECURRENCE = "every 3 days";
 
     @Test
     public void toModelType_validPersonDetails_returnsPerson() throws Exception {
@@ -38,7 +44,13 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedTask person =
                 new JsonAdaptedTask(
-                        INVALID_NAME, VALID_PRIORITY, VALID_DESCRIPTION, VALID_DONE, VALID_TAGS);
+                        INVALID_NAME,
+                        VALID_PRIORITY,
+                        VALID_DESCRIPTION,
+                        VALID_DONE,
+                        VALID_TAGS,
+                        VALID_REMINDER,
+                        VALID_RECURRENCE);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
@@ -47,7 +59,13 @@ public class JsonAdaptedPersonTest {
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedTask task =
                 new JsonAdaptedTask(
-                        null, VALID_PRIORITY, VALID_DESCRIPTION, VALID_DONE, VALID_TAGS);
+                        null,
+                        VALID_PRIORITY,
+                        VALID_DESCRIPTION,
+                        VALID_DONE,
+                        VALID_TAGS,
+                        VALID_REMINDER,
+                        VALID_RECURRENCE);
         String expectedMessage =
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, task::toModelType);
@@ -57,7 +75,13 @@ public class JsonAdaptedPersonTest {
     public void toModelType_invalidPriority_throwsIllegalValueException() {
         JsonAdaptedTask task =
                 new JsonAdaptedTask(
-                        VALID_NAME, INVALID_PRIORITY, VALID_DESCRIPTION, VALID_DONE, VALID_TAGS);
+                        VALID_NAME,
+                        INVALID_PRIORITY,
+                        VALID_DESCRIPTION,
+                        VALID_DONE,
+                        VALID_TAGS,
+                        VALID_REMINDER,
+                        VALID_RECURRENCE);
         String expectedMessage = Priority.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, task::toModelType);
     }
@@ -65,7 +89,14 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullPriority_throwsIllegalValueException() {
         JsonAdaptedTask task =
-                new JsonAdaptedTask(VALID_NAME, null, VALID_DESCRIPTION, VALID_DONE, VALID_TAGS);
+                new JsonAdaptedTask(
+                        VALID_NAME,
+                        null,
+                        VALID_DESCRIPTION,
+                        VALID_DONE,
+                        VALID_TAGS,
+                        VALID_REMINDER,
+                        VALID_RECURRENCE);
         String expectedMessage =
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, Priority.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, task::toModelType);
@@ -74,19 +105,105 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
         JsonAdaptedTask task =
-                new JsonAdaptedTask(VALID_NAME, VALID_PRIORITY, null, VALID_DONE, VALID_TAGS);
+                new JsonAdaptedTask(
+                        VALID_NAME,
+                        VALID_PRIORITY,
+                        null,
+                        VALID_DONE,
+                        VALID_TAGS,
+                        VALID_REMINDER,
+                        VALID_RECURRENCE);
         String expectedMessage =
                 String.format(MISSING_FIELD_MESSAGE_FORMAT, Description.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, task::toModelType);
     }
 
+    @Test
+    public void toModelType_pastReminder_returnsTaskWithReminder() throws Exception {
+        JsonAdaptedTask task =
+                new JsonAdaptedTask(
+                        VALID_NAME,
+                        VALID_PRIORITY,
+                        VALID_DESCRIPTION,
+                        VALID_DONE,
+                        VALID_TAGS,
+                        VALID_REMINDER,
+                        VALID_RECURRENCE);
+        Optional<Reminder> expectedReminder =
+                Optional.of(
+                        Reminder.of(
+                                LocalDateTime.of(2020, 11, 4, 10, 30),
+                                Optional.of(Recurrence.everyDays(3))));
+        assertEquals(expectedReminder, task.toModelType().getOptionalReminder());
+
+        // saved and read back
+        assertEquals(
+                expectedReminder,
+                new JsonAdaptedTask(task.toModelType()).toModelType().getOptionalReminder());
+    }
+
+    @Test
+    public void toModelType_invalidReminder_throwsIllegalValueException() {
+        JsonAdaptedTask task =
+                new JsonAdaptedTask(
+                        VALID_NAME,
+                        VALID_PRIORITY,
+                        VALID_DESCRIPTION,
+                        VALID_DONE,
+                        VALID_TAGS,
+                        "04/11/20@10:30",
+                        VALID_RECURRENCE);
+        assertThrows(
+                IllegalValueException.class,
+                JsonAdaptedTask.MESSAGE_INVALID_REMINDER,
+                task::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidRecurrence_throwsIllegalValueException() {
+        JsonAdaptedTask task =
+                new JsonAdaptedTask(
+                        VALID_NAME,
+                        VALID_PRIORITY,
+                        VALID_DESCRIPTION,
+                        VALID_DONE,
+                        VALID_TAGS,
+                        VALID_REMINDER,
+                        "every 0 days");
+        assertThrows(
+                IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, task::toModelType);
+    }
+
+    @Test
+    public void toModelType_recurrenceWithoutReminder_throwsIllegalValueException() {
+        JsonAdaptedTask task =
+                new JsonAdaptedTask(
+                        VALID_NAME,
+                        VALID_PRIORITY,
+                        VALID_DESCRIPTION,
+                        VALID_DONE,
+                        VALID_TAGS,
+                        null,
+                        VALID_RECURRENCE);
+        assertThrows(
+                IllegalValueException.class,
+                JsonAdaptedTask.MESSAGE_RECURRENCE_WITHOUT_REMINDER,
+                task::toModelType);
+    }
+
     @Test
     public void toModelType_invalidTags_throwsIllegalValueException() {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedTask task =
                 new JsonAdaptedTask(
-                        VALID_NAME, VALID_PRIORITY, VALID_DESCRIPTION, VALID_DONE, invalidTags);
+                        VALID_NAME,
+                        VALID_PRIORITY,
+                        VALID_DESCRIPTION,
+                        VALID_DONE,
+                        invalidTags,
+                        VALID_REMINDER,
+                        VALID_RECURRENCE);
         assertThrows(IllegalValueException.class, task::toModelType);
     }
 }
@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.ReadOnlyPomodoro;
+
+public class JsonPomodoroStorageTest {
+
+    @TempDir public Path testFolder;
+
+    @Test
+    public void readPomodoro_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JsonPomodoroStorage(filePath).readPomodoro().isPresent());
+    }
+
+    @Test
+    public void saveAndReadPomodoro_pausedPomodoro_sameTimeLeft() throws Exception {
+        JsonPomodoroStorage storage = new JsonPomodoroStorage(testFolder.resolve("pomodoro.json"));
+        Pomodoro original = new Pomodoro();
+        original.start(HOMEWORK10, Duration.ofMinutes(25));
+        original.pause();
+        storage.savePomodoro(original);
+
+        ReadOnlyPomodoro readBack = storage.readPomodoro().get();
+        assertEquals(HOMEWORK10, readBack.getRunningTask());
+        assertTrue(readBack.isPaused());
+        assertEquals(original.getTimeLeft(), readBack.getTimeLeft());
+        assertEquals(original.getRemainingTime(), readBack.getRemainingTime());
+    }
+
+    @Test
+    public void saveAndReadPomodoro_runningPomodoro_keepsRunning() throws Exception {
+        JsonPomodoroStorage storage = new JsonPomodoroStorage(testFolder.resolve("pomodoro.json"));
+        Pomodoro original = new Pomodoro();
+        original.start(HOMEWORK10, Duration.ofMinutes(25));
+        storage.savePomodoro(original);
+
+        ReadOnlyPomodoro readBack = storage.readPomodoro().get();
+        assertFalse(readBack.isPaused());
+        assertTrue(readBack.getRemainingTime().compareTo(Duration.ofMinutes(25)) < 0);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPomodoroSessions.ABORTED_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.COMPLETED_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.NEXT_DAY_SESSION;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.exceptions.DataConversionException;
+
+public class JsonSessionLogStorageTest {
+
+    @TempDir public Path testFolder;
+
+    @Test
+    public void getSessionLogFilePath_nextToPomodoro() {
+        assertEquals(
+                Paths.get("data", "pomodoro.sessions"),
+                JsonSessionLogStorage.getSessionLogFilePath(Paths.get("data", "pomodoro.json")));
+    }
+
+    @Test
+    public void readSessionLog_missingFile_noSessions() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.sessions");
+        assertTrue(new JsonSessionLogStorage(filePath).readSessionLog().isEmpty());
+    }
+
+    @Test
+    public void appendAndReadSessionLog_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempPomodoro.sessions");
+        JsonSessionLogStorage storage = new JsonSessionLogStorage(filePath);
+
+        storage.appendToSessionLog(COMPLETED_SESSION);
+        storage.appendToSessionLog(ABORTED_SESSION);
+        assertEquals(
+                Arrays.asList(COMPLETED_SESSION, ABORTED_SESSION),
+                new JsonSessionLogStorage(filePath).readSessionLog());
+    }
+
+    @Test
+    public void readSessionLog_fromSize_onlyLaterSessions() throws Exception {
+        Path filePath = testFolder.resolve("PartPomodoro.sessions");
+        JsonSessionLogStorage storage = new JsonSessionLogStorage(filePath);
+        assertEquals(0, storage.getSessionLogSize());
+
+        storage.appendToSessionLog(COMPLETED_SESSION);
+        long size = storage.getSessionLogSize();
+        storage.appendToSessionLog(ABORTED_SESSION);
+        storage.appendToSessionLog(NEXT_DAY_SESSION);
+        assertEquals(
+                Arrays.asList(ABORTED_SESSION, NEXT_DAY_SESSION), storage.readSessionLog(size));
+        assertTrue(storage.readSessionLog(storage.getSessionLogSize()).isEmpty());
+    }
+
+    @Test
+    public void appendToSessionLog_tornLastSession_tornSessionIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TornPomodoro.sessions");
+        JsonSessionLogStorage storage = new JsonSessionLogStorage(filePath);
+        storage.appendToSessionLog(COMPLETED_SESSION);
+        Files.write(
+                filePath,
+                "1234abcd {\"task\":\"Lab".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(Arrays.asList(COMPLETED_SESSION), storage.readSessionLog());
+
+        // the next session is not joined onto the torn one
+        storage.appendToSessionLog(NEXT_DAY_SESSION);
+        assertEquals(
+                Arrays.asList(COMPLETED_SESSION, NEXT_DAY_SESSION),
+                new JsonSessionLogStorage(filePath).readSessionLog());
+    }
+
+    @Test
+    public void readSessionLog_invalidSession_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("InvalidPomodoro.sessions");
+        String invalidSession =
+                JournalTaskListStorage.formatRecord(
+                        new JsonAdaptedPomodoroSession(
+                                "Homework 1", "not a date", 60, "COMPLETED"));
+        Files.write(filePath, invalidSession.getBytes(StandardCharsets.UTF_8));
+        assertThrows(
+                DataConversionException.class,
+                () -> new JsonSessionLogStorage(filePath).readSessionLog());
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPomodoroSessions.ABORTED_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.COMPLETED_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.NEXT_DAY_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.getTypicalPomodoroSessions;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.model.statistics.Granularity;
+import seedu.address.model.statistics.PomodoroSession;
+import seedu.address.model.statistics.ReadOnlySessionStatistics;
+import seedu.address.model.statistics.SessionStatistics;
+
+public class JsonSessionRollupStorageTest {
+
+    @TempDir public Path testFolder;
+
+    private JsonSessionLogStorage sessionLog;
+    private JsonSessionRollupStorage storage;
+
+    private void setUpStorage(String name) {
+        sessionLog = new JsonSessionLogStorage(testFolder.resolve(name + ".sessions"));
+        storage = new JsonSessionRollupStorage(testFolder.resolve(name + ".rollups"), sessionLog);
+    }
+
+    /** Asserts that {@code actual} has the same totals as statistics of {@code expected}. */
+    private void assertSameTotals(SessionStatistics expected, ReadOnlySessionStatistics actual) {
+        assertEquals(
+                expected.getRollups().getBuckets(Granularity.DAY),
+                actual.getRollups().getBuckets(Granularity.DAY));
+        assertEquals(
+                expected.getRollups().getBuckets(Granularity.WEEK),
+                actual.getRollups().getBuckets(Granularity.WEEK));
+        assertEquals(
+                expected.getRollups().getBuckets(Granularity.MONTH),
+                actual.getRollups().getBuckets(Granularity.MONTH));
+        assertEquals(expected.getSecondsPerTask(), actual.getSecondsPerTask());
+        assertEquals(expected.getMedalCount(), actual.getMedalCount());
+    }
+
+    @Test
+    public void getSessionRollupFilePath_nextToPomodoro() {
+        assertEquals(
+                Paths.get("data", "pomodoro.rollups"),
+                JsonSessionRollupStorage.getSessionRollupFilePath(
+                        Paths.get("data", "pomodoro.json")));
+    }
+
+    @Test
+    public void readSessionStatistics_noRollups_wholeLogRead() throws Exception {
+        setUpStorage("NoRollups");
+        for (PomodoroSession session : getTypicalPomodoroSessions()) {
+            sessionLog.appendToSessionLog(session);
+        }
+        assertSameTotals(
+                new SessionStatistics(getTypicalPomodoroSessions()),
+                storage.readSessionStatistics());
+    }
+
+    @Test
+    public void readSessionStatistics_sessionsAfterSave_replayed() throws Exception {
+        setUpStorage("Replayed");
+        sessionLog.appendToSessionLog(COMPLETED_SESSION);
+        storage.saveSessionRollups(new SessionStatistics(Arrays.asList(COMPLETED_SESSION)));
+        sessionLog.appendToSessionLog(ABORTED_SESSION);
+        sessionLog.appendToSessionLog(NEXT_DAY_SESSION);
+
+        assertSameTotals(
+                new SessionStatistics(getTypicalPomodoroSessions()),
+                storage.readSessionStatistics());
+    }
+
+    @Test
+    public void readSessionStatistics_logShorterThanRollups_wholeLogRead() throws Exception {
+        setUpStorage("Shorter");
+        sessionLog.appendToSessionLog(COMPLETED_SESSION);
+        sessionLog.appendToSessionLog(ABORTED_SESSION);
+        storage.saveSessionRollups(
+                new SessionStatistics(Arrays.asList(COMPLETED_SESSION, ABORTED_SESSION)));
+
+        Files.delete(sessionLog.getSessionLogFilePath());
+        sessionLog.appendToSessionLog(NEXT_DAY_SESSION);
+        assertSameTotals(
+                new SessionStatistics(Arrays.asList(NEXT_DAY_SESSION)),
+                storage.readSessionStatistics());
+    }
+
+    @Test
+    public void readSessionStatistics_invalidRollups_wholeLogRead() throws Exception {
+        setUpStorage("Invalid");
+        sessionLog.appendToSessionLog(COMPLETED_SESSION);
+        Files.write(
+                storage.getSessionRollupFilePath(),
+                "{\"sessionLogSize\":0,\"days\":{\"2020-11-04\":-5}}"
+                        .getBytes(StandardCharsets.UTF_8));
+        assertSameTotals(
+                new SessionStatistics(Arrays.asList(COMPLETED_SESSION)),
+                storage.readSessionStatistics());
+
+        Files.write(
+                storage.getSessionRollupFilePath(), "not json".getBytes(StandardCharsets.UTF_8));
+        assertSameTotals(
+                new SessionStatistics(Arrays.asList(COMPLETED_SESSION)),
+                storage.readSessionStatistics());
+    }
+}
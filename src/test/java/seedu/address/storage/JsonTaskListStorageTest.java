@@ -9,6 +9,8 @@ import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.junit.jupiter.api.Test;
@@ -57,6 +59,19 @@ public class JsonTaskListStorageTest {
                 () -> readTaskList("invalidAndValidTaskTaskList.json"));
     }
 
+    @Test
+    public void readTaskList_duplicateTasks_throwDataConversionException() {
+        assertThrows(
+                DataConversionException.class, () -> readTaskList("duplicateTaskTaskList.json"));
+    }
+
+    @Test
+    public void readTaskList_unknownFields_ignored() throws Exception {
+        assertEquals(
+                getTypicalTaskList(),
+                new TaskList(readTaskList("typicalTasksWithCommentTaskList.json").get()));
+    }
+
     @Test
     public void readAndSaveTaskList_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempTaskList.json");
@@ -82,6 +97,23 @@ public class JsonTaskListStorageTest {
         assertEquals(original, new TaskList(readBack));
     }
 
+    @Test
+    public void readTaskList_corruptedFile_backupRead() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.json");
+        TaskList original = getTypicalTaskList();
+        JsonTaskListStorage jsonTaskListStorage = new JsonTaskListStorage(filePath);
+        jsonTaskListStorage.saveTaskList(original);
+        jsonTaskListStorage.saveTaskList(new TaskList());
+
+        // Truncated file
+        Files.write(filePath, "{\"tasks\": [".getBytes(StandardCharsets.UTF_8));
+        assertEquals(original, new TaskList(jsonTaskListStorage.readTaskList().get()));
+
+        // Missing file
+        Files.delete(filePath);
+        assertEquals(original, new TaskList(jsonTaskListStorage.readTaskList().get()));
+    }
+
     @Test
     public void saveTaskList_nullTaskList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveTaskList(null, "SomeFile.json"));
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.LazyTaskList;
+import seedu.address.testutil.TaskBuilder;
+
+public class MappedTaskListStorageTest {
+
+    @TempDir public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new MappedTaskListStorage(filePath).readTaskList().isPresent());
+    }
+
+    @Test
+    public void read_invalidFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.json");
+        new JsonTaskListStorage(filePath).saveTaskList(getTypicalTaskList());
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new MappedTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void read_duplicateTasks_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        TaskList taskList = new TaskList();
+        taskList.addTask(new TaskBuilder().withName("A").build());
+        taskList.addTask(new TaskBuilder().withName("B").build());
+        new BinaryTaskListStorage(filePath).saveTaskList(taskList);
+
+        // Both names are one byte long, so the second can be renamed in place
+        byte[] bytes = Files.readAllBytes(filePath);
+        int lastB = new String(bytes, "ISO-8859-1").lastIndexOf('B');
+        bytes[lastB] = 'A';
+        Files.write(filePath, bytes);
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new MappedTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void readAndSaveTaskList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        TaskList original = getTypicalTaskList();
+        MappedTaskListStorage mappedTaskListStorage = new MappedTaskListStorage(filePath);
+
+        mappedTaskListStorage.saveTaskList(original);
+        ReadOnlyTaskList readBack = mappedTaskListStorage.readTaskList().get();
+        assertTrue(readBack.getTaskList() instanceof LazyTaskList);
+        assertEquals(original, new TaskList(readBack));
+
+        // Modify the lazily read data and save over the mapped file
+        TaskList modified = new TaskList(readBack);
+        modified.addTask(OPTIONAL_LAB);
+        modified.removeTask(HOMEWORK10);
+        mappedTaskListStorage.saveTaskList(modified);
+        assertEquals(original, new TaskList(readBack));
+        assertEquals(modified, new TaskList(mappedTaskListStorage.readTaskList().get()));
+    }
+
+    @Test
+    public void readTaskList_copiesMapped_onlyLatestCopyKept() throws Exception {
+        Path filePath = testFolder.resolve("TempTaskList.bin");
+        MappedTaskListStorage mappedTaskListStorage = new MappedTaskListStorage(filePath);
+        mappedTaskListStorage.saveTaskList(getTypicalTaskList());
+
+        mappedTaskListStorage.readTaskList();
+        mappedTaskListStorage.readTaskList();
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(
+                    1,
+                    files.filter(file -> file.getFileName().toString().endsWith(".mapped"))
+                            .count());
+        }
+    }
+}
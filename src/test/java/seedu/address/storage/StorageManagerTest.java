@@ -1,14 +1,24 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPomodoroSessions.ABORTED_SESSION;
+import static seedu.address.testutil.TypicalPomodoroSessions.COMPLETED_SESSION;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
@@ -26,9 +36,20 @@ public class StorageManagerTest {
         JsonPomodoroStorage pomodoroStorage =
                 new JsonPomodoroStorage(getTempFilePath("pomodoro.json"));
         JsonPetStorage petStorage = new JsonPetStorage(getTempFilePath("pet.json"));
+        JsonSessionLogStorage sessionLogStorage =
+                new JsonSessionLogStorage(getTempFilePath("pomodoro.sessions"));
+        JsonSessionRollupStorage sessionRollupStorage =
+                new JsonSessionRollupStorage(
+                        getTempFilePath("pomodoro.rollups"), sessionLogStorage);
 
         storageManager =
-                new StorageManager(taskListStorage, petStorage, pomodoroStorage, userPrefsStorage);
+                new StorageManager(
+                        taskListStorage,
+                        petStorage,
+                        pomodoroStorage,
+                        sessionLogStorage,
+                        sessionRollupStorage,
+                        userPrefsStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -62,8 +83,128 @@ public class StorageManagerTest {
         assertEquals(original, new TaskList(retrieved));
     }
 
+    @Test
+    public void taskListSave_writeBehind_writtenOnFlush() throws Exception {
+        JsonTaskListStorage taskListStorage = new JsonTaskListStorage(getTempFilePath("wb"));
+        JsonSessionLogStorage sessionLogStorage =
+                new JsonSessionLogStorage(getTempFilePath("pomodoro.sessions"));
+        StorageManager writeBehindStorageManager =
+                new StorageManager(
+                        taskListStorage,
+                        new JsonPetStorage(getTempFilePath("pet.json")),
+                        new JsonPomodoroStorage(getTempFilePath("pomodoro.json")),
+                        sessionLogStorage,
+                        new JsonSessionRollupStorage(
+                                getTempFilePath("pomodoro.rollups"), sessionLogStorage),
+                        new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                        60_000);
+
+        TaskList original = getTypicalTaskList();
+        writeBehindStorageManager.saveTaskList(original);
+        assertFalse(taskListStorage.readTaskList().isPresent());
+
+        writeBehindStorageManager.flush();
+        ReadOnlyTaskList retrieved = taskListStorage.readTaskList().get();
+        assertEquals(original, new TaskList(retrieved));
+    }
+
+    @Test
+    public void saveChanges_writeBehindFails_writtenAgainOnNextSave() throws Exception {
+        FailOnceTaskListStorage taskListStorage =
+                new FailOnceTaskListStorage(getTempFilePath("failOnce"));
+        JsonSessionLogStorage sessionLogStorage =
+                new JsonSessionLogStorage(getTempFilePath("pomodoro.sessions"));
+        StorageManager writeBehindStorageManager =
+                new StorageManager(
+                        taskListStorage,
+                        new JsonPetStorage(getTempFilePath("pet.json")),
+                        new JsonPomodoroStorage(getTempFilePath("pomodoro.json")),
+                        sessionLogStorage,
+                        new JsonSessionRollupStorage(
+                                getTempFilePath("pomodoro.rollups"), sessionLogStorage),
+                        new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                        60_000);
+
+        ModelManager model = new ModelManager();
+        model.addTask(HOMEWORK10);
+        writeBehindStorageManager.saveChanges(model);
+        assertThrows(IOException.class, writeBehindStorageManager::flush);
+        assertFalse(taskListStorage.readTaskList().isPresent());
+
+        // the task list is unchanged since, but was never written
+        writeBehindStorageManager.saveChanges(model);
+        writeBehindStorageManager.flush();
+        assertEquals(model.getTaskList(), new TaskList(taskListStorage.readTaskList().get()));
+    }
+
+    @Test
+    public void saveChanges_onlyModifiedDataSaved() throws Exception {
+        ModelManager model = new ModelManager();
+        storageManager.saveChanges(model);
+        assertFalse(Files.exists(getTempFilePath("ab")));
+        assertFalse(Files.exists(getTempFilePath("pet.json")));
+
+        model.addTask(HOMEWORK10);
+        storageManager.saveChanges(model);
+        assertTrue(Files.exists(getTempFilePath("ab")));
+        assertFalse(Files.exists(getTempFilePath("pet.json")));
+        assertFalse(Files.exists(getTempFilePath("pomodoro.json")));
+
+        model.incrementExp();
+        storageManager.saveChanges(model);
+        assertTrue(Files.exists(getTempFilePath("pet.json")));
+        assertFalse(Files.exists(getTempFilePath("pomodoro.json")));
+    }
+
+    @Test
+    public void saveChanges_recordedSessions_appendedOnce() throws Exception {
+        ModelManager model = new ModelManager();
+        model.addPomodoroSession(COMPLETED_SESSION);
+        storageManager.saveChanges(model);
+        storageManager.saveChanges(model);
+        assertEquals(Arrays.asList(COMPLETED_SESSION), storageManager.readSessionLog());
+
+        model.addPomodoroSession(ABORTED_SESSION);
+        storageManager.saveChanges(model);
+        assertEquals(
+                Arrays.asList(COMPLETED_SESSION, ABORTED_SESSION),
+                storageManager.readSessionLog());
+    }
+
+    @Test
+    public void saveChanges_recordedSessions_rollupsSaved() throws Exception {
+        ModelManager model = new ModelManager();
+        model.addPomodoroSession(COMPLETED_SESSION);
+        model.addPomodoroSession(ABORTED_SESSION);
+        storageManager.saveChanges(model);
+
+        assertTrue(Files.exists(getTempFilePath("pomodoro.rollups")));
+        assertEquals(
+                COMPLETED_SESSION.getDuration().getSeconds()
+                        + ABORTED_SESSION.getDuration().getSeconds(),
+                storageManager.readSessionStatistics().getSecondsOn(COMPLETED_SESSION.getDate()));
+    }
+
     @Test
     public void getTaskListFilePath() {
         assertNotNull(storageManager.getTaskListFilePath());
     }
+
+    /** A task list storage whose first save fails. */
+    private static class FailOnceTaskListStorage extends JsonTaskListStorage {
+        private boolean hasFailed;
+
+        FailOnceTaskListStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw new IOException("Disk full");
+            }
+            super.saveTaskList(taskList, filePath);
+        }
+    }
 }
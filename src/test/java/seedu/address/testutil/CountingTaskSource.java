@@ -0,0 +1,49 @@
+package seedu.address.testutil;
+
+import java.util.List;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskSource;
+
+/** A {@code TaskSource} that counts how many tasks have been decoded from it. */
+public class CountingTaskSource implements TaskSource {
+
+    private final List<Task> tasks;
+    private int tasksDecoded;
+
+    public CountingTaskSource(List<Task> tasks) {
+        this.tasks = tasks;
+    }
+
+    /** Returns the number of times a whole task has been decoded from this source. */
+    public int getTasksDecoded() {
+        return tasksDecoded;
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    @Override
+    public Task getTask(int index) {
+        tasksDecoded++;
+        return tasks.get(index);
+    }
+
+    @Override
+    public Name getName(int index) {
+        return tasks.get(index).getName();
+    }
+
+    @Override
+    public Priority getPriority(int index) {
+        return tasks.get(index).getPriority();
+    }
+
+    @Override
+    public boolean hasReminder(int index) {
+        return tasks.get(index).getOptionalReminder().isPresent();
+    }
+}
@@ -1,12 +1,16 @@
 package seedu.address.testutil;
 
+import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Description;
 import seedu.address.model.task.Done;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Priority;
+import seedu.address.model.task.Recurrence;
+import seedu.address.model.task.Reminder;
 import seedu.address.model.task.Task;
 import seedu.address.model.util.SampleDataUtil;
 
@@ -23,6 +27,7 @@ public class TaskBuilder {
     private Description description;
     private Done done;
     private Set<Tag> tags;
+    private Optional<Reminder> reminder;
 
     public TaskBuilder() {
         name = new Name(DEFAULT_NAME);
@@ -30,6 +35,7 @@ public class TaskBuilder {
         description = new Description(DEFAULT_DESCRIPTION);
         done = new Done(DEFAULT_DONE);
         tags = new HashSet<>();
+        reminder = Optional.empty();
     }
 
     /** Initializes the PersonBuilder with the data of {@code taskToCopy}. */
@@ -39,6 +45,7 @@ public class TaskBuilder {
         description = taskToCopy.getDescription();
         done = taskToCopy.getDone();
         tags = new HashSet<>(taskToCopy.getTags());
+        reminder = taskToCopy.getOptionalReminder();
     }
 
     /** Sets the {@code Name} of the {@code Person} that we are building. */
@@ -73,7 +80,22 @@ public class TaskBuilder {
         return this;
     }
 
+    /** Sets the {@code Reminder} of the {@code Task} that we are building, which may be past. */
+    public TaskBuilder withReminder(LocalDateTime reminderDateTime) {
+        this.reminder = Optional.of(Reminder.of(reminderDateTime));
+        return this;
+    }
+
+    /**
+     * Sets the {@code Reminder} of the {@code Task} that we are building to one that repeats by
+     * {@code recurrence}.
+     */
+    public TaskBuilder withReminder(LocalDateTime reminderDateTime, Recurrence recurrence) {
+        this.reminder = Optional.of(Reminder.of(reminderDateTime, Optional.of(recurrence)));
+        return this;
+    }
+
     public Task build() {
-        return new Task(name, priority, description, done, tags);
+        return new Task(name, priority, description, done, tags, reminder);
     }
 }
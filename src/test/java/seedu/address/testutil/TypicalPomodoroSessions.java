@@ -0,0 +1,37 @@
+package seedu.address.testutil;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import seedu.address.model.statistics.PomodoroSession;
+import seedu.address.model.statistics.PomodoroSession.Outcome;
+
+/** A utility class containing a list of {@code PomodoroSession} objects to be used in tests. */
+public class TypicalPomodoroSessions {
+
+    public static final PomodoroSession COMPLETED_SESSION =
+            new PomodoroSession(
+                    "Homework 1",
+                    LocalDateTime.of(2020, 11, 4, 10, 30),
+                    Duration.ofMinutes(25),
+                    Outcome.COMPLETED);
+    public static final PomodoroSession ABORTED_SESSION =
+            new PomodoroSession(
+                    "Lab 2",
+                    LocalDateTime.of(2020, 11, 4, 23, 50),
+                    Duration.ofSeconds(754),
+                    Outcome.ABORTED);
+    public static final PomodoroSession NEXT_DAY_SESSION =
+            new PomodoroSession(
+                    "Homework 1",
+                    LocalDateTime.of(2020, 11, 5, 9, 0),
+                    Duration.ofMinutes(90),
+                    Outcome.COMPLETED);
+
+    private TypicalPomodoroSessions() {} // prevents instantiation
+
+    public static List<PomodoroSession> getTypicalPomodoroSessions() {
+        return Arrays.asList(COMPLETED_SESSION, ABORTED_SESSION, NEXT_DAY_SESSION);
+    }
+}